@@ -0,0 +1,78 @@
+package com.nhnacademy.gateway.benchmark;
+
+import com.nhnacademy.gateway.common.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * 벤치마크에서 공통으로 사용하는 JWT 픽스처.
+ *
+ * <p>인증 경로의 입력(유효/만료/구조 오류/토큰 없음/서명 불일치)을 제공합니다.</p>
+ */
+public final class BenchmarkTokens {
+
+    public static final String SECRET = "benchmarkSecretKeyForJwtMustBeLongEnoughToSign";
+
+    public static final String USER_ID = "benchmark-user";
+
+    private static final Key KEY = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+    private static final Key OTHER_KEY = Keys.hmacShaKeyFor("otherBenchmarkSecretKeyMustBeLongEnoughToSign".getBytes());
+
+    private BenchmarkTokens() {
+    }
+
+    /**
+     * 벤치마크 시나리오별 토큰.
+     */
+    public enum Scenario {
+        VALID, EXPIRED, MALFORMED, MISSING, BAD_SIGNATURE;
+
+        /**
+         * 시나리오에 해당하는 토큰을 생성합니다.
+         *
+         * @return JWT 문자열, {@link #MISSING}이면 null
+         */
+        public String token() {
+            return switch (this) {
+                case VALID -> sign(KEY, System.currentTimeMillis() + 3_600_000L);
+                case EXPIRED -> sign(KEY, System.currentTimeMillis() - 60_000L);
+                case MALFORMED -> "malformed.jwt.token";
+                case MISSING -> null;
+                case BAD_SIGNATURE -> sign(OTHER_KEY, System.currentTimeMillis() + 3_600_000L);
+            };
+        }
+    }
+
+    /**
+     * 벤치마크용 시크릿과 캐시 크기로 초기화된 {@link JwtUtil}을 생성합니다.
+     *
+     * @param cacheMaximumSize 검증 토큰 캐시 크기 (0이면 사실상 캐시 미사용)
+     * @return 초기화된 JwtUtil
+     */
+    public static JwtUtil jwtUtil(long cacheMaximumSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaximumSize", cacheMaximumSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static String sign(Key key, long expirationMillis) {
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(USER_ID)
+                .claim("user_id", USER_ID)
+                .claim("role", "ROLE_USER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(expirationMillis))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,109 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.benchmark.BenchmarkTokens;
+import com.nhnacademy.gateway.benchmark.BenchmarkTokens.Scenario;
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import com.nhnacademy.gateway.common.metrics.GatewayLatencyMetrics;
+import com.nhnacademy.gateway.common.revocation.RevocationList;
+import com.nhnacademy.gateway.common.util.AccessTokenExtractor;
+import com.nhnacademy.gateway.common.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import org.springframework.web.server.session.WebSessionManager;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtAuthorizationFilter#filter} 전체 체인 벤치마크.
+ *
+ * <p>모의 exchange에 시나리오별 {@code accessToken} 쿠키를 담아 필터를 통과시키고,
+ * 다음 체인은 즉시 완료되는 것으로 대체해 인증 경로의 비용만 측정합니다.</p>
+ *
+ * <p>{@code revokedEntries}로 토큰 폐기 목록이 비어 있을 때와 가득 찼을 때의 차이(폐기 확인 비용)를 비교합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthorizationFilterBenchmark {
+
+    private static final GatewayFilterChain NOOP_CHAIN = exchange -> Mono.empty();
+
+    @Param({"VALID", "EXPIRED", "MALFORMED", "MISSING"})
+    private Scenario scenario;
+
+    /**
+     * 폐기 목록의 토큰 ID/사용자 ID 수 (0이면 빈 목록, 폐기 확인 비용 비교용)
+     */
+    @Param({"0", "100000"})
+    private int revokedEntries;
+
+    private final ServerCodecConfigurer codecConfigurer = ServerCodecConfigurer.create();
+
+    private final WebSessionManager sessionManager = new DefaultWebSessionManager();
+
+    private final LocaleContextResolver localeContextResolver = new AcceptHeaderLocaleContextResolver();
+
+    private JwtAuthorizationFilter filter;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkTokens.jwtUtil(10_000);
+        if (revokedEntries > 0) {
+            // 벤치마크 토큰과 겹치지 않는 항목으로 채워, 폐기되지 않은 토큰의 일반적인 확인 비용을 측정
+            RevocationList revocationList = new RevocationList(revokedEntries, 0.01);
+            for (int i = 0; i < revokedEntries / 2; i++) {
+                revocationList.revokeToken(UUID.randomUUID().toString());
+                revocationList.revokeUser("revoked-user-" + i);
+            }
+            jwtUtil.swapRevocationList(revocationList);
+        }
+        filter = new JwtAuthorizationFilter(jwtUtil, new AccessTokenExtractor(),
+                new GatewayLatencyMetrics(new SimpleMeterRegistry()));
+        token = scenario.token();
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/dashboards/1");
+        if (token != null) {
+            request.cookie(new HttpCookie("accessToken", token));
+        }
+        // MockServerWebExchange.from()은 요청마다 코덱을 새로 구성하므로, 공유 구성으로 exchange만 생성
+        ServerWebExchange exchange = new DefaultServerWebExchange(
+                request.build(), new MockServerHttpResponse(), sessionManager, codecConfigurer, localeContextResolver);
+
+        try {
+            blackhole.consume(filter.filter(exchange, NOOP_CHAIN).block());
+        } catch (UnauthorizedException e) {
+            blackhole.consume(e);
+        }
+    }
+}
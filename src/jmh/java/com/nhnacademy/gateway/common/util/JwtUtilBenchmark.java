@@ -0,0 +1,77 @@
+package com.nhnacademy.gateway.common.util;
+
+import com.nhnacademy.gateway.benchmark.BenchmarkTokens;
+import com.nhnacademy.gateway.benchmark.BenchmarkTokens.Scenario;
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtUtil} 검증 경로 벤치마크.
+ *
+ * <p>시나리오(유효/만료/구조 오류/토큰 없음)와 검증 토큰 캐시 사용 여부별로
+ * 처리량(ops/s)을 측정합니다. {@code -prof gc}로 연산당 할당량을 함께 확인합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    @Param({"VALID", "EXPIRED", "MALFORMED", "MISSING"})
+    private Scenario scenario;
+
+    @Param({"10000", "0"})
+    private long cacheMaximumSize;
+
+    private JwtUtil jwtUtil;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkTokens.jwtUtil(cacheMaximumSize);
+        token = scenario.token();
+    }
+
+    @Benchmark
+    public void validateToken(Blackhole blackhole) {
+        try {
+            jwtUtil.validateToken(token);
+        } catch (UnauthorizedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void getUserId(Blackhole blackhole) {
+        try {
+            blackhole.consume(jwtUtil.getUserId(token));
+        } catch (UnauthorizedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void verify(Blackhole blackhole) {
+        try {
+            blackhole.consume(jwtUtil.verify(token));
+        } catch (UnauthorizedException e) {
+            blackhole.consume(e);
+        }
+    }
+}
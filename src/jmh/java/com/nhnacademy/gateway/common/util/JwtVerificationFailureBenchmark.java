@@ -0,0 +1,111 @@
+package com.nhnacademy.gateway.common.util;
+
+import com.nhnacademy.gateway.benchmark.BenchmarkTokens;
+import com.nhnacademy.gateway.benchmark.BenchmarkTokens.Scenario;
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유효하지 않은 토큰이 몰릴 때의 {@link JwtUtil} 검증 비용 벤치마크.
+ *
+ * <p>서로 다른 유효하지 않은 토큰을 번갈아 검증하며 세 가지 방식을 비교합니다.</p>
+ * <ul>
+ *     <li>{@code parseAndThrow}: 매번 파싱하고 JWT 라이브러리 예외를 새 {@link UnauthorizedException}으로 바꿔 던지는 이전 방식</li>
+ *     <li>{@code verify}: 미리 만들어 둔 스택 트레이스 없는 예외를 던지는 {@link JwtUtil#verify(String)}</li>
+ *     <li>{@code tryVerify}: 예외 없이 결과 유형을 반환하는 {@link JwtUtil#tryVerify(String)}</li>
+ * </ul>
+ *
+ * <p>{@code rejectedCacheMaximumSize}가 0이면 실패 결과 캐시 없이 매번 파싱하는 경우(처음 보는 토큰)를 측정합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationFailureBenchmark {
+
+    private static final int DISTINCT_TOKENS = 1024;
+
+    @Param({"EXPIRED", "MALFORMED", "BAD_SIGNATURE"})
+    private Scenario scenario;
+
+    @Param({"10000", "0"})
+    private long rejectedCacheMaximumSize;
+
+    private JwtUtil jwtUtil;
+
+    private JwtParser jwtParser;
+
+    private final String[] tokens = new String[DISTINCT_TOKENS];
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", BenchmarkTokens.SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "rejectedCacheMaximumSize", rejectedCacheMaximumSize);
+        jwtUtil.init();
+
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(BenchmarkTokens.SECRET.getBytes()))
+                .build();
+
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            String token = scenario.token();
+            tokens[i] = (scenario == Scenario.MALFORMED) ? token + i : token;
+        }
+    }
+
+    @Benchmark
+    public void parseAndThrow(Blackhole blackhole) {
+        try {
+            try {
+                blackhole.consume(jwtParser.parseClaimsJws(nextToken()).getBody());
+            } catch (JwtException | IllegalArgumentException e) {
+                throw new UnauthorizedException(e.getMessage());
+            }
+        } catch (UnauthorizedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void verify(Blackhole blackhole) {
+        try {
+            blackhole.consume(jwtUtil.verify(nextToken()));
+        } catch (UnauthorizedException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public TokenVerification tryVerify() {
+        return jwtUtil.tryVerify(nextToken());
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = (next + 1) & (DISTINCT_TOKENS - 1);
+        return token;
+    }
+}
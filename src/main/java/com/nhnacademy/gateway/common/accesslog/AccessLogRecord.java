@@ -0,0 +1,58 @@
+package com.nhnacademy.gateway.common.accesslog;
+
+/**
+ * {@link AccessLogRingBuffer}의 슬롯 하나. 요청 하나의 접근 로그 항목을 담으며 슬롯은 계속 재사용됩니다.
+ *
+ * <p>요청 처리 스레드가 필드를 채운 뒤 {@link #publish}로 순번을 기록하고, 기록 스레드는 순번을 확인한 뒤에만
+ * 필드를 읽습니다. 토큰이나 쿼리 문자열처럼 민감할 수 있는 값은 담지 않습니다.</p>
+ */
+public final class AccessLogRecord {
+
+    long timestampMillis;
+
+    String routeId;
+
+    String method;
+
+    /**
+     * 쿼리 문자열을 제외한 요청 경로
+     */
+    String path;
+
+    int status;
+
+    /**
+     * 인증된 사용자 ID, 비인증 요청이면 null
+     */
+    String userId;
+
+    long totalNanos;
+
+    /**
+     * 업스트림 time-to-first-byte, 업스트림을 호출하지 않았으면 -1
+     */
+    long upstreamNanos;
+
+    /**
+     * 요청 Content-Length, 알 수 없으면 -1
+     */
+    long requestBytes;
+
+    long responseBytes;
+
+    /**
+     * 마지막으로 기록이 끝난 순번
+     */
+    private volatile long sequence = -1;
+
+    AccessLogRecord() {
+    }
+
+    void publish(long sequence) {
+        this.sequence = sequence;
+    }
+
+    boolean isPublished(long sequence) {
+        return this.sequence == sequence;
+    }
+}
@@ -0,0 +1,122 @@
+package com.nhnacademy.gateway.common.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 접근 로그 레코드를 담는 고정 크기 링 버퍼.
+ *
+ * <p>슬롯({@link AccessLogRecord})은 생성 시 모두 만들어 두고 재사용하므로, 요청 처리 스레드(Netty 이벤트 루프)는
+ * 레코드를 기록할 때 객체를 할당하지 않습니다. 여러 스레드가 {@link #offer}로 동시에 기록하고, 하나의 기록 스레드가
+ * {@link #drain}으로 순서대로 꺼냅니다.</p>
+ *
+ * <p>버퍼가 가득 차면 기다리지 않고 레코드를 버리며, 버린 건수는 {@link #dropped()}로 확인할 수 있습니다.</p>
+ */
+public final class AccessLogRingBuffer {
+
+    private final AccessLogRecord[] slots;
+
+    private final int mask;
+
+    /**
+     * 다음에 기록할 순번
+     */
+    private final AtomicLong claimed = new AtomicLong();
+
+    /**
+     * 다음에 꺼낼 순번 (기록 스레드만 갱신)
+     */
+    private volatile long consumed;
+
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity 슬롯 수 (2의 거듭제곱으로 올림)
+     */
+    public AccessLogRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AccessLogRecord[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new AccessLogRecord();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 레코드를 기록합니다. 버퍼가 가득 차 있으면 기다리지 않고 버립니다.
+     *
+     * @return 기록했으면 true, 버렸으면 false
+     */
+    public boolean offer(long timestampMillis, String routeId, String method, String path, int status,
+                         String userId, long totalNanos, long upstreamNanos, long requestBytes, long responseBytes) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        AccessLogRecord slot = slots[(int) (sequence & mask)];
+        slot.timestampMillis = timestampMillis;
+        slot.routeId = routeId;
+        slot.method = method;
+        slot.path = path;
+        slot.status = status;
+        slot.userId = userId;
+        slot.totalNanos = totalNanos;
+        slot.upstreamNanos = upstreamNanos;
+        slot.requestBytes = requestBytes;
+        slot.responseBytes = responseBytes;
+        slot.publish(sequence);
+        return true;
+    }
+
+    /**
+     * 기록이 끝난 레코드를 순서대로 최대 {@code maxRecords}개 꺼냅니다. 기록 스레드 하나에서만 호출해야 합니다.
+     *
+     * <p>{@code handler}에 전달한 슬롯은 호출이 끝나면 재사용되므로 참조를 보관하면 안 됩니다.</p>
+     *
+     * @return 꺼낸 레코드 수
+     */
+    public int drain(Consumer<AccessLogRecord> handler, int maxRecords) {
+        long next = consumed;
+        int count = 0;
+        try {
+            while (count < maxRecords) {
+                AccessLogRecord slot = slots[(int) (next & mask)];
+                if (!slot.isPublished(next)) {
+                    break;
+                }
+                handler.accept(slot);
+                next++;
+                count++;
+            }
+        } finally {
+            consumed = next;
+        }
+        return count;
+    }
+
+    /**
+     * 버퍼가 가득 차 버린 레코드 수
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * 슬롯 수
+     */
+    public int capacity() {
+        return slots.length;
+    }
+}
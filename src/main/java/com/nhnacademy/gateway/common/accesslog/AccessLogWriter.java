@@ -0,0 +1,200 @@
+package com.nhnacademy.gateway.common.accesslog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link AccessLogRingBuffer}의 레코드를 모아 접근 로그 파일에 한 줄씩(JSON Lines) 쓰는 기록 스레드.
+ *
+ * <p>레코드를 최대 {@code batchSize}개씩 꺼내 한 번의 쓰기로 파일에 추가하고, 버퍼가 비어 있으면
+ * {@code flushInterval}만큼 쉰 뒤 다시 확인합니다. 요청 처리 스레드는 이 스레드를 깨우거나 기다리지 않습니다.</p>
+ *
+ * <p>다른 라이프사이클(웹 서버 포함)보다 먼저 시작하고 나중에 멈추며, 멈출 때 남은 레코드를 모두 기록합니다.</p>
+ */
+@Slf4j
+public class AccessLogWriter implements SmartLifecycle {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ISO_INSTANT;
+
+    private final AccessLogRingBuffer ringBuffer;
+
+    private final Path path;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final StringBuilder lines = new StringBuilder(8192);
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    private FileChannel channel;
+
+    public AccessLogWriter(AccessLogRingBuffer ringBuffer, Path path, int batchSize, Duration flushInterval) {
+        this.ringBuffer = ringBuffer;
+        this.path = path;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException("접근 로그 파일을 열 수 없습니다: " + path, e);
+        }
+
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("access-log-writer")
+                .daemon()
+                .start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(Duration.ofSeconds(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("접근 로그 파일을 닫지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    private void run() {
+        while (true) {
+            int drained = ringBuffer.drain(this::append, batchSize);
+            if (drained > 0) {
+                write();
+            } else if (!running) {
+                return;
+            } else {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    private void write() {
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        lines.setLength(0);
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            log.warn("접근 로그를 기록하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    private void append(AccessLogRecord record) {
+        StringBuilder line = lines;
+        line.append("{\"ts\":\"");
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(record.timestampMillis), line);
+        line.append("\",\"route\":");
+        appendString(line, record.routeId);
+        line.append(",\"method\":");
+        appendString(line, record.method);
+        line.append(",\"path\":");
+        appendString(line, record.path);
+        line.append(",\"status\":").append(record.status);
+        line.append(",\"user\":");
+        appendString(line, record.userId);
+        line.append(",\"totalMs\":");
+        appendMillis(line, record.totalNanos);
+        line.append(",\"upstreamMs\":");
+        if (record.upstreamNanos < 0) {
+            line.append("null");
+        } else {
+            appendMillis(line, record.upstreamNanos);
+        }
+        line.append(",\"requestBytes\":");
+        if (record.requestBytes < 0) {
+            line.append("null");
+        } else {
+            line.append(record.requestBytes);
+        }
+        line.append(",\"responseBytes\":").append(record.responseBytes);
+        line.append("}\n");
+    }
+
+    /**
+     * 나노초를 소수점 셋째 자리까지의 밀리초로 씁니다.
+     */
+    private static void appendMillis(StringBuilder line, long nanos) {
+        long micros = nanos / 1_000;
+        line.append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            line.append('0');
+        }
+        if (fraction < 10) {
+            line.append('0');
+        }
+        line.append(fraction);
+    }
+
+    private static void appendString(StringBuilder line, String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,82 @@
+package com.nhnacademy.gateway.common.cache;
+
+import org.springframework.http.HttpHeaders;
+
+import java.nio.file.Path;
+
+/**
+ * 디스크에 저장된 업스트림 응답.
+ *
+ * <p>본문은 {@link #file()}에 있고, 헤더와 검증자(ETag, Last-Modified)는 메모리 인덱스에 있습니다.
+ * 사용 가능 시간이 지나면 업스트림에 조건부 요청으로 확인한 뒤 {@link #refresh(long)}로 연장합니다.</p>
+ */
+public final class CachedFile {
+
+    private final Path file;
+
+    private final long length;
+
+    private final HttpHeaders headers;
+
+    private volatile long expiresNanos;
+
+    /**
+     * @param file     응답 본문 파일
+     * @param length   응답 본문 크기
+     * @param headers  클라이언트에 다시 전달할 응답 헤더 (읽기 전용)
+     * @param ttlNanos 업스트림 확인 없이 사용할 시간(나노초)
+     */
+    public CachedFile(Path file, long length, HttpHeaders headers, long ttlNanos) {
+        this.file = file;
+        this.length = length;
+        this.headers = headers;
+        this.expiresNanos = System.nanoTime() + ttlNanos;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    /**
+     * 응답의 ETag, 없으면 null
+     */
+    public String etag() {
+        return headers.getETag();
+    }
+
+    /**
+     * 응답의 Last-Modified (epoch 밀리초), 없으면 -1
+     */
+    public long lastModified() {
+        return headers.getLastModified();
+    }
+
+    /**
+     * 업스트림 확인 없이 사용할 수 있는지 확인합니다.
+     */
+    public boolean fresh() {
+        return System.nanoTime() - expiresNanos < 0;
+    }
+
+    /**
+     * 업스트림에 조건부 요청으로 확인할 검증자가 있는지 확인합니다.
+     */
+    public boolean revalidatable() {
+        return etag() != null || lastModified() >= 0;
+    }
+
+    /**
+     * 업스트림이 응답이 바뀌지 않았다고 확인해 사용 가능 시간을 연장합니다.
+     */
+    public void refresh(long ttlNanos) {
+        this.expiresNanos = System.nanoTime() + ttlNanos;
+    }
+}
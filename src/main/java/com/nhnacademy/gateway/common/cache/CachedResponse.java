@@ -0,0 +1,42 @@
+package com.nhnacademy.gateway.common.cache;
+
+import org.springframework.http.HttpHeaders;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 캐시된 업스트림 응답.
+ *
+ * @param headers     클라이언트에 다시 전달할 응답 헤더 (읽기 전용)
+ * @param body        응답 본문 (읽기 전용, 사용할 때 {@link ByteBuffer#duplicate()})
+ * @param etag        응답의 ETag (업스트림이 주지 않은 경우 본문 해시로 계산)
+ * @param storedNanos 캐시에 저장한 시각 ({@link System#nanoTime()})
+ * @param ttlNanos    보관 시간(나노초)
+ * @param varyHeaders 응답의 {@code Vary}에 나열된 요청 헤더와 저장 당시 요청의 값 (읽기 전용, {@code Vary}가 없으면 비어 있음)
+ */
+public record CachedResponse(HttpHeaders headers, ByteBuffer body, String etag, long storedNanos, long ttlNanos,
+                             HttpHeaders varyHeaders) {
+
+    /**
+     * 요청의 {@code Vary} 대상 헤더 값이 저장 당시 요청과 같은지 확인합니다. (같을 때만 이 응답을 재사용)
+     */
+    public boolean matches(HttpHeaders requestHeaders) {
+        for (Map.Entry<String, List<String>> entry : varyHeaders.entrySet()) {
+            List<String> values = requestHeaders.get(entry.getKey());
+            if (!Objects.equals(entry.getValue(), (values == null) ? List.of() : values)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 저장 후 경과한 시간(초)을 반환합니다. ({@code Age} 헤더 값)
+     */
+    public long ageSeconds() {
+        return (System.nanoTime() - storedNanos) / 1_000_000_000L;
+    }
+}
@@ -0,0 +1,189 @@
+package com.nhnacademy.gateway.common.cache;
+
+import com.nhnacademy.gateway.common.config.ContentCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답 본문을 로컬 디스크 파일로 보관하는 콘텐츠 캐시 저장소.
+ *
+ * <p>요청 경로(쿼리 포함)에서 {@link CachedFile}로 가는 인덱스는 메모리에만 두고, 본문은
+ * {@code gateway.content-cache.directory} 아래 파일 하나씩에 저장합니다. 전체 본문 크기가
+ * {@code maximum-size}를 넘으면 가장 오래 사용하지 않은(LRU) 항목부터 인덱스에서 빼고 파일을 지웁니다.
+ * 파일 삭제는 이벤트 루프를 막지 않도록 별도 스레드에서 처리합니다.</p>
+ *
+ * <p>현재 보관 중인 바이트 수와 항목 수는 {@value #SIZE_METRIC}, {@value #ENTRIES_METRIC} 지표로 노출됩니다.</p>
+ */
+@Slf4j
+@Component
+public class DiskContentStore implements MeterBinder {
+
+    static final String SIZE_METRIC = "gateway.content-cache.size";
+
+    static final String ENTRIES_METRIC = "gateway.content-cache.entries";
+
+    private static final String FILE_SUFFIX = ".body";
+
+    private final ContentCacheProperties properties;
+
+    private final Path directory;
+
+    private final long maximumBytes;
+
+    /**
+     * 접근 순서로 정렬된 인덱스 (가장 오래 사용하지 않은 항목이 맨 앞)
+     */
+    private final LinkedHashMap<String, CachedFile> index = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong fileSequence = new AtomicLong();
+
+    private long totalBytes;
+
+    public DiskContentStore(ContentCacheProperties properties) {
+        this.properties = properties;
+        this.directory = Path.of(properties.directory());
+        this.maximumBytes = properties.maximumSize().toBytes();
+    }
+
+    /**
+     * 캐시 대상 라우트가 있으면 저장 디렉터리를 만들고, 이전 실행에서 남은 파일을 지웁니다.
+     */
+    @PostConstruct
+    public void init() {
+        if (properties.routes().isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+                for (Path leftover : leftovers) {
+                    Files.deleteIfExists(leftover);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("콘텐츠 캐시 디렉터리를 준비하지 못했습니다: {} ({})", directory, e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(SIZE_METRIC, this, DiskContentStore::totalBytes)
+                .description("콘텐츠 캐시가 디스크에 보관 중인 응답 본문 크기")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(ENTRIES_METRIC, this, DiskContentStore::size)
+                .description("콘텐츠 캐시가 보관 중인 응답 수")
+                .register(registry);
+    }
+
+    /**
+     * 캐시된 응답을 조회하고, 가장 최근에 사용한 항목으로 표시합니다.
+     *
+     * @param key 요청 경로 (쿼리 포함)
+     * @return 캐시된 응답, 없으면 null (사용 가능 시간이 지난 항목도 반환)
+     */
+    public synchronized CachedFile get(String key) {
+        return index.get(key);
+    }
+
+    /**
+     * 새 응답 본문을 쓸 파일 경로를 반환합니다. 파일은 {@link #put(String, CachedFile)} 전까지 인덱스에 없습니다.
+     */
+    public Path newFile() {
+        return directory.resolve(fileSequence.incrementAndGet() + FILE_SUFFIX);
+    }
+
+    /**
+     * 응답을 인덱스에 추가하고, 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 삭제합니다.
+     *
+     * @param key    요청 경로 (쿼리 포함)
+     * @param cached 본문을 모두 쓴 응답
+     */
+    public void put(String key, CachedFile cached) {
+        List<Path> removed = new ArrayList<>();
+        synchronized (this) {
+            CachedFile previous = index.put(key, cached);
+            totalBytes += cached.length();
+            if (previous != null) {
+                totalBytes -= previous.length();
+                removed.add(previous.file());
+            }
+
+            Iterator<Map.Entry<String, CachedFile>> eldest = index.entrySet().iterator();
+            while (totalBytes > maximumBytes && eldest.hasNext()) {
+                CachedFile evicted = eldest.next().getValue();
+                eldest.remove();
+                totalBytes -= evicted.length();
+                removed.add(evicted.file());
+            }
+        }
+        delete(removed);
+    }
+
+    /**
+     * 항목이 그대로 있으면 인덱스에서 빼고 파일을 지웁니다.
+     *
+     * @param key      요청 경로 (쿼리 포함)
+     * @param expected 지울 항목 (그 사이 새 응답으로 바뀌었으면 지우지 않음)
+     */
+    public void remove(String key, CachedFile expected) {
+        synchronized (this) {
+            if (!index.remove(key, expected)) {
+                return;
+            }
+            totalBytes -= expected.length();
+        }
+        delete(List.of(expected.file()));
+    }
+
+    /**
+     * 인덱스에 추가하지 않은 파일을 지웁니다. (쓰기 도중 실패하거나 취소된 응답)
+     */
+    public void discard(Path file) {
+        delete(List.of(file));
+    }
+
+    public ContentCacheProperties properties() {
+        return properties;
+    }
+
+    synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    synchronized int size() {
+        return index.size();
+    }
+
+    private static void delete(List<Path> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+        // 이미 파일을 연 응답은 삭제와 관계없이 끝까지 전송됨
+        Schedulers.boundedElastic().schedule(() -> {
+            for (Path file : files) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("콘텐츠 캐시 파일을 지우지 못했습니다: {} ({})", file, e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package com.nhnacademy.gateway.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nhnacademy.gateway.common.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 게이트웨이 응답 캐시 저장소.
+ *
+ * <p>요청 경로(쿼리 포함)를 키로 {@link CachedResponse}를 보관합니다. 전체 크기는 응답 본문 바이트 수 기준
+ * ({@code gateway.response-cache.maximum-size})으로 제한되며, 항목마다 응답의 {@code max-age}로 계산한
+ * 보관 시간이 지나면 만료됩니다.</p>
+ *
+ * <p>hit/miss/eviction 지표는 {@code cache.*{cache=gateway-response}} 이름으로 actuator에 노출됩니다.</p>
+ */
+@Component
+public class ResponseCache implements MeterBinder {
+
+    /**
+     * actuator에 노출되는 캐시 이름
+     */
+    static final String CACHE_NAME = "gateway-response";
+
+    /**
+     * 본문 외에 항목마다 차지하는 것으로 보는 크기 (헤더, 키 등)
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final ResponseCacheProperties properties;
+
+    private final Cache<String, CachedResponse> cache;
+
+    public ResponseCache(ResponseCacheProperties properties) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumSize().toBytes())
+                .weigher((String key, CachedResponse value) ->
+                        key.length() + value.body().capacity() + ENTRY_OVERHEAD_BYTES)
+                .expireAfter(new ResponseExpiry())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 응답을 조회합니다.
+     *
+     * @param key 요청 경로 (쿼리 포함)
+     * @return 캐시된 응답, 없거나 만료되었으면 null
+     */
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 응답을 캐시에 저장합니다. 본문은 설정에 따라 힙 또는 direct buffer에 복사됩니다.
+     *
+     * @param key      요청 경로 (쿼리 포함)
+     * @param response 저장할 응답 (본문은 저장 후 변경되지 않아야 함)
+     */
+    public void put(String key, CachedResponse response) {
+        cache.put(key, response);
+    }
+
+    /**
+     * 응답 본문을 저장용 읽기 전용 버퍼로 만듭니다.
+     *
+     * @param bytes  본문 바이트 배열
+     * @param length 유효한 길이
+     * @return 읽기 전용 본문 버퍼
+     */
+    public ByteBuffer allocateBody(byte[] bytes, int length) {
+        ByteBuffer body = properties.offHeap() ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+        body.put(bytes, 0, length).flip();
+        return body.asReadOnlyBuffer();
+    }
+
+    /**
+     * 설정값을 반환합니다.
+     */
+    public ResponseCacheProperties properties() {
+        return properties;
+    }
+
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 항목을 응답별 보관 시간({@link CachedResponse#ttlNanos()})에 만료시키는 {@link Expiry}.
+     */
+    private static final class ResponseExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.nhnacademy.gateway.common.client;
+
+import com.nhnacademy.gateway.common.config.BackendPoolProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우트(백엔드 서비스)별로 분리된 연결 풀을 사용하는 HTTP 클라이언트 모음.
+ *
+ * <p>게이트웨이는 기본적으로 모든 라우트가 하나의 연결 풀을 공유하므로, 응답이 느린 서비스가 연결을 모두 차지하면
+ * 다른 서비스로 가는 요청까지 연결을 기다리게 됩니다. {@code gateway.backend-pool.routes}에 설정한 라우트는
+ * 자신만의 풀을 사용해 이런 간섭을 막습니다.</p>
+ *
+ * <p>각 클라이언트는 게이트웨이의 공용 클라이언트와 같은 설정(타임아웃, SSL, 프록시, {@link HttpClientCustomizer})으로
+ * 만들고 연결 풀만 바꿉니다. 풀 이름은 {@code backend-<라우트 ID>}이며, 풀 사용량과 연결 대기 시간은
+ * {@code reactor.netty.connection.provider.*} 지표로 {@code name} 태그와 함께 노출됩니다.</p>
+ */
+@Slf4j
+public class BackendHttpClients implements DisposableBean {
+
+    /**
+     * 연결 풀 이름 접두사 ({@code name} 지표 태그)
+     */
+    public static final String POOL_NAME_PREFIX = "backend-";
+
+    private final Map<String, HttpClient> clientsByRouteId = new HashMap<>();
+
+    private final List<ConnectionProvider> providers = new ArrayList<>();
+
+    public BackendHttpClients(BackendPoolProperties poolProperties, HttpClientProperties httpClientProperties,
+                              ServerProperties serverProperties, HttpClientSslConfigurer sslConfigurer,
+                              List<HttpClientCustomizer> customizers) {
+        poolProperties.routes().forEach((routeId, pool) -> {
+            ConnectionProvider provider = connectionProvider(routeId, pool);
+            providers.add(provider);
+
+            HttpClient client = new BackendHttpClientFactory(httpClientProperties, serverProperties, sslConfigurer,
+                    customizers, provider).create()
+                    .keepAlive(pool.keepAlive());
+            if (pool.h2c()) {
+                client = client.protocol(HttpProtocol.H2C);
+            }
+            clientsByRouteId.put(routeId, client);
+
+            log.info("{} 라우트 전용 연결 풀을 생성했습니다. (최대 연결 {}개, 대기 {}개)",
+                    routeId, pool.maxConnections(), pool.pendingAcquireMaxCount());
+        });
+    }
+
+    /**
+     * 라우트 전용 HTTP 클라이언트를 반환합니다.
+     *
+     * @param routeId 라우트 ID
+     * @return 전용 클라이언트, 설정되지 않은 라우트이면 {@code null} (공용 클라이언트 사용)
+     */
+    public HttpClient forRoute(String routeId) {
+        return clientsByRouteId.get(routeId);
+    }
+
+    static ConnectionProvider connectionProvider(String routeId, BackendPoolProperties.Pool pool) {
+        return ConnectionProvider.builder(POOL_NAME_PREFIX + routeId)
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .evictInBackground(pool.evictionInterval())
+                .metrics(true)
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        providers.forEach(ConnectionProvider::dispose);
+    }
+
+    /**
+     * 게이트웨이 공용 클라이언트와 같은 방식으로 클라이언트를 만들되, 지정한 연결 풀을 사용하는 팩토리.
+     */
+    private static final class BackendHttpClientFactory extends HttpClientFactory {
+
+        private final ConnectionProvider provider;
+
+        private BackendHttpClientFactory(HttpClientProperties properties, ServerProperties serverProperties,
+                                         HttpClientSslConfigurer sslConfigurer, List<HttpClientCustomizer> customizers,
+                                         ConnectionProvider provider) {
+            super(properties, serverProperties, sslConfigurer, customizers);
+            this.provider = provider;
+        }
+
+        @Override
+        protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+            return provider;
+        }
+
+        private HttpClient create() {
+            return createInstance();
+        }
+    }
+}
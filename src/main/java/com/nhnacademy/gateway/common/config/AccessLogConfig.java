@@ -0,0 +1,44 @@
+package com.nhnacademy.gateway.common.config;
+
+import com.nhnacademy.gateway.common.accesslog.AccessLogRingBuffer;
+import com.nhnacademy.gateway.common.accesslog.AccessLogWriter;
+import com.nhnacademy.gateway.common.filter.AccessLogFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 접근 로그를 설정하는 Config 영역입니다.
+ *
+ * <p>요청마다 {@link AccessLogFilter}가 링 버퍼에 레코드를 남기고, {@link AccessLogWriter}가 별도 스레드에서
+ * 모아 파일에 기록합니다. 버퍼가 가득 차 버린 레코드 수는 {@value #DROPPED_METRIC} 지표로 노출합니다.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
+@ConditionalOnProperty(value = "gateway.access-log.enabled", havingValue = "true")
+public class AccessLogConfig {
+
+    static final String DROPPED_METRIC = "gateway.access-log.dropped";
+
+    @Bean
+    AccessLogRingBuffer accessLogRingBuffer(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(properties.bufferSize());
+        FunctionCounter.builder(DROPPED_METRIC, ringBuffer, AccessLogRingBuffer::dropped)
+                .description("링 버퍼가 가득 차 기록하지 못한 접근 로그 수")
+                .register(meterRegistry);
+        return ringBuffer;
+    }
+
+    @Bean
+    AccessLogWriter accessLogWriter(AccessLogRingBuffer ringBuffer, AccessLogProperties properties) {
+        return new AccessLogWriter(ringBuffer, properties.path(), properties.batchSize(), properties.flushInterval());
+    }
+
+    @Bean
+    AccessLogFilter accessLogFilter(AccessLogRingBuffer ringBuffer) {
+        return new AccessLogFilter(ringBuffer);
+    }
+}
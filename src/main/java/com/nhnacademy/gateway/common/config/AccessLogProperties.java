@@ -0,0 +1,26 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 접근 로그 설정.
+ *
+ * @param enabled       접근 로그 기록 여부
+ * @param path          접근 로그 파일 경로
+ * @param bufferSize    기록을 기다리는 레코드를 담는 링 버퍼 크기 (가득 차면 새 레코드는 버림)
+ * @param batchSize     한 번의 파일 쓰기로 기록하는 최대 레코드 수
+ * @param flushInterval 버퍼가 비어 있을 때 다음 확인까지 기다리는 시간
+ */
+@ConfigurationProperties(prefix = "gateway.access-log")
+public record AccessLogProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("logs/access.log") Path path,
+        @DefaultValue("8192") int bufferSize,
+        @DefaultValue("512") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval
+) {
+}
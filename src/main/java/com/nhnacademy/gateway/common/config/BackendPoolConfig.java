@@ -0,0 +1,73 @@
+package com.nhnacademy.gateway.common.config;
+
+import com.nhnacademy.gateway.common.client.BackendHttpClients;
+import com.nhnacademy.gateway.common.filter.BackendRoutingFilter;
+import com.nhnacademy.gateway.common.hedge.HedgeBudget;
+import com.nhnacademy.gateway.common.hedge.RequestHedger;
+import com.nhnacademy.gateway.common.loadbalancer.InstanceLatencyStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+
+/**
+ * 라우트(백엔드 서비스)별 연결 풀을 설정하는 Config 영역입니다.
+ *
+ * <p>기본 라우팅 필터 대신 {@link BackendRoutingFilter}를 등록해, {@code gateway.backend-pool.routes}에 설정한
+ * 라우트는 전용 연결 풀로, 나머지 라우트는 게이트웨이 공용 연결 풀로 요청을 보냅니다.
+ * {@code gateway.hedging.routes}에 설정한 라우트의 GET 요청은 {@link RequestHedger}로 hedging합니다.</p>
+ */
+@Configuration
+@EnableConfigurationProperties({BackendPoolProperties.class, HedgingProperties.class})
+public class BackendPoolConfig {
+
+    @Bean
+    BackendHttpClients backendHttpClients(BackendPoolProperties poolProperties,
+                                          HttpClientProperties httpClientProperties,
+                                          ServerProperties serverProperties,
+                                          HttpClientSslConfigurer sslConfigurer,
+                                          ObjectProvider<HttpClientCustomizer> customizers) {
+        return new BackendHttpClients(poolProperties, httpClientProperties, serverProperties, sslConfigurer,
+                customizers.orderedStream().toList());
+    }
+
+    @Bean
+    RequestHedger requestHedger(HedgingProperties hedgingProperties,
+                                LoadBalancerClientFactory loadBalancerClientFactory,
+                                InstanceLatencyStats latencyStats,
+                                MeterRegistry meterRegistry) {
+        HedgeBudget budget = new HedgeBudget(hedgingProperties.budgetRatio(), hedgingProperties.budgetBurst());
+        return new RequestHedger(budget, loadBalancerClientFactory, latencyStats, meterRegistry);
+    }
+
+    @Bean
+    BackendRoutingFilter backendRoutingFilter(HttpClient httpClient,
+                                              ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+                                              HttpClientProperties httpClientProperties,
+                                              BackendHttpClients backendHttpClients,
+                                              RequestHedger requestHedger) {
+        return new BackendRoutingFilter(httpClient, headersFilters, httpClientProperties, backendHttpClients,
+                requestHedger);
+    }
+
+    /**
+     * 업스트림 응답을 클라이언트로 쓰는 필터.
+     * 게이트웨이는 이 필터를 기본 라우팅 필터와 함께 등록/해제하므로, 기본 라우팅 필터를 끈 대신 직접 등록합니다.
+     */
+    @Bean
+    NettyWriteResponseFilter nettyWriteResponseFilter(GatewayProperties gatewayProperties) {
+        return new NettyWriteResponseFilter(gatewayProperties.getStreamingMediaTypes());
+    }
+}
@@ -0,0 +1,51 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 라우트(백엔드 서비스)별 HTTP 연결 풀 설정.
+ *
+ * <pre>
+ * gateway.backend-pool.routes[CORRELATION-ANALYSIS-SERVICE].max-connections=50
+ * gateway.backend-pool.routes[CORRELATION-ANALYSIS-SERVICE].pending-acquire-timeout=2s
+ * </pre>
+ *
+ * <p>설정하지 않은 라우트는 {@code spring.cloud.gateway.httpclient.pool.*}로 설정한 공용 풀을 사용합니다.</p>
+ *
+ * @param routes 라우트 ID별 연결 풀 설정
+ */
+@ConfigurationProperties(prefix = "gateway.backend-pool")
+public record BackendPoolProperties(Map<String, Pool> routes) {
+
+    public BackendPoolProperties {
+        routes = (routes == null) ? Map.of() : Map.copyOf(routes);
+    }
+
+    /**
+     * 백엔드 하나의 연결 풀 설정.
+     *
+     * @param maxConnections         최대 연결 수
+     * @param pendingAcquireMaxCount 연결을 기다릴 수 있는 최대 요청 수 (초과하면 즉시 실패)
+     * @param pendingAcquireTimeout  연결을 기다리는 최대 시간
+     * @param maxIdleTime            유휴 연결을 닫기까지의 시간
+     * @param maxLifeTime            연결의 최대 수명 (재시작/배포된 인스턴스로 연결이 옮겨가도록)
+     * @param evictionInterval       유휴/수명 초과 연결을 정리하는 주기 (0이면 연결을 꺼낼 때만 확인)
+     * @param keepAlive              HTTP keep-alive 사용 여부
+     * @param h2c                    평문 HTTP/2(prior knowledge)로 연결해 요청을 다중화할지 여부
+     */
+    public record Pool(
+            @DefaultValue("100") int maxConnections,
+            @DefaultValue("200") int pendingAcquireMaxCount,
+            @DefaultValue("5s") Duration pendingAcquireTimeout,
+            @DefaultValue("30s") Duration maxIdleTime,
+            @DefaultValue("10m") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictionInterval,
+            @DefaultValue("true") boolean keepAlive,
+            @DefaultValue("false") boolean h2c
+    ) {
+    }
+}
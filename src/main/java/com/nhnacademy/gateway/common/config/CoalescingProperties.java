@@ -0,0 +1,43 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동일 GET 요청 병합(request coalescing) 설정.
+ *
+ * <pre>
+ * gateway.coalescing.routes[SENSOR-SERVICE].paths=/api/sensors/**
+ * </pre>
+ *
+ * <p>{@code paths}를 생략하면 라우트의 모든 GET 요청을 병합 대상으로 합니다.</p>
+ *
+ * @param maxSharedBodySize 대기 중인 요청과 공유할 수 있는 응답 본문의 최대 크기 (초과 시 각자 업스트림 호출)
+ * @param routes            라우트 ID별 병합 대상
+ */
+@ConfigurationProperties(prefix = "gateway.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("256KB") DataSize maxSharedBodySize,
+        Map<String, CoalescedRoute> routes
+) {
+
+    public CoalescingProperties {
+        routes = (routes == null) ? Map.of() : Map.copyOf(routes);
+    }
+
+    /**
+     * 병합 대상 라우트.
+     *
+     * @param paths 병합할 경로 패턴 목록 (비어 있으면 라우트 전체)
+     */
+    public record CoalescedRoute(List<String> paths) {
+
+        public CoalescedRoute {
+            paths = (paths == null) ? List.of() : List.copyOf(paths);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게이트웨이 응답 압축 설정.
+ *
+ * <pre>
+ * gateway.compression.routes[USER-SERVICE].excluded-paths=/api/images/**
+ * </pre>
+ *
+ * @param minResponseSize 압축할 최소 응답 크기 ({@code Content-Length}가 이보다 작으면 압축하지 않음)
+ * @param level           gzip 압축 수준 (1: 가장 빠름 ~ 9: 가장 작음)
+ * @param deflaterPoolSize 재사용을 위해 보관하는 압축기({@link java.util.zip.Deflater}) 최대 개수
+ * @param mimeTypes       압축할 응답 Content-Type 목록
+ * @param routes          라우트 ID별 압축 대상
+ */
+@ConfigurationProperties(prefix = "gateway.compression")
+public record CompressionProperties(
+        @DefaultValue("2KB") DataSize minResponseSize,
+        @DefaultValue("6") int level,
+        @DefaultValue("32") int deflaterPoolSize,
+        @DefaultValue({"application/json", "application/problem+json", "application/xml", "application/javascript",
+                "text/html", "text/plain", "text/css", "text/xml", "text/csv"}) List<String> mimeTypes,
+        Map<String, CompressedRoute> routes
+) {
+
+    public CompressionProperties {
+        mimeTypes = List.copyOf(mimeTypes);
+        routes = (routes == null) ? Map.of() : Map.copyOf(routes);
+    }
+
+    /**
+     * 압축 대상 라우트.
+     *
+     * @param excludedPaths 압축하지 않을 경로 패턴 목록
+     */
+    public record CompressedRoute(List<String> excludedPaths) {
+
+        public CompressedRoute {
+            excludedPaths = (excludedPaths == null) ? List.of() : List.copyOf(excludedPaths);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 라우트별 적응형 동시 요청 한도 설정.
+ *
+ * <pre>
+ * gateway.concurrency-limit.routes[CORRELATION-ANALYSIS-SERVICE].max-limit=100
+ * </pre>
+ *
+ * <p>라우트의 동시 요청 한도는 {@code initial-limit}에서 시작해 응답 시간에 따라 {@code min-limit}와
+ * {@code max-limit} 사이에서 조정됩니다.</p>
+ *
+ * @param initialLimit 기동 직후의 동시 요청 한도
+ * @param minLimit     동시 요청 한도 하한
+ * @param maxLimit     동시 요청 한도 상한
+ * @param smoothing    응답 하나로 한도를 새 값 쪽으로 옮기는 비율 (0~1, 클수록 빠르게 반응)
+ * @param rttTolerance 평소 응답 시간의 몇 배까지를 혼잡이 아닌 것으로 볼지 (1 이상)
+ * @param longWindow   평소 응답 시간(지수 이동 평균)에 반영하는 응답 수
+ * @param routes       라우트 ID별 적용 대상
+ */
+@ConfigurationProperties(prefix = "gateway.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("1.5") double rttTolerance,
+        @DefaultValue("600") int longWindow,
+        Map<String, LimitedRoute> routes
+) {
+
+    public ConcurrencyLimitProperties {
+        routes = (routes == null) ? Map.of() : Map.copyOf(routes);
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("gateway.concurrency-limit.smoothing은 0보다 크고 1 이하여야 합니다: " + smoothing);
+        }
+        if (rttTolerance < 1) {
+            throw new IllegalArgumentException("gateway.concurrency-limit.rtt-tolerance는 1 이상이어야 합니다: " + rttTolerance);
+        }
+    }
+
+    /**
+     * 라우트의 기동 직후 동시 요청 한도를 반환합니다.
+     */
+    public int initialLimit(LimitedRoute route) {
+        return (route.initialLimit() != null) ? route.initialLimit() : initialLimit;
+    }
+
+    /**
+     * 라우트의 동시 요청 한도 상한을 반환합니다.
+     */
+    public int maxLimit(LimitedRoute route) {
+        return (route.maxLimit() != null) ? route.maxLimit() : maxLimit;
+    }
+
+    /**
+     * 동시 요청 한도를 적용할 라우트.
+     *
+     * @param initialLimit 기동 직후의 동시 요청 한도 (없으면 전역 설정)
+     * @param maxLimit     동시 요청 한도 상한 (없으면 전역 설정)
+     */
+    public record LimitedRoute(Integer initialLimit, Integer maxLimit) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지처럼 잘 바뀌지 않는 바이너리 응답을 로컬 디스크에 보관하는 콘텐츠 캐시 설정.
+ *
+ * <pre>
+ * gateway.content-cache.routes[USER-SERVICE].paths=/api/images/**
+ * </pre>
+ *
+ * <p>{@code paths}를 생략하면 라우트의 모든 GET 요청을 캐시합니다. 인덱스는 메모리에만 있으므로 기동 시
+ * {@code directory}에 남아 있는 파일은 지웁니다.</p>
+ *
+ * @param directory    응답 본문 파일을 저장할 디렉터리
+ * @param maximumSize  디스크에 보관하는 응답 본문의 최대 크기 (넘으면 가장 오래 사용하지 않은 응답부터 삭제)
+ * @param maxEntrySize 응답 하나의 최대 크기 ({@code Content-Length}가 없거나 이보다 큰 응답은 캐시하지 않음)
+ * @param defaultTtl   {@code Cache-Control: max-age}가 없는 응답을 업스트림 확인 없이 사용하는 시간
+ * @param maxTtl       {@code max-age}가 더 길거나 {@code immutable}인 응답에 적용하는 최대 시간
+ * @param routes       라우트 ID별 캐시 대상
+ */
+@ConfigurationProperties(prefix = "gateway.content-cache")
+public record ContentCacheProperties(
+        @DefaultValue("data/content-cache") String directory,
+        @DefaultValue("256MB") DataSize maximumSize,
+        @DefaultValue("5MB") DataSize maxEntrySize,
+        @DefaultValue("10m") Duration defaultTtl,
+        @DefaultValue("1d") Duration maxTtl,
+        Map<String, CachedRoute> routes
+) {
+
+    public ContentCacheProperties {
+        routes = (routes == null) ? Map.of() : Map.copyOf(routes);
+    }
+
+    /**
+     * 캐시 대상 라우트.
+     *
+     * @param paths 캐시할 경로 패턴 목록 (비어 있으면 라우트 전체)
+     */
+    public record CachedRoute(List<String> paths) {
+
+        public CachedRoute {
+            paths = (paths == null) ? List.of() : List.copyOf(paths);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET 요청 hedging 설정.
+ *
+ * <pre>
+ * gateway.hedging.routes[DASHBOARD-SERVICE].paths=/api/dashboards/**
+ * </pre>
+ *
+ * <p>{@code paths}를 생략하면 라우트의 모든 GET 요청을 hedging 대상으로 합니다.</p>
+ *
+ * @param percentile   두 번째 요청을 보내기까지 기다리는 시간으로 사용할 라우트 응답 시간 백분위 (0~1)
+ * @param initialDelay 응답 시간 표본이 충분히 모이기 전에 사용하는 대기 시간
+ * @param minDelay     대기 시간 하한
+ * @param maxDelay     대기 시간 상한
+ * @param budgetRatio  hedging 대상 요청 하나당 적립되는 두 번째 요청 수 (0.1이면 최대 10%까지 추가 요청)
+ * @param budgetBurst  적립해 둘 수 있는 두 번째 요청의 최대 수
+ * @param routes       라우트 ID별 hedging 대상
+ */
+@ConfigurationProperties(prefix = "gateway.hedging")
+public record HedgingProperties(
+        @DefaultValue("0.95") double percentile,
+        @DefaultValue("200ms") Duration initialDelay,
+        @DefaultValue("10ms") Duration minDelay,
+        @DefaultValue("1s") Duration maxDelay,
+        @DefaultValue("0.1") double budgetRatio,
+        @DefaultValue("20") int budgetBurst,
+        Map<String, HedgedRoute> routes
+) {
+
+    public HedgingProperties {
+        routes = (routes == null) ? Map.of() : Map.copyOf(routes);
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("gateway.hedging.percentile은 0과 1 사이여야 합니다: " + percentile);
+        }
+    }
+
+    /**
+     * hedging 대상 라우트.
+     *
+     * @param paths hedging할 경로 패턴 목록 (비어 있으면 라우트 전체)
+     */
+    public record HedgedRoute(List<String> paths) {
+
+        public HedgedRoute {
+            paths = (paths == null) ? List.of() : List.copyOf(paths);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.nhnacademy.gateway.common.config;
+
+import com.nhnacademy.gateway.common.util.JwtUtil;
+import com.nhnacademy.gateway.common.util.SigningKeySetRefresher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code kid}별 JWT 검증 키를 설정하는 Config 영역입니다.
+ *
+ * <p>{@code jwt.keyset.location}이 설정된 경우에만 JWK Set 문서를 읽어 {@link JwtUtil}에 적용하고,
+ * 설정하지 않으면 {@code jwt.secret} 하나로 모든 토큰을 검증합니다.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(JwtKeySetProperties.class)
+@ConditionalOnProperty("jwt.keyset.location")
+public class JwtKeySetConfig {
+
+    @Bean
+    SigningKeySetRefresher signingKeySetRefresher(JwtUtil jwtUtil, JwtKeySetProperties properties,
+                                                  MeterRegistry meterRegistry) {
+        return new SigningKeySetRefresher(jwtUtil, properties.location(), properties.refreshInterval(), meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code kid}별 JWT 검증 키(JWK Set) 설정.
+ *
+ * @param location        JWK Set 문서 위치 ({@code http(s)://} JWKS URL 또는 로컬 파일 경로)
+ * @param refreshInterval 문서를 다시 읽는 간격
+ */
+@ConfigurationProperties(prefix = "jwt.keyset")
+public record JwtKeySetProperties(
+        String location,
+        @DefaultValue("30s") Duration refreshInterval
+) {
+}
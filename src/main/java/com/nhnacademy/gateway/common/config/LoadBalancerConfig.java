@@ -0,0 +1,15 @@
+package com.nhnacademy.gateway.common.config;
+
+import com.nhnacademy.gateway.common.loadbalancer.LatencyAwareLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code lb://} 라우트의 인스턴스 선택 방식을 설정하는 Config 영역입니다.
+ *
+ * <p>모든 서비스에 {@link LatencyAwareLoadBalancerConfiguration}을 기본 설정으로 적용합니다.</p>
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,49 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 라우트별 요청 한도 설정.
+ *
+ * <pre>
+ * gateway.rate-limit.routes[DASHBOARD-SERVICE].replenish-rate=20
+ * gateway.rate-limit.routes[DASHBOARD-SERVICE].burst-capacity=40
+ * </pre>
+ *
+ * <p>라우트 ID는 대문자를 유지하도록 대괄호로 감쌉니다. 설정이 없는 라우트에는 요청 한도를 적용하지 않습니다.</p>
+ *
+ * @param maxKeysPerRoute 라우트마다 보관하는 사용자/IP 버킷의 최대 개수 (초과 시 오래 사용하지 않은 버킷부터 제거)
+ * @param idleTimeout     마지막 요청 후 버킷을 제거하기까지의 시간
+ * @param routes          라우트 ID별 요청 한도
+ */
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("100000") long maxKeysPerRoute,
+        @DefaultValue("10m") Duration idleTimeout,
+        Map<String, Limit> routes
+) {
+
+    public RateLimitProperties {
+        routes = (routes == null) ? Map.of() : Map.copyOf(routes);
+    }
+
+    /**
+     * 토큰 버킷 한도.
+     *
+     * @param replenishRate 초당 충전되는 요청 수
+     * @param burstCapacity 한 번에 허용하는 최대 요청 수 (버킷 크기)
+     */
+    public record Limit(int replenishRate, int burstCapacity) {
+
+        public Limit {
+            if (replenishRate <= 0 || burstCapacity <= 0) {
+                throw new IllegalArgumentException(
+                        "replenish-rate와 burst-capacity는 1 이상이어야 합니다: " + replenishRate + ", " + burstCapacity);
+            }
+        }
+    }
+}
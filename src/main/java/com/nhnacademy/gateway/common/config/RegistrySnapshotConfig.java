@@ -0,0 +1,28 @@
+package com.nhnacademy.gateway.common.config;
+
+import com.nhnacademy.gateway.common.discovery.RegistrySnapshotDiscoveryClient;
+import com.nhnacademy.gateway.common.discovery.RegistrySnapshotStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서비스 레지스트리 스냅샷을 설정하는 Config 영역입니다.
+ *
+ * <p>마지막으로 알려진 인스턴스 목록을 파일로 남겨 두고, 기동 직후 Eureka에서 레지스트리를 받기 전에도
+ * {@code lb://} 라우트를 처리할 수 있도록 {@link RegistrySnapshotDiscoveryClient}를 등록합니다.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(RegistrySnapshotProperties.class)
+@ConditionalOnProperty(value = "gateway.registry-snapshot.enabled", havingValue = "true")
+public class RegistrySnapshotConfig {
+
+    @Bean
+    RegistrySnapshotDiscoveryClient registrySnapshotDiscoveryClient(DiscoveryClient discoveryClient,
+                                                                    RegistrySnapshotProperties properties) {
+        return new RegistrySnapshotDiscoveryClient(
+                discoveryClient, new RegistrySnapshotStore(properties.path()), properties.maxAge());
+    }
+}
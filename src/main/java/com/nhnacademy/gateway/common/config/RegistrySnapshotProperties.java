@@ -0,0 +1,22 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 서비스 레지스트리 스냅샷 설정.
+ *
+ * @param enabled 스냅샷 저장/사용 여부
+ * @param path    스냅샷 파일 경로
+ * @param maxAge  기동 시 사용할 수 있는 스냅샷의 최대 나이 (더 오래된 스냅샷은 무시)
+ */
+@ConfigurationProperties(prefix = "gateway.registry-snapshot")
+public record RegistrySnapshotProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/registry-snapshot.json") Path path,
+        @DefaultValue("24h") Duration maxAge
+) {
+}
@@ -0,0 +1,53 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게이트웨이 응답 캐시 설정.
+ *
+ * <pre>
+ * gateway.response-cache.routes[USER-SERVICE].paths=/api/roles/**,/api/departments
+ * </pre>
+ *
+ * <p>설정한 라우트 중 인증이 필요 없는 라우트에만 적용되며, {@code paths}를 생략하면 라우트의 모든 GET 요청을 캐시합니다.</p>
+ *
+ * @param maximumSize  전체 캐시가 보관하는 응답 본문의 최대 크기
+ * @param maxEntrySize 응답 하나의 최대 크기 (초과하는 응답은 캐시하지 않음)
+ * @param defaultTtl   {@code Cache-Control: public}이고 {@code max-age}가 없는 응답의 보관 시간
+ *                     ({@code Cache-Control}이 없는 응답은 캐시하지 않음)
+ * @param maxTtl       {@code max-age}가 더 길어도 적용하는 최대 보관 시간
+ * @param offHeap      응답 본문을 힙 밖(direct buffer)에 보관할지 여부
+ * @param routes       라우트 ID별 캐시 대상
+ */
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("32MB") DataSize maximumSize,
+        @DefaultValue("512KB") DataSize maxEntrySize,
+        @DefaultValue("60s") Duration defaultTtl,
+        @DefaultValue("10m") Duration maxTtl,
+        @DefaultValue("false") boolean offHeap,
+        Map<String, CachedRoute> routes
+) {
+
+    public ResponseCacheProperties {
+        routes = (routes == null) ? Map.of() : Map.copyOf(routes);
+    }
+
+    /**
+     * 캐시 대상 라우트.
+     *
+     * @param paths 캐시할 경로 패턴 목록 (비어 있으면 라우트 전체)
+     */
+    public record CachedRoute(List<String> paths) {
+
+        public CachedRoute {
+            paths = (paths == null) ? List.of() : List.copyOf(paths);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.nhnacademy.gateway.common.config;
+
+import com.nhnacademy.gateway.common.revocation.RevocationAdminHandler;
+import com.nhnacademy.gateway.common.revocation.TokenRevocationService;
+import com.nhnacademy.gateway.common.util.AccessTokenExtractor;
+import com.nhnacademy.gateway.common.util.JwtUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * 토큰 폐기 목록을 설정하는 Config 영역입니다.
+ *
+ * <p>로그아웃하거나 비활성화된 사용자의 토큰이 만료 전까지 계속 통과하지 않도록, 폐기 목록 파일을
+ * {@link JwtUtil}의 검증 경로에 연결하고 관리 API({@value #ADMIN_PATH})를 등록합니다.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(RevocationProperties.class)
+@ConditionalOnProperty(value = "gateway.revocation.enabled", havingValue = "true")
+public class RevocationConfig {
+
+    static final String ADMIN_PATH = "/gateway/admin/revocations";
+
+    @Bean
+    TokenRevocationService tokenRevocationService(JwtUtil jwtUtil, RevocationProperties properties) {
+        return new TokenRevocationService(jwtUtil, properties.path(), properties.refreshInterval(),
+                properties.expectedInsertions(), properties.falsePositiveRate());
+    }
+
+    @Bean
+    RouterFunction<ServerResponse> revocationAdminRoutes(TokenRevocationService revocationService, JwtUtil jwtUtil,
+                                                         AccessTokenExtractor accessTokenExtractor,
+                                                         RevocationProperties properties) {
+        RevocationAdminHandler handler = new RevocationAdminHandler(
+                revocationService, jwtUtil, accessTokenExtractor, properties.adminRole());
+        return RouterFunctions.route()
+                .POST(ADMIN_PATH, handler::revoke)
+                .GET(ADMIN_PATH, handler::summary)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 토큰 폐기 목록 설정.
+ *
+ * @param enabled            폐기 목록 사용 여부
+ * @param path               폐기 목록 파일 경로
+ * @param refreshInterval    파일 변경을 확인하는 간격
+ * @param expectedInsertions 블룸 필터의 예상 항목 수
+ * @param falsePositiveRate  블룸 필터의 목표 오탐률 (오탐이면 정확한 집합을 한 번 더 조회)
+ * @param adminRole          관리 API를 호출할 수 있는 권한
+ */
+@ConfigurationProperties(prefix = "gateway.revocation")
+public record RevocationProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/revoked-tokens.txt") Path path,
+        @DefaultValue("10s") Duration refreshInterval,
+        @DefaultValue("100000") int expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("ROLE_ADMIN") String adminRole
+) {
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 외부 라우트 테이블 파일 설정.
+ *
+ * @param location        라우트 테이블 파일 경로 (없으면 {@link RouterConfig}에 선언된 라우트 테이블 사용)
+ * @param refreshInterval 파일을 다시 읽는 간격
+ */
+@ConfigurationProperties(prefix = "gateway.route.table")
+public record RouteTableProperties(
+        String location,
+        @DefaultValue("10s") Duration refreshInterval
+) {
+}
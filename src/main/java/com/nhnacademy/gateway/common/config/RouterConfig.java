@@ -1,144 +1,303 @@
 package com.nhnacademy.gateway.common.config;
 
+import com.nhnacademy.gateway.common.cache.DiskContentStore;
+import com.nhnacademy.gateway.common.cache.ResponseCache;
+import com.nhnacademy.gateway.common.filter.ConcurrencyLimitFilter;
+import com.nhnacademy.gateway.common.filter.ContentCacheFilter;
+import com.nhnacademy.gateway.common.filter.HedgingFilter;
 import com.nhnacademy.gateway.common.filter.JwtAuthorizationFilter;
+import com.nhnacademy.gateway.common.filter.PrecomputedStripPrefixFilter;
+import com.nhnacademy.gateway.common.filter.RequestCoalescingFilter;
+import com.nhnacademy.gateway.common.filter.ResponseCacheFilter;
+import com.nhnacademy.gateway.common.filter.ResponseCompressionFilter;
+import com.nhnacademy.gateway.common.filter.RoleAuthorizationFilter;
+import com.nhnacademy.gateway.common.filter.StreamingBodyFilter;
+import com.nhnacademy.gateway.common.filter.UserRateLimitFilter;
+import com.nhnacademy.gateway.common.hedge.HedgeDelayEstimator;
+import com.nhnacademy.gateway.common.limit.GradientConcurrencyLimit;
+import com.nhnacademy.gateway.common.route.PathRouteTrie;
+import com.nhnacademy.gateway.common.route.ReloadableRouteLocator;
+import com.nhnacademy.gateway.common.route.RoleBitmask;
+import com.nhnacademy.gateway.common.route.RouteEntry;
+import com.nhnacademy.gateway.common.util.DeflaterPool;
+import com.nhnacademy.gateway.common.util.LocalRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.builder.BooleanSpec;
 import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
+import org.springframework.cloud.gateway.route.builder.PredicateSpec;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.nhnacademy.gateway.common.route.RouteEntry.authenticatedRoute;
+import static com.nhnacademy.gateway.common.route.RouteEntry.publicRoute;
+import static com.nhnacademy.gateway.common.route.RouteEntry.roleRoute;
+
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties({RateLimitProperties.class, ResponseCacheProperties.class, CoalescingProperties.class,
+        CompressionProperties.class, HedgingProperties.class, StreamingProperties.class, ContentCacheProperties.class,
+        ConcurrencyLimitProperties.class, RouteTableProperties.class})
 public class RouterConfig {
 
+    /**
+     * 관리자 API에 필요한 권한 ({@code role} 클레임)
+     */
+    static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    /**
+     * 기본 라우트 테이블. 선언 순서대로 매칭되며, 먼저 선언된 라우트가 우선합니다.
+     * <p>{@code gateway.route.table.location}을 설정하면 파일에 선언된 라우트 테이블이 대신 사용됩니다.</p>
+     */
+    static final List<RouteEntry> ROUTES = List.of(
+            publicRoute("AUTH-SERVICE", "lb://AUTH-SERVICE",
+                    "/api/auth/**"),
+            publicRoute("SENSOR-SERVICE", "lb://SENSOR-SERVICE",
+                    "/api/sensor-data-mappings/**"),
+            publicRoute("USER-SERVICE", "lb://USER-SERVICE",
+                    "/api/roles/**",
+                    "/api/event-levels/**",
+                    "/api/departments",
+                    "/api/departments/**",
+                    "/api/images/**",
+                    "/api/main/**"),
+            roleRoute("AI-ANALYSIS-RESULT-SERVICE", "lb://AI-ANALYSIS-RESULT-SERVICE", List.of(ADMIN_ROLE),
+                    "/api/admin/analysis-results/**"),
+            authenticatedRoute("AI-ANALYSIS-RESULT-SERVICE", "lb://AI-ANALYSIS-RESULT-SERVICE",
+                    "/api/analysis-results/**"),
+            roleRoute("USER-SERVICE", "lb://USER-SERVICE", List.of(ADMIN_ROLE),
+                    "/api/admin/users/**"),
+            authenticatedRoute("USER-SERVICE", "lb://USER-SERVICE",
+                    "/api/users/**"),
+            authenticatedRoute("EVENT-SERVICE", "lb://EVENT-SERVICE",
+                    "/api/events/**",
+                    "/api/notifications/**"),
+            authenticatedRoute("SERVER-RESOURCE-SERVICE", "lb://SERVER-RESOURCE-SERVICE",
+                    "/api/profile-image/**"),
+            authenticatedRoute("GATEWAY-SERVICE", "lb://GATEWAY-SERVICE",
+                    "/api/gateways/**",
+                    "/department-id/**"),
+            authenticatedRoute("SENSOR-SERVICE", "lb://SENSOR-SERVICE",
+                    "/api/sensors/**",
+                    "/api/threshold-histories/**",
+                    "/api/sensor-data-mappings/**",
+                    "/api/data-types/**"),
+            authenticatedRoute("DASHBOARD-SERVICE", "lb://DASHBOARD-SERVICE",
+                    "/api/dashboards/**",
+                    "/api/panels/**",
+                    "/api/folders/**",
+                    "/api/test/**"),
+            authenticatedRoute("CORRELATION-ANALYSIS-SERVICE", "lb://CORRELATION-ANALYSIS-SERVICE",
+                    "/api/correlation-analyze/**")
+    );
+
     /**
      * JWT 인증 필터
      */
     private final JwtAuthorizationFilter jwtAuthorizationFilter;
 
+    /**
+     * 라우트별 요청 한도 설정
+     */
+    private final RateLimitProperties rateLimitProperties;
+
+    /**
+     * 응답 캐시 설정 및 저장소
+     */
+    private final ResponseCacheProperties responseCacheProperties;
+
+    private final ResponseCache responseCache;
+
+    /**
+     * 디스크 콘텐츠 캐시 설정 및 저장소
+     */
+    private final ContentCacheProperties contentCacheProperties;
+
+    private final DiskContentStore diskContentStore;
+
+    /**
+     * 동일 GET 요청 병합 설정
+     */
+    private final CoalescingProperties coalescingProperties;
+
+    /**
+     * 응답 압축 설정
+     */
+    private final CompressionProperties compressionProperties;
+
+    private final DeflaterPool deflaterPool;
+
+    /**
+     * 적응형 동시 요청 한도 설정
+     */
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+
+    /**
+     * GET 요청 hedging 설정
+     */
+    private final HedgingProperties hedgingProperties;
+
+    /**
+     * 스트리밍 경로 설정
+     */
+    private final StreamingProperties streamingProperties;
+
+    /**
+     * 외부 라우트 테이블 파일 설정
+     */
+    private final RouteTableProperties routeTableProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 라우트 ID별 요청 한도/병합/동시 요청 한도/hedging 필터.
+     * <p>같은 ID의 라우트(인증/비인증)가 하나의 상태를 공유하며, 라우트 테이블을 다시 읽어도 유지됩니다.</p>
+     */
+    private final Map<String, UserRateLimitFilter> rateLimitFilters = new ConcurrentHashMap<>();
+
+    private final Map<String, RequestCoalescingFilter> coalescingFilters = new ConcurrentHashMap<>();
+
+    private final Map<String, ConcurrencyLimitFilter> concurrencyLimitFilters = new ConcurrentHashMap<>();
+
+    private final Map<String, HedgingFilter> hedgingFilters = new ConcurrentHashMap<>();
+
+    /**
+     * 트라이 라우팅 사용 여부.
+     * <p>true이면 모든 경로 패턴을 하나의 트라이로 컴파일해 요청당 한 번의 순회로 라우트를 결정합니다.</p>
+     */
+    @Value("${gateway.route.trie-enabled:false}")
+    private boolean trieEnabled;
+
     @Bean
-    RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
-        return builder.routes()
-                .route(
-                        "AUTH-SERVICE",
-                        r -> r
-                                .path(
-                                        "/api/auth/**"
-                                )
-                                .filters(this::strip)
-                                .uri("lb://AUTH-SERVICE")
-                )
-                .route("SENSOR-SERVICE",
-                        r -> r
-                                .path(
-                                        "/api/sensor-data-mappings/**"
-                                )
-                                .filters(this::strip)
-                                .uri("lb://SENSOR-SERVICE")
-                )
-                .route(
-                        "USER-SERVICE",
-                        r -> r
-                                .path(
-                                        "/api/roles/**",
-                                        "/api/event-levels/**",
-                                        "/api/departments",
-                                        "/api/departments/**",
-                                        "/api/images/**",
-                                        "/api/main/**"
-                                )
-                                .filters(this::strip)
-                                .uri("lb://USER-SERVICE")
-                )
-                .route(
-                        "AI-ANALYSIS-RESULT-SERVICE",
-                        r -> r
-                                .path(
-                                        "/api/analysis-results/**",
-                                        "/api/admin/analysis-results/**"
-                                )
-                                .filters(this::stripAndJwtAuthorizationFilter)
-                                .uri("lb://AI-ANALYSIS-RESULT-SERVICE")
-                )
-                .route(
-                        "USER-SERVICE",
-                        r -> r
-                                .path(
-                                        "/api/admin/users/**",
-                                        "/api/users/**"
-                                )
-                                .filters(this::stripAndJwtAuthorizationFilter)
-                                .uri("lb://USER-SERVICE")
-                )
-                .route(
-                        "EVENT-SERVICE",
-                        r -> r
-                                .path(
-                                        "/api/events/**",
-                                        "/api/notifications/**"
-                                )
-                                .filters(this::stripAndJwtAuthorizationFilter)
-                                .uri("lb://EVENT-SERVICE")
-                )
-                .route(
-                        "SERVER-RESOURCE-SERVICE",
-                        r -> r
-                                .path("/api/profile-image/**")
-                                .filters(this::stripAndJwtAuthorizationFilter)
-                                .uri("lb://SERVER-RESOURCE-SERVICE")
-                )
-                .route(
-                        "GATEWAY-SERVICE",
-                        r -> r
-                                .path(
-                                        "/api/gateways/**",
-                                        "/department-id/**"
-                                )
-                                .filters(this::stripAndJwtAuthorizationFilter)
-                                .uri("lb://GATEWAY-SERVICE")
-                )
-                .route(
-                        "SENSOR-SERVICE",
-                        r -> r
-                                .path(
-                                        "/api/sensors/**",
-                                        "/api/threshold-histories/**",
-                                        "/api/sensor-data-mappings/**",
-                                        "/api/data-types/**"
-                                )
-                                .filters(this::stripAndJwtAuthorizationFilter)
-                                .uri("lb://SENSOR-SERVICE")
-                )
-                .route(
-                        "DASHBOARD-SERVICE",
-                        r -> r
-                                .path(
-                                        "/api/dashboards/**",
-                                        "/api/panels/**",
-                                        "/api/folders/**",
-                                        "/api/test/**"
-                                )
-                                .filters(this::stripAndJwtAuthorizationFilter)
-                                .uri("lb://DASHBOARD-SERVICE")
-                )
-                .route(
-                        "CORRELATION-ANALYSIS-SERVICE",
-                        r -> r
-                                .path(
-                                        "/api/correlation-analyze/**"
-                                )
-                                .filters(this::stripAndJwtAuthorizationFilter)
-                                .uri("lb://CORRELATION-ANALYSIS-SERVICE")
-                )
-                .build();
+    ReloadableRouteLocator customRouteLocator(RouteLocatorBuilder builder, ApplicationEventPublisher eventPublisher) {
+        return new ReloadableRouteLocator(ROUTES, entries -> compile(builder, entries),
+                routeTableProperties.location(), routeTableProperties.refreshInterval(), eventPublisher, meterRegistry);
     }
 
-    private GatewayFilterSpec strip(GatewayFilterSpec f) {
-        return f.stripPrefix(1);
+    /**
+     * 라우트 테이블을 predicate와 필터가 적용된 라우트 목록으로 컴파일합니다.
+     *
+     * @throws IllegalArgumentException 트라이로 컴파일할 수 없는 경로 패턴이나 너무 많은 권한이 있는 경우
+     */
+    private List<Route> compile(RouteLocatorBuilder builder, List<RouteEntry> entries) {
+        PathRouteTrie trie = trieEnabled ? PathRouteTrie.compile(entries) : null;
+        RoleBitmask roleBitmask = RoleBitmask.compile(entries);
+
+        RouteLocatorBuilder.Builder routes = builder.routes();
+        for (int index = 0; index < entries.size(); index++) {
+            RouteEntry entry = entries.get(index);
+            int routeIndex = index;
+
+            routes.route(
+                    entry.id(),
+                    r -> predicate(r, entry, trie, routeIndex)
+                            .filters(f -> filters(f, entry, trie, roleBitmask))
+                            .uri(entry.uri())
+            );
+        }
+        return routes.build().getRoutes().collectList().block();
+    }
+
+    private BooleanSpec predicate(PredicateSpec r, RouteEntry entry, PathRouteTrie trie, int routeIndex) {
+        if (trie == null) {
+            return r.path(entry.paths().toArray(String[]::new));
+        }
+        return r.predicate(exchange -> trie.resolve(exchange).routeIndex() == routeIndex);
     }
 
-    private GatewayFilterSpec stripAndJwtAuthorizationFilter(GatewayFilterSpec f) {
-        return strip(f).filter(jwtAuthorizationFilter);
+    /**
+     * 라우트 필터를 구성합니다. 모든 필터가 원래 요청 경로를 기준으로 동작하도록 prefix 제거는 마지막에 적용합니다.
+     *
+     * <ol>
+     *     <li>스트리밍 경로 표시와 요청 본문 크기 제한 (본문을 모으는 필터가 스트리밍 경로를 건너뛰도록 가장 먼저)</li>
+     *     <li>응답 압축 (캐시/병합 필터가 압축 전 본문을 다루도록 스트리밍 경로 다음)</li>
+     *     <li>응답 캐시 (인증이 필요 없는 라우트만)</li>
+     *     <li>JWT 인증 (인증이 필요 없는 라우트는 클라이언트가 보낸 사용자/권한 헤더 제거)</li>
+     *     <li>권한 검사 (필요 권한이 선언된 라우트만)</li>
+     *     <li>요청 한도 (사용자 ID 기준이므로 JWT 인증 뒤)</li>
+     *     <li>디스크 콘텐츠 캐시 (캐시된 응답도 인증/권한 검사와 요청 한도를 거치도록 그 뒤)</li>
+     *     <li>동일 GET 요청 병합 (사용자 범위 기준이므로 JWT 인증 뒤)</li>
+     *     <li>적응형 동시 요청 한도 (캐시/병합으로 업스트림에 가지 않는 요청은 세지 않도록 그 뒤)</li>
+     *     <li>GET 요청 hedging 대상 지정 (병합된 요청 하나만 hedging하도록 병합 뒤)</li>
+     *     <li>prefix 제거</li>
+     * </ol>
+     */
+    private GatewayFilterSpec filters(GatewayFilterSpec f, RouteEntry entry, PathRouteTrie trie, RoleBitmask roleBitmask) {
+        GatewayFilterSpec spec = f;
+
+        StreamingProperties.StreamedRoute streamedRoute = streamingProperties.routes().get(entry.id());
+        if (streamedRoute != null) {
+            spec = spec.filter(new StreamingBodyFilter(entry.id(), streamedRoute.paths(),
+                    streamingProperties.maxRequestSize(streamedRoute).toBytes(), meterRegistry));
+        }
+
+        CompressionProperties.CompressedRoute compressedRoute = compressionProperties.routes().get(entry.id());
+        if (compressedRoute != null) {
+            spec = spec.filter(new ResponseCompressionFilter(
+                    entry.id(), compressionProperties, compressedRoute.excludedPaths(), deflaterPool, meterRegistry));
+        }
+
+        // 응답 캐시는 사용자별 응답이 섞이지 않도록 인증이 필요 없는 라우트에만 적용
+        ResponseCacheProperties.CachedRoute cachedRoute = responseCacheProperties.routes().get(entry.id());
+        if (cachedRoute != null && !entry.authenticated()) {
+            spec = spec.filter(new ResponseCacheFilter(responseCache, cachedRoute.paths()));
+        }
+
+        if (entry.authenticated()) {
+            spec = spec.filter(jwtAuthorizationFilter);
+        } else {
+            spec = spec.removeRequestHeader(JwtAuthorizationFilter.USER_ID_HEADER)
+                    .removeRequestHeader(JwtAuthorizationFilter.USER_ROLE_HEADER);
+        }
+
+        if (!entry.requiredRoles().isEmpty()) {
+            spec = spec.filter(new RoleAuthorizationFilter(roleBitmask, entry.requiredRoles()));
+        }
+
+        RateLimitProperties.Limit limit = rateLimitProperties.routes().get(entry.id());
+        if (limit != null) {
+            spec = spec.filter(rateLimitFilters.computeIfAbsent(entry.id(), id -> new UserRateLimitFilter(
+                    new LocalRateLimiter(limit, rateLimitProperties.maxKeysPerRoute(), rateLimitProperties.idleTimeout()))));
+        }
+
+        ContentCacheProperties.CachedRoute contentCachedRoute = contentCacheProperties.routes().get(entry.id());
+        if (contentCachedRoute != null) {
+            spec = spec.filter(new ContentCacheFilter(
+                    entry.id(), diskContentStore, contentCachedRoute.paths(), meterRegistry));
+        }
+
+        CoalescingProperties.CoalescedRoute coalescedRoute = coalescingProperties.routes().get(entry.id());
+        if (coalescedRoute != null) {
+            spec = spec.filter(coalescingFilters.computeIfAbsent(entry.id(), id -> new RequestCoalescingFilter(
+                    id, coalescedRoute.paths(), (int) coalescingProperties.maxSharedBodySize().toBytes(), meterRegistry)));
+        }
+
+        ConcurrencyLimitProperties.LimitedRoute limitedRoute = concurrencyLimitProperties.routes().get(entry.id());
+        if (limitedRoute != null) {
+            spec = spec.filter(concurrencyLimitFilters.computeIfAbsent(entry.id(), id -> new ConcurrencyLimitFilter(
+                    id, new GradientConcurrencyLimit(concurrencyLimitProperties.initialLimit(limitedRoute),
+                    concurrencyLimitProperties.minLimit(), concurrencyLimitProperties.maxLimit(limitedRoute),
+                    concurrencyLimitProperties.smoothing(), concurrencyLimitProperties.rttTolerance(),
+                    concurrencyLimitProperties.longWindow()), meterRegistry)));
+        }
+
+        HedgingProperties.HedgedRoute hedgedRoute = hedgingProperties.routes().get(entry.id());
+        if (hedgedRoute != null) {
+            spec = spec.filter(hedgingFilters.computeIfAbsent(entry.id(), id -> new HedgingFilter(
+                    id, hedgedRoute.paths(), new HedgeDelayEstimator(hedgingProperties.percentile(),
+                    hedgingProperties.initialDelay(), hedgingProperties.minDelay(), hedgingProperties.maxDelay()),
+                    meterRegistry)));
+        }
+
+        return (trie == null) ? spec.stripPrefix(1) : spec.filter(new PrecomputedStripPrefixFilter(trie));
     }
 }
@@ -0,0 +1,50 @@
+package com.nhnacademy.gateway.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 큰 바이너리 본문(이미지, 업로드)을 모으지 않고 그대로 전달하는 스트리밍 경로 설정.
+ *
+ * <pre>
+ * gateway.streaming.routes[USER-SERVICE].paths=/api/images/**
+ * gateway.streaming.routes[USER-SERVICE].max-request-size=5MB
+ * </pre>
+ *
+ * @param maxRequestSize 라우트에 따로 지정하지 않았을 때 허용하는 요청 본문의 최대 크기
+ * @param routes         라우트 ID별 스트리밍 경로
+ */
+@ConfigurationProperties(prefix = "gateway.streaming")
+public record StreamingProperties(
+        @DefaultValue("10MB") DataSize maxRequestSize,
+        Map<String, StreamedRoute> routes
+) {
+
+    public StreamingProperties {
+        routes = (routes == null) ? Map.of() : Map.copyOf(routes);
+    }
+
+    /**
+     * 라우트의 요청 본문 최대 크기를 반환합니다.
+     */
+    public DataSize maxRequestSize(StreamedRoute route) {
+        return (route.maxRequestSize() != null) ? route.maxRequestSize() : maxRequestSize;
+    }
+
+    /**
+     * 스트리밍 경로가 있는 라우트.
+     *
+     * @param paths          스트리밍할 경로 패턴 목록 (비어 있으면 라우트 전체)
+     * @param maxRequestSize 요청 본문의 최대 크기 (없으면 전역 설정)
+     */
+    public record StreamedRoute(List<String> paths, DataSize maxRequestSize) {
+
+        public StreamedRoute {
+            paths = (paths == null) ? List.of() : List.copyOf(paths);
+        }
+    }
+}
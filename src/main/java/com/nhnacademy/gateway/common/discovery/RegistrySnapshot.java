@@ -0,0 +1,80 @@
+package com.nhnacademy.gateway.common.discovery;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 서비스 레지스트리의 특정 시점 인스턴스 목록.
+ *
+ * <p>Eureka는 서비스 ID를 대소문자 구분 없이 다루므로 서비스 ID는 소문자로 정규화해 보관합니다.</p>
+ *
+ * @param savedAtMillis 레지스트리를 읽은 시각 (epoch millis)
+ * @param services      서비스 ID(소문자)별 인스턴스 목록
+ */
+public record RegistrySnapshot(long savedAtMillis, Map<String, List<Instance>> services) {
+
+    public RegistrySnapshot {
+        services = (services == null) ? Map.of() : Map.copyOf(services);
+    }
+
+    /**
+     * 현재 레지스트리에 등록된 모든 서비스의 인스턴스 목록을 읽습니다.
+     *
+     * @param registry      읽을 레지스트리
+     * @param savedAtMillis 읽은 시각
+     * @return 인스턴스가 하나 이상인 서비스만 담은 스냅샷
+     */
+    public static RegistrySnapshot capture(DiscoveryClient registry, long savedAtMillis) {
+        Map<String, List<Instance>> services = new HashMap<>();
+        for (String serviceId : registry.getServices()) {
+            List<Instance> instances = registry.getInstances(serviceId).stream()
+                    .map(Instance::from)
+                    .toList();
+            if (!instances.isEmpty()) {
+                services.put(normalize(serviceId), instances);
+            }
+        }
+        return new RegistrySnapshot(savedAtMillis, services);
+    }
+
+    /**
+     * 서비스의 인스턴스 목록을 반환합니다.
+     *
+     * @param serviceId 서비스 ID (대소문자 무관)
+     * @return 인스턴스 목록, 스냅샷에 없는 서비스이면 빈 목록
+     */
+    public List<ServiceInstance> instances(String serviceId) {
+        return services.getOrDefault(normalize(serviceId), List.of()).stream()
+                .map(instance -> instance.toServiceInstance(serviceId))
+                .toList();
+    }
+
+    private static String normalize(String serviceId) {
+        return serviceId.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 스냅샷에 보관하는 인스턴스 정보.
+     */
+    public record Instance(String instanceId, String host, int port, boolean secure, Map<String, String> metadata) {
+
+        public Instance {
+            metadata = (metadata == null) ? Map.of() : Map.copyOf(metadata);
+        }
+
+        static Instance from(ServiceInstance instance) {
+            return new Instance(instance.getInstanceId(), instance.getHost(), instance.getPort(),
+                    instance.isSecure(), instance.getMetadata());
+        }
+
+        ServiceInstance toServiceInstance(String serviceId) {
+            return new DefaultServiceInstance(instanceId, serviceId, host, port, secure, metadata);
+        }
+    }
+}
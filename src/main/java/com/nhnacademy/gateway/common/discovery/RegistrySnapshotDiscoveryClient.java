@@ -0,0 +1,108 @@
+package com.nhnacademy.gateway.common.discovery;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.ApplicationListener;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 마지막으로 알려진 레지스트리 스냅샷으로 서비스 인스턴스를 제공하는 디스커버리 클라이언트.
+ *
+ * <p>게이트웨이가 막 기동되어 Eureka에서 레지스트리를 아직 받지 못한 동안에는 스냅샷 파일의 인스턴스로
+ * {@code lb://} 라우트를 처리합니다. 레지스트리 캐시가 갱신될 때마다 발생하는 {@link HeartbeatEvent}를 받으면
+ * 실제 레지스트리를 스냅샷 파일에 저장하고, 그 뒤로는 스냅샷을 사용하지 않습니다.</p>
+ *
+ * <p>실제 레지스트리에 이미 인스턴스가 있는 서비스는 스냅샷 인스턴스를 제공하지 않아,
+ * {@code ReactiveCompositeDiscoveryClient}가 두 목록을 합칠 때 인스턴스가 중복되지 않습니다.</p>
+ */
+@Slf4j
+public class RegistrySnapshotDiscoveryClient implements ReactiveDiscoveryClient, ApplicationListener<HeartbeatEvent> {
+
+    /**
+     * 실제 레지스트리 (Eureka 등)
+     */
+    private final DiscoveryClient liveRegistry;
+
+    private final RegistrySnapshotStore store;
+
+    /**
+     * 기동 시 읽은 스냅샷. 실제 레지스트리를 받은 뒤에는 {@code null}
+     */
+    private volatile RegistrySnapshot bootSnapshot;
+
+    /**
+     * 마지막으로 파일에 저장한 서비스 목록 (변경이 없으면 다시 저장하지 않음)
+     */
+    private volatile Map<String, List<RegistrySnapshot.Instance>> savedServices;
+
+    public RegistrySnapshotDiscoveryClient(DiscoveryClient liveRegistry, RegistrySnapshotStore store, Duration maxAge) {
+        this.liveRegistry = liveRegistry;
+        this.store = store;
+        this.bootSnapshot = store.load(maxAge, System.currentTimeMillis()).orElse(null);
+
+        if (bootSnapshot != null) {
+            savedServices = bootSnapshot.services();
+            log.info("레지스트리 스냅샷을 불러왔습니다. (서비스 {}개)", bootSnapshot.services().size());
+        }
+    }
+
+    @Override
+    public String description() {
+        return "Last known service registry snapshot";
+    }
+
+    @Override
+    public Flux<ServiceInstance> getInstances(String serviceId) {
+        return Flux.defer(() -> {
+            RegistrySnapshot snapshot = bootSnapshot;
+            if (snapshot == null || !liveRegistry.getInstances(serviceId).isEmpty()) {
+                return Flux.empty();
+            }
+            return Flux.fromIterable(snapshot.instances(serviceId));
+        });
+    }
+
+    @Override
+    public Flux<String> getServices() {
+        return Flux.defer(() -> {
+            RegistrySnapshot snapshot = bootSnapshot;
+            return (snapshot == null) ? Flux.empty() : Flux.fromIterable(snapshot.services().keySet());
+        });
+    }
+
+    /**
+     * 레지스트리 캐시가 갱신되면 스냅샷 사용을 끝내고, 바뀐 내용이 있으면 파일에 저장합니다.
+     *
+     * <p>레지스트리가 비어 있으면(레지스트리 서버 장애 등) 기존 스냅샷을 덮어쓰지 않고 계속 사용합니다.</p>
+     */
+    @Override
+    public void onApplicationEvent(HeartbeatEvent event) {
+        RegistrySnapshot live = RegistrySnapshot.capture(liveRegistry, System.currentTimeMillis());
+        if (live.services().isEmpty()) {
+            return;
+        }
+
+        if (bootSnapshot != null) {
+            bootSnapshot = null;
+            log.info("서비스 레지스트리를 받아 스냅샷 대신 사용합니다. (서비스 {}개)", live.services().size());
+        }
+
+        if (live.services().equals(savedServices)) {
+            return;
+        }
+        try {
+            store.save(live);
+            savedServices = live.services();
+        } catch (IOException e) {
+            log.warn("레지스트리 스냅샷을 저장하지 못했습니다: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.nhnacademy.gateway.common.discovery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 레지스트리 스냅샷을 로컬 JSON 파일로 저장하고 읽습니다.
+ *
+ * <p>저장은 같은 디렉터리의 임시 파일에 쓴 뒤 이름을 바꾸는 방식이라, 저장 중에 프로세스가 종료되어도
+ * 이전 스냅샷이 깨지지 않습니다.</p>
+ */
+@Slf4j
+public class RegistrySnapshotStore {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * 스냅샷 파일 경로
+     */
+    private final Path path;
+
+    public RegistrySnapshotStore(Path path) {
+        this.path = path.toAbsolutePath();
+    }
+
+    /**
+     * 스냅샷 파일을 읽습니다.
+     *
+     * @param maxAge     사용할 수 있는 스냅샷의 최대 나이
+     * @param nowMillis  현재 시각 (epoch millis)
+     * @return 스냅샷, 파일이 없거나 읽을 수 없거나 너무 오래된 경우 빈 값
+     */
+    public Optional<RegistrySnapshot> load(Duration maxAge, long nowMillis) {
+        if (!Files.isRegularFile(path)) {
+            log.info("레지스트리 스냅샷 파일이 없습니다: {}", path);
+            return Optional.empty();
+        }
+
+        RegistrySnapshot snapshot;
+        try {
+            snapshot = OBJECT_MAPPER.readValue(path.toFile(), RegistrySnapshot.class);
+        } catch (IOException e) {
+            log.warn("레지스트리 스냅샷 파일을 읽을 수 없어 사용하지 않습니다: {} ({})", path, e.getMessage());
+            return Optional.empty();
+        }
+
+        long ageMillis = nowMillis - snapshot.savedAtMillis();
+        if (ageMillis > maxAge.toMillis()) {
+            log.info("레지스트리 스냅샷이 오래되어 사용하지 않습니다: {} (저장 후 {}초)", path, ageMillis / 1000);
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * 스냅샷을 파일에 저장합니다.
+     *
+     * @param snapshot 저장할 스냅샷
+     * @throws IOException 파일을 쓸 수 없는 경우
+     */
+    public void save(RegistrySnapshot snapshot) throws IOException {
+        Path directory = path.getParent();
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            OBJECT_MAPPER.writeValue(temp.toFile(), snapshot);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
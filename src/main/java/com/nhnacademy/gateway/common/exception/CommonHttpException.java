@@ -16,4 +16,14 @@ public class CommonHttpException extends RuntimeException {
         super(message, cause);
         this.statusCode = statusCode;
     }
+
+    /**
+     * 미리 만들어 두고 여러 요청에서 공유하는 예외를 위한 생성자.
+     *
+     * <p>스택 트레이스를 채우지 않고, 공유 중에 상태가 바뀌지 않도록 suppressed 예외와 원인 설정을 막습니다.</p>
+     */
+    protected CommonHttpException(final int statusCode, final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.statusCode = statusCode;
+    }
 }
@@ -0,0 +1,12 @@
+package com.nhnacademy.gateway.common.exception;
+
+public class PayloadTooLargeException extends CommonHttpException {
+
+    private static final int HTTP_STATUS_CODE = 413;
+
+    public static final String PAYLOAD_TOO_LARGE_MESSAGE = "요청 본문이 허용된 크기를 초과했습니다.";
+
+    public PayloadTooLargeException() {
+        super(HTTP_STATUS_CODE, PAYLOAD_TOO_LARGE_MESSAGE);
+    }
+}
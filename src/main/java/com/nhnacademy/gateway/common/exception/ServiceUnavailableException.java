@@ -0,0 +1,26 @@
+package com.nhnacademy.gateway.common.exception;
+
+public class ServiceUnavailableException extends CommonHttpException {
+
+    private static final int HTTP_STATUS_CODE = 503;
+
+    public static final String OVERLOADED_MESSAGE = "서비스가 혼잡합니다. 잠시 후 다시 시도해 주세요.";
+
+    public ServiceUnavailableException(String message) {
+        super(HTTP_STATUS_CODE, message);
+    }
+
+    private ServiceUnavailableException(String message, boolean writableStackTrace) {
+        super(HTTP_STATUS_CODE, message, writableStackTrace);
+    }
+
+    /**
+     * 스택 트레이스 없이 미리 만들어 두고 재사용할 예외를 생성합니다.
+     *
+     * @param message 오류 메시지
+     * @return 여러 요청에서 공유해도 상태가 바뀌지 않는 예외
+     */
+    public static ServiceUnavailableException stackless(String message) {
+        return new ServiceUnavailableException(message, false);
+    }
+}
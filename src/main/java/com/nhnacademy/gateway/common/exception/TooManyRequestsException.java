@@ -0,0 +1,12 @@
+package com.nhnacademy.gateway.common.exception;
+
+public class TooManyRequestsException extends CommonHttpException {
+
+    private static final int HTTP_STATUS_CODE = 429;
+
+    public static final String RATE_LIMITED_MESSAGE = "요청 한도를 초과했습니다. 잠시 후 다시 시도해 주세요.";
+
+    public TooManyRequestsException() {
+        super(HTTP_STATUS_CODE, RATE_LIMITED_MESSAGE);
+    }
+}
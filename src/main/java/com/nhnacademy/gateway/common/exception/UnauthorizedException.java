@@ -4,7 +4,33 @@ public class UnauthorizedException extends CommonHttpException {
 
     private static final int HTTP_STATUS_CODE = 401;
 
+    public static final String EXPIRED_TOKEN_MESSAGE = "JWT가 만료되었습니다.";
+
+    public static final String EMPTY_TOKEN_MESSAGE = "JWT 토큰이 null이거나 비어 있습니다.";
+
+    public static final String INVALID_INPUT_MESSAGE = "잘못된 JWT 입력입니다.";
+
+    public static final String MISSING_USER_ID_MESSAGE = "JWT에서 사용자 ID 추출 실패";
+
+    public static final String REVOKED_TOKEN_MESSAGE = "폐기된 JWT입니다.";
+
+    public static final String INVALID_SIGNATURE_MESSAGE = "JWT 서명이 올바르지 않습니다.";
+
     public UnauthorizedException(String message) {
         super(HTTP_STATUS_CODE, message);
     }
+
+    private UnauthorizedException(String message, boolean writableStackTrace) {
+        super(HTTP_STATUS_CODE, message, writableStackTrace);
+    }
+
+    /**
+     * 스택 트레이스 없이 미리 만들어 두고 재사용할 예외를 생성합니다.
+     *
+     * @param message 오류 메시지
+     * @return 여러 요청에서 공유해도 상태가 바뀌지 않는 예외
+     */
+    public static UnauthorizedException stackless(String message) {
+        return new UnauthorizedException(message, false);
+    }
 }
@@ -0,0 +1,172 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.accesslog.AccessLogRingBuffer;
+import com.nhnacademy.gateway.common.exception.CommonHttpException;
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * 요청마다 접근 로그 레코드를 {@link AccessLogRingBuffer}에 남기는 전역 필터.
+ *
+ * <p>라우트 ID, 메서드, 경로(쿼리 문자열 제외), 상태 코드, 사용자 ID, 전체/업스트림 지연 시간, 요청/응답 바이트 수를
+ * 기록합니다. 파일 쓰기는 {@code AccessLogWriter}가 별도 스레드에서 처리하므로 이벤트 루프를 막지 않고,
+ * 토큰이나 요청 헤더는 기록하지 않습니다.</p>
+ *
+ * <p>필터 체인이 예외로 끝나면 상태 코드는 {@code GlobalErrorHandler}와 같은 규칙으로 정하고,
+ * 클라이언트가 연결을 끊어 취소된 요청은 {@value #CLIENT_CLOSED_STATUS}로 기록합니다.</p>
+ */
+public class AccessLogFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 다른 전역 필터보다 먼저 실행되어 게이트웨이 처리 시간 전체를 측정
+     */
+    static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    /**
+     * 클라이언트가 응답 전에 연결을 끊은 요청의 상태 코드
+     */
+    static final int CLIENT_CLOSED_STATUS = 499;
+
+    /**
+     * 라우트가 결정되지 않은 요청의 라우트 ID
+     */
+    static final String UNKNOWN_ROUTE = "unknown";
+
+    private final AccessLogRingBuffer ringBuffer;
+
+    public AccessLogFilter(AccessLogRingBuffer ringBuffer) {
+        this.ringBuffer = ringBuffer;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long timestampMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        ByteCountingResponseDecorator response = new ByteCountingResponseDecorator(exchange.getResponse());
+        ServerWebExchange counted = exchange.mutate().response(response).build();
+
+        return chain.filter(counted)
+                .doOnError(response::failedWith)
+                .doFinally(signal -> record(exchange, response, signal, timestampMillis, startNanos));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private void record(ServerWebExchange exchange, ByteCountingResponseDecorator response, SignalType signal,
+                        long timestampMillis, long startNanos) {
+        long totalNanos = System.nanoTime() - startNanos;
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        VerifiedPrincipal principal = exchange.getAttribute(JwtAuthorizationFilter.PRINCIPAL_ATTR);
+        Long upstreamNanos = exchange.getAttribute(UpstreamLatencyFilter.UPSTREAM_LATENCY_ATTR);
+
+        ringBuffer.offer(
+                timestampMillis,
+                route == null ? UNKNOWN_ROUTE : route.getId(),
+                request.getMethod().name(),
+                request.getURI().getRawPath(),
+                status(signal, response),
+                principal == null ? null : principal.userId(),
+                totalNanos,
+                upstreamNanos == null ? -1 : upstreamNanos,
+                request.getHeaders().getContentLength(),
+                response.bytes);
+    }
+
+    private static int status(SignalType signal, ByteCountingResponseDecorator response) {
+        if (signal == SignalType.CANCEL) {
+            return CLIENT_CLOSED_STATUS;
+        }
+        if (response.error != null) {
+            return statusOf(response.error);
+        }
+        HttpStatusCode status = response.getStatusCode();
+        return status == null ? 200 : status.value();
+    }
+
+    /**
+     * 필터 체인을 끝낸 예외가 오류 처리기에서 어떤 상태 코드로 응답될지 반환합니다.
+     */
+    static int statusOf(Throwable error) {
+        if (error instanceof CommonHttpException commonEx) {
+            return commonEx.getStatusCode();
+        }
+        if (error instanceof ResponseStatusException statusEx) {
+            return statusEx.getStatusCode().value();
+        }
+        return 500;
+    }
+
+    /**
+     * 클라이언트에 쓴 응답 본문 바이트 수를 세는 데코레이터.
+     *
+     * <p>파일 응답은 실제 응답이 지원하면 파일 전송(zero-copy) 그대로 넘기고, 지원하지 않으면 파일을 읽어 씁니다.</p>
+     */
+    private static final class ByteCountingResponseDecorator extends ServerHttpResponseDecorator
+            implements ZeroCopyHttpOutputMessage {
+
+        private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+        private long bytes;
+
+        private Throwable error;
+
+        ByteCountingResponseDecorator(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(this::count));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(chunk -> Flux.from(chunk).doOnNext(this::count)));
+        }
+
+        @Override
+        public Mono<Void> writeWith(Path file, long position, long count) {
+            if (getDelegate() instanceof ZeroCopyHttpOutputMessage zeroCopy) {
+                bytes += count;
+                return zeroCopy.writeWith(file, position, count);
+            }
+            return writeWith(DataBufferUtils.takeUntilByteCount(DataBufferUtils.readAsynchronousFileChannel(
+                    () -> AsynchronousFileChannel.open(file, StandardOpenOption.READ),
+                    position, bufferFactory(), FILE_BUFFER_SIZE), count));
+        }
+
+        private void count(DataBuffer buffer) {
+            bytes += buffer.readableByteCount();
+        }
+
+        private void failedWith(Throwable error) {
+            this.error = error;
+        }
+    }
+}
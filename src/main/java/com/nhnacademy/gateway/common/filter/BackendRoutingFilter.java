@@ -0,0 +1,80 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.client.BackendHttpClients;
+import com.nhnacademy.gateway.common.hedge.RequestHedger;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+
+import static org.springframework.cloud.gateway.support.RouteMetadataUtils.CONNECT_TIMEOUT_ATTR;
+
+/**
+ * 라우트별 연결 풀을 사용하는 라우팅 필터.
+ *
+ * <p>게이트웨이 기본 {@link NettyRoutingFilter}와 동일하게 업스트림으로 요청을 보내지만,
+ * {@link BackendHttpClients}에 전용 풀이 설정된 라우트는 그 풀의 클라이언트를 사용합니다.
+ * 기본 필터를 대신하므로 {@code spring.cloud.gateway.global-filter.netty-routing.enabled=false}로
+ * 기본 필터는 등록하지 않습니다.</p>
+ *
+ * <p>{@link HedgingFilter}가 대상으로 지정한 GET 요청은 {@link RequestHedger}로 두 인스턴스에 보내고
+ * 먼저 응답한 쪽을 사용합니다.</p>
+ */
+public class BackendRoutingFilter extends NettyRoutingFilter {
+
+    /**
+     * 업스트림 요청 하나를 보낸 뒤 바로 완료하는 체인 (hedging 요청은 이긴 쪽만 실제 체인을 이어감)
+     */
+    private static final GatewayFilterChain ATTEMPT_CHAIN = exchange -> Mono.empty();
+
+    private final BackendHttpClients backendHttpClients;
+
+    private final RequestHedger requestHedger;
+
+    public BackendRoutingFilter(HttpClient httpClient, ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+                                HttpClientProperties properties, BackendHttpClients backendHttpClients) {
+        this(httpClient, headersFiltersProvider, properties, backendHttpClients, null);
+    }
+
+    /**
+     * @param requestHedger GET 요청 hedging 실행기 (null이면 hedging하지 않음)
+     */
+    public BackendRoutingFilter(HttpClient httpClient, ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+                                HttpClientProperties properties, BackendHttpClients backendHttpClients,
+                                RequestHedger requestHedger) {
+        super(httpClient, headersFiltersProvider, properties);
+        this.backendHttpClients = backendHttpClients;
+        this.requestHedger = requestHedger;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (requestHedger == null || !requestHedger.canHedge(exchange)) {
+            return super.filter(exchange, chain);
+        }
+        return requestHedger.route(exchange, chain, attempt -> super.filter(attempt, ATTEMPT_CHAIN));
+    }
+
+    @Override
+    protected HttpClient getHttpClient(Route route, ServerWebExchange exchange) {
+        HttpClient client = backendHttpClients.forRoute(route.getId());
+        if (client == null) {
+            return super.getHttpClient(route, exchange);
+        }
+
+        // 기본 필터와 같이 라우트 메타데이터의 연결 타임아웃을 적용
+        Object connectTimeout = route.getMetadata().get(CONNECT_TIMEOUT_ATTR);
+        if (connectTimeout != null) {
+            return client.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Integer.parseInt(connectTimeout.toString()));
+        }
+        return client;
+    }
+}
@@ -0,0 +1,63 @@
+package com.nhnacademy.gateway.common.filter;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 클라이언트로 스트리밍되는 응답 본문의 복사본.
+ *
+ * <p>{@link DataBuffer}의 읽기 위치를 바꾸지 않고 바이트만 복사하므로, 원래 스트림은 그대로 전달됩니다.
+ * 최대 크기를 넘으면 복사를 중단하고 {@link #overflowed()}가 true가 됩니다.</p>
+ */
+final class BodyCollector {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private final int maxBytes;
+
+    private byte[] bytes;
+
+    private int length;
+
+    private boolean overflowed;
+
+    /**
+     * @param maxBytes      최대 크기
+     * @param contentLength 응답의 {@code Content-Length} (모르면 -1), 초기 버퍼 크기로 사용
+     */
+    BodyCollector(int maxBytes, long contentLength) {
+        this.maxBytes = maxBytes;
+        this.bytes = new byte[(contentLength > 0 && contentLength <= maxBytes) ? (int) contentLength : DEFAULT_INITIAL_CAPACITY];
+    }
+
+    void append(DataBuffer buffer) {
+        int readable = buffer.readableByteCount();
+        if (overflowed || length + readable > maxBytes) {
+            overflowed = true;
+            return;
+        }
+        if (length + readable > bytes.length) {
+            byte[] expanded = new byte[Math.min(maxBytes, Math.max(bytes.length * 2, length + readable))];
+            System.arraycopy(bytes, 0, expanded, 0, length);
+            bytes = expanded;
+        }
+        buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(bytes), length, readable);
+        length += readable;
+    }
+
+    boolean overflowed() {
+        return overflowed;
+    }
+
+    /**
+     * 복사한 바이트 배열을 반환합니다. 유효한 길이는 {@link #length()}입니다.
+     */
+    byte[] bytes() {
+        return bytes;
+    }
+
+    int length() {
+        return length;
+    }
+}
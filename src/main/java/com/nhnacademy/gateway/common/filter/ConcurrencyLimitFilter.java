@@ -0,0 +1,90 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.exception.CommonHttpException;
+import com.nhnacademy.gateway.common.exception.ServiceUnavailableException;
+import com.nhnacademy.gateway.common.limit.GradientConcurrencyLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * <h2>라우트별 적응형 동시 요청 한도 필터.</h2>
+ *
+ * <p>라우트의 처리 중인 요청 수가 {@link GradientConcurrencyLimit}의 현재 한도를 넘으면 업스트림으로 보내지 않고
+ * {@link ServiceUnavailableException}(503)을 발생시켜 {@code GlobalErrorHandler}가 바로 응답하도록 합니다.
+ * 업스트림이 느려지면 한도가 줄어들어, 요청이 게이트웨이에 쌓여 메모리와 연결을 차지하지 않습니다.</p>
+ *
+ * <p>한도 조정에는 업스트림 응답 헤더를 받기까지의 시간({@link UpstreamLatencyFilter#UPSTREAM_LATENCY_ATTR})을
+ * 사용하고, 없으면 필터 체인이 끝나기까지의 시간을 사용합니다. 클라이언트가 취소한 요청은 반영하지 않습니다.</p>
+ *
+ * <p>현재 한도는 {@value #LIMIT_METRIC}, 처리 중인 요청 수는 {@value #IN_FLIGHT_METRIC},
+ * 거절한 요청 수는 {@value #REJECTED_METRIC}{@code {route}} 지표로 기록됩니다.</p>
+ */
+public class ConcurrencyLimitFilter implements GatewayFilter {
+
+    static final String LIMIT_METRIC = "gateway.concurrency.limit";
+
+    static final String IN_FLIGHT_METRIC = "gateway.concurrency.in-flight";
+
+    static final String REJECTED_METRIC = "gateway.concurrency.rejected";
+
+    /**
+     * 거절할 때마다 공유하는 예외 (스택 트레이스 없음)
+     */
+    private static final ServiceUnavailableException OVERLOADED =
+            ServiceUnavailableException.stackless(ServiceUnavailableException.OVERLOADED_MESSAGE);
+
+    private final GradientConcurrencyLimit limit;
+
+    private final Counter rejectedCounter;
+
+    /**
+     * @param routeId       라우트 ID (지표 태그)
+     * @param limit         라우트의 동시 요청 한도
+     * @param meterRegistry 지표 저장소
+     */
+    public ConcurrencyLimitFilter(String routeId, GradientConcurrencyLimit limit, MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC)
+                .description("동시 요청 한도를 넘어 거절한 요청 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder(LIMIT_METRIC, limit, GradientConcurrencyLimit::limit)
+                .description("라우트의 현재 동시 요청 한도")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, limit, GradientConcurrencyLimit::inFlight)
+                .description("라우트에서 처리 중인 요청 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        int inFlightAtStart = limit.tryAcquire();
+        if (inFlightAtStart == 0) {
+            rejectedCounter.increment();
+            return Mono.error(OVERLOADED);
+        }
+
+        long startNanos = System.nanoTime();
+        boolean[] dropped = {false};
+        return chain.filter(exchange)
+                // 게이트웨이가 만든 응답(401, 429 등)이 아닌 업스트림 연결 실패/타임아웃만 실패로 반영
+                .doOnError(e -> dropped[0] = !(e instanceof CommonHttpException))
+                .doFinally(signal -> {
+                    limit.release();
+                    if (signal == SignalType.CANCEL) {
+                        return;
+                    }
+                    Long upstreamNanos = exchange.getAttribute(UpstreamLatencyFilter.UPSTREAM_LATENCY_ATTR);
+                    long rttNanos = (upstreamNanos != null) ? upstreamNanos : System.nanoTime() - startNanos;
+                    limit.onSample(rttNanos, inFlightAtStart, dropped[0]);
+                });
+    }
+}
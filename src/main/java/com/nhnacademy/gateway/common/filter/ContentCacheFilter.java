@@ -0,0 +1,462 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.cache.CachedFile;
+import com.nhnacademy.gateway.common.cache.DiskContentStore;
+import com.nhnacademy.gateway.common.config.ContentCacheProperties;
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>디스크 콘텐츠 캐시 필터.</h2>
+ *
+ * <p>이미지처럼 잘 바뀌지 않는 GET 응답을 {@link DiskContentStore}의 파일로 보관하고, 같은 요청은 업스트림을 거치지 않고
+ * 파일에서 바로 응답합니다. 캐시된 응답은 파일 전송(sendfile)으로 보내므로 본문이 힙이나 사용자 영역 버퍼를 거치지 않습니다.
+ * 캐시하지 않은 응답은 클라이언트로 보내는 버퍼를 그대로 파일에 비동기로 쓰고, 모두 쓴 뒤 인덱스에 추가합니다.</p>
+ *
+ * <h3>검증</h3>
+ * <ul>
+ *     <li>요청의 {@code If-None-Match}가 ETag와 일치하거나, {@code If-None-Match} 없이 {@code If-Modified-Since}가
+ *     {@code Last-Modified} 이후이면 본문 없이 {@code 304 Not Modified}로 응답합니다.</li>
+ *     <li>사용 가능 시간({@code max-age}, 없으면 {@code default-ttl}, 최대 {@code max-ttl})이 지난 응답은
+ *     저장된 ETag/Last-Modified로 업스트림에 조건부 요청을 보내고, {@code 304}이면 파일을 그대로 다시 사용합니다.</li>
+ * </ul>
+ *
+ * <h3>캐시 조건</h3>
+ * <ul>
+ *     <li>{@code 200 OK}이고 {@code Set-Cookie}, {@code Content-Encoding}, {@code Vary}가 없는 응답
+ *     (캐시 키에 요청 헤더를 넣지 않으므로 요청 헤더에 따라 달라지는 응답은 보관하지 않음)</li>
+ *     <li>{@code Cache-Control}에 {@code no-store}, {@code no-cache}, {@code private}가 없는 응답</li>
+ *     <li>{@code Content-Length}가 {@code max-entry-size} 이하인 응답</li>
+ * </ul>
+ *
+ * <p>응답에는 {@code X-Cache: HIT|MISS} 헤더가 추가되고, 처리 결과는
+ * {@value #METRIC_NAME}{@code {route, result=hit|revalidated|miss}} 카운터로 기록됩니다.
+ * 인증이 필요한 라우트에서는 캐시된 응답도 인증/권한 검사를 거치도록 {@link JwtAuthorizationFilter} 뒤에 등록하며,
+ * 인증된 요청의 응답은 사용자별로 따로 보관합니다.</p>
+ */
+@Slf4j
+public class ContentCacheFilter implements GatewayFilter {
+
+    static final String METRIC_NAME = "gateway.content-cache.requests";
+
+    /**
+     * 파일 전송을 지원하지 않는 응답에 캐시된 파일을 읽어 보낼 때 사용하는 버퍼 크기
+     */
+    static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 캐시된 응답에 다시 실어 보내는 헤더
+     */
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_LANGUAGE,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.EXPIRES
+    );
+
+    private final DiskContentStore store;
+
+    private final List<PathPattern> paths;
+
+    private final Counter hitCounter;
+
+    private final Counter revalidatedCounter;
+
+    private final Counter missCounter;
+
+    /**
+     * @param routeId       라우트 ID (지표 태그)
+     * @param store         콘텐츠 캐시 저장소
+     * @param pathPatterns  캐시할 경로 패턴 목록 (비어 있으면 라우트 전체)
+     * @param meterRegistry 지표 저장소
+     */
+    public ContentCacheFilter(String routeId, DiskContentStore store, List<String> pathPatterns,
+                              MeterRegistry meterRegistry) {
+        this.store = store;
+        this.paths = pathPatterns.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.hitCounter = counter(meterRegistry, routeId, "hit");
+        this.revalidatedCounter = counter(meterRegistry, routeId, "revalidated");
+        this.missCounter = counter(meterRegistry, routeId, "miss");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String routeId, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("콘텐츠 캐시 처리 결과")
+                .tags("route", routeId, "result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET || !matches(request)) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(exchange);
+        CachedFile cached = store.get(key);
+        if (cached != null && cached.fresh()) {
+            hitCounter.increment();
+            return writeCached(request, exchange.getResponse(), cached);
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().set(ResponseCacheFilter.CACHE_STATUS_HEADER, "MISS");
+        if (cached == null || !cached.revalidatable()) {
+            missCounter.increment();
+            return chain.filter(exchange.mutate()
+                    .response(new CachingResponseDecorator(request, response, key, null))
+                    .build());
+        }
+
+        // 클라이언트의 조건부 요청은 게이트웨이가 캐시된 응답으로 판단하고, 업스트림에는 저장된 검증자로 확인
+        ServerHttpRequest conditional = request.mutate()
+                .headers(headers -> {
+                    headers.remove(HttpHeaders.IF_NONE_MATCH);
+                    headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+                    if (cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    }
+                    if (cached.lastModified() >= 0) {
+                        headers.setIfModifiedSince(cached.lastModified());
+                    }
+                })
+                .build();
+        return chain.filter(exchange.mutate()
+                .request(conditional)
+                .response(new CachingResponseDecorator(request, response, key, cached))
+                .build());
+    }
+
+    /**
+     * 요청 경로(쿼리 포함)로 캐시 키를 만듭니다. 인증된 요청은 사용자마다 응답이 다를 수 있으므로
+     * 검증된 사용자 ID로 범위를 나눠 다른 사용자의 응답을 받지 않도록 합니다.
+     */
+    static String cacheKey(ServerWebExchange exchange) {
+        String path = ResponseCacheFilter.cacheKey(exchange.getRequest().getURI());
+        VerifiedPrincipal principal = exchange.getAttribute(JwtAuthorizationFilter.PRINCIPAL_ATTR);
+        return (principal == null) ? path : principal.userId() + '|' + path;
+    }
+
+    private boolean matches(ServerHttpRequest request) {
+        if (paths.isEmpty()) {
+            return true;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시된 응답을 씁니다. 조건부 요청이 일치하면 본문 없이 304로 응답합니다.
+     */
+    private Mono<Void> writeCached(ServerHttpRequest request, ServerHttpResponse response, CachedFile cached) {
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.set(ResponseCacheFilter.CACHE_STATUS_HEADER, "HIT");
+
+        if (notModified(request.getHeaders(), cached)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.length());
+        if (response instanceof ZeroCopyHttpOutputMessage zeroCopy) {
+            return zeroCopy.writeWith(cached.file(), 0, cached.length());
+        }
+        return response.writeWith(DataBufferUtils.read(cached.file(), response.bufferFactory(), READ_BUFFER_SIZE));
+    }
+
+    /**
+     * 클라이언트의 조건부 요청이 캐시된 응답과 일치하는지 확인합니다. ({@code If-None-Match}가 있으면 그것만 비교)
+     */
+    static boolean notModified(HttpHeaders requestHeaders, CachedFile cached) {
+        String ifNoneMatch = requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return ResponseCacheFilter.etagMatches(ifNoneMatch, cached.etag());
+        }
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        long lastModified = cached.lastModified();
+        return ifModifiedSince >= 0 && lastModified >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * 응답을 업스트림 확인 없이 사용할 시간을 계산합니다.
+     *
+     * @return 사용 가능 시간(나노초, 0이면 사용할 때마다 확인), 캐시하지 않을 응답이면 -1
+     */
+    private long ttlNanos(String cacheControl) {
+        if (ResponseCacheFilter.hasDirective(cacheControl, "no-store")
+                || ResponseCacheFilter.hasDirective(cacheControl, "no-cache")
+                || ResponseCacheFilter.hasDirective(cacheControl, "private")) {
+            return -1;
+        }
+
+        ContentCacheProperties properties = store.properties();
+        long maxTtlNanos = properties.maxTtl().toNanos();
+        if (ResponseCacheFilter.hasDirective(cacheControl, "immutable")) {
+            return maxTtlNanos;
+        }
+        long maxAgeSeconds = ResponseCacheFilter.maxAgeSeconds(cacheControl);
+        if (maxAgeSeconds < 0) {
+            return Math.min(properties.defaultTtl().toNanos(), maxTtlNanos);
+        }
+        return Math.min(TimeUnit.SECONDS.toNanos(maxAgeSeconds), maxTtlNanos);
+    }
+
+    private boolean cacheable(HttpStatusCode status, HttpHeaders headers) {
+        long contentLength = headers.getContentLength();
+        return status != null && status.value() == HttpStatus.OK.value()
+                && !headers.containsKey(HttpHeaders.SET_COOKIE)
+                && !headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+                && !headers.containsKey(HttpHeaders.VARY)
+                && contentLength >= 0 && contentLength <= store.properties().maxEntrySize().toBytes();
+    }
+
+    private static HttpHeaders storedHeaders(HttpHeaders responseHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : STORED_HEADERS) {
+            List<String> values = responseHeaders.get(name);
+            if (values != null) {
+                headers.put(name, values);
+            }
+        }
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    /**
+     * 업스트림 응답을 클라이언트로 보내면서 같은 버퍼를 파일에 쓰고, 다시 확인한 응답이 바뀌지 않았으면
+     * 캐시된 파일로 응답하는 데코레이터.
+     */
+    private final class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final ServerHttpRequest request;
+
+        private final String key;
+
+        /**
+         * 업스트림에 다시 확인 중인 캐시된 응답 (새로 받는 응답이면 null)
+         */
+        private final CachedFile stale;
+
+        private CachingResponseDecorator(ServerHttpRequest request, ServerHttpResponse delegate, String key,
+                                         CachedFile stale) {
+            super(delegate);
+            this.request = request;
+            this.key = key;
+            this.stale = stale;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            HttpStatusCode status = getStatusCode();
+            if (stale != null && status != null && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+                return revalidated(body, headers);
+            }
+
+            long ttlNanos = cacheable(status, headers) ? ttlNanos(headers.getFirst(HttpHeaders.CACHE_CONTROL)) : -1;
+            // 바로 확인해야 하는 응답은 확인할 검증자가 있을 때만 저장
+            boolean revalidatable = headers.getETag() != null || headers.getLastModified() >= 0;
+            if (ttlNanos < 0 || (ttlNanos == 0 && !revalidatable)) {
+                if (stale != null) {
+                    store.remove(key, stale);
+                }
+                return super.writeWith(body);
+            }
+
+            Path file = store.newFile();
+            AsynchronousFileChannel channel;
+            try {
+                channel = AsynchronousFileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (IOException e) {
+                log.warn("콘텐츠 캐시 파일을 만들지 못해 캐시하지 않습니다: {} ({})", file, e.getMessage());
+                return super.writeWith(body);
+            }
+
+            long contentLength = headers.getContentLength();
+            HttpHeaders stored = storedHeaders(headers);
+            FileSink sink = new FileSink(file, channel);
+            // 파일 쓰기가 끝난 버퍼를 그대로 클라이언트로 보냄 (버퍼 복사 없음, 파일 쓰기 실패는 캐시만 포기)
+            return super.writeWith(Flux.<DataBuffer>from(body)
+                            .concatMap(buffer -> sink.write(buffer).thenReturn(buffer)))
+                    .doOnSuccess(done -> {
+                        if (sink.finish(contentLength)) {
+                            store.put(key, new CachedFile(file, contentLength, stored, ttlNanos));
+                        }
+                    })
+                    .doOnError(e -> sink.abandon())
+                    .doOnCancel(sink::abandon);
+        }
+
+        /**
+         * 업스트림이 응답이 바뀌지 않았다고 확인하면 사용 가능 시간을 연장하고 캐시된 파일로 응답합니다.
+         */
+        private Mono<Void> revalidated(Publisher<? extends DataBuffer> body, HttpHeaders headers) {
+            long ttlNanos = ttlNanos(headers.getFirst(HttpHeaders.CACHE_CONTROL));
+            if (ttlNanos >= 0) {
+                stale.refresh(ttlNanos);
+            } else {
+                store.remove(key, stale);
+            }
+            revalidatedCounter.increment();
+
+            // 앞선 게이트웨이 필터가 추가한 헤더는 두고, 캐시된 응답으로 바꿀 헤더만 제거
+            ServerHttpResponse response = getDelegate();
+            STORED_HEADERS.forEach(response.getHeaders()::remove);
+            return Flux.from(body)
+                    .doOnNext(DataBufferUtils::release)
+                    .then(Mono.defer(() -> writeCached(request, response, stale)));
+        }
+    }
+
+    /**
+     * 응답 본문을 캐시 파일에 쓰는 대상.
+     *
+     * <p>쓰기에 실패해도(디스크 부족, 입출력 오류) 오류를 전파하지 않고 파일만 버리므로, 클라이언트 응답은
+     * 캐시와 관계없이 끝까지 전달됩니다.</p>
+     */
+    private final class FileSink {
+
+        private final Path file;
+
+        private final AsynchronousFileChannel channel;
+
+        private long position;
+
+        private volatile boolean failed;
+
+        private FileSink(Path file, AsynchronousFileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+
+        /**
+         * 버퍼의 읽을 수 있는 내용을 파일에 씁니다. 버퍼의 읽기 위치는 바뀌지 않습니다.
+         *
+         * @return 쓰기가 끝나거나 실패하면 완료되는 Mono (오류로 끝나지 않음)
+         */
+        private Mono<Void> write(DataBuffer buffer) {
+            if (failed) {
+                return Mono.empty();
+            }
+            List<ByteBuffer> views = new ArrayList<>();
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                iterator.forEachRemaining(views::add);
+            }
+            long start = position;
+            position += buffer.readableByteCount();
+            return Mono.create(done -> writeFully(views.iterator(), null, start, done));
+        }
+
+        private void writeFully(Iterator<ByteBuffer> views, ByteBuffer current, long offset, MonoSink<Void> done) {
+            ByteBuffer view = current;
+            while (view == null || !view.hasRemaining()) {
+                if (!views.hasNext()) {
+                    done.success();
+                    return;
+                }
+                view = views.next();
+            }
+            ByteBuffer writing = view;
+            try {
+                channel.write(writing, offset, null, new CompletionHandler<Integer, Void>() {
+                    @Override
+                    public void completed(Integer count, Void attachment) {
+                        writeFully(views, writing, offset + count, done);
+                    }
+
+                    @Override
+                    public void failed(Throwable e, Void attachment) {
+                        fail(e);
+                        done.success();
+                    }
+                });
+            } catch (RuntimeException e) {
+                fail(e);
+                done.success();
+            }
+        }
+
+        private void fail(Throwable e) {
+            if (!failed) {
+                failed = true;
+                log.warn("콘텐츠 캐시 파일을 쓰지 못해 캐시하지 않습니다: {} ({})", file, e.getMessage());
+                abandon();
+            }
+        }
+
+        /**
+         * 파일을 닫습니다.
+         *
+         * @return 본문을 모두 써서 인덱스에 추가할 수 있으면 true (아니면 파일을 지움)
+         */
+        private boolean finish(long contentLength) {
+            close();
+            if (!failed && position == contentLength) {
+                return true;
+            }
+            store.discard(file);
+            return false;
+        }
+
+        /**
+         * 끝까지 쓰지 못한 파일을 닫고 지웁니다. (업스트림 오류, 클라이언트 연결 종료, 쓰기 실패)
+         */
+        private void abandon() {
+            close();
+            store.discard(file);
+        }
+
+        private void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("콘텐츠 캐시 파일을 닫지 못했습니다. ({})", e.getMessage());
+            }
+        }
+    }
+}
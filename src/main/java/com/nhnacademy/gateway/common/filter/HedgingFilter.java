@@ -0,0 +1,142 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.hedge.HedgeDelayEstimator;
+import com.nhnacademy.gateway.common.hedge.RequestHedger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * <h2>GET 요청 hedging 대상 지정 필터.</h2>
+ *
+ * <p>본문이 없는 GET 요청 중 설정한 경로에 해당하는 요청에 이 라우트의 hedging 정책을 exchange 속성으로 남깁니다.
+ * 실제 두 번째 요청은 라우팅 필터({@link BackendRoutingFilter})가 {@link RequestHedger}로 보냅니다.
+ * 첫 번째 요청이 라우트의 최근 응답 시간 백분위({@link HedgeDelayEstimator}) 안에 응답하지 않으면 다른 인스턴스로
+ * 같은 요청을 한 번 더 보내고, 먼저 응답한 쪽을 사용합니다.</p>
+ *
+ * <p>결과는 {@value #METRIC_NAME}{@code {route, result=hedged|won|budget-exhausted}} 카운터로,
+ * 현재 대기 시간은 {@value #DELAY_METRIC}{@code {route}} 지표로 기록됩니다.</p>
+ */
+public class HedgingFilter implements GatewayFilter {
+
+    /**
+     * hedging 정책(이 필터)을 라우팅 필터에 전달하는 exchange 속성 이름
+     */
+    public static final String HEDGING_ATTR = HedgingFilter.class.getName() + ".policy";
+
+    /**
+     * hedging 결과 메트릭 이름
+     */
+    public static final String METRIC_NAME = "gateway.hedging.requests";
+
+    static final String DELAY_METRIC = "gateway.hedging.delay";
+
+    private final String routeId;
+
+    private final List<PathPattern> paths;
+
+    private final HedgeDelayEstimator delayEstimator;
+
+    private final Counter hedgedCounter;
+
+    private final Counter wonCounter;
+
+    private final Counter budgetExhaustedCounter;
+
+    /**
+     * @param routeId        라우트 ID
+     * @param pathPatterns   hedging할 경로 패턴 목록 (비어 있으면 라우트 전체)
+     * @param delayEstimator 라우트의 hedging 대기 시간 계산기
+     * @param meterRegistry  메트릭 등록 대상
+     */
+    public HedgingFilter(String routeId, List<String> pathPatterns, HedgeDelayEstimator delayEstimator,
+                         MeterRegistry meterRegistry) {
+        this.routeId = routeId;
+        this.paths = pathPatterns.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.delayEstimator = delayEstimator;
+        this.hedgedCounter = counter(meterRegistry, "hedged");
+        this.wonCounter = counter(meterRegistry, "won");
+        this.budgetExhaustedCounter = counter(meterRegistry, "budget-exhausted");
+        Gauge.builder(DELAY_METRIC, delayEstimator, estimator -> estimator.delay().toNanos() / 1_000_000.0)
+                .description("두 번째 요청을 보내기 전까지 기다리는 시간")
+                .tag("route", routeId)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("GET 요청 hedging 결과")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() == HttpMethod.GET && !hasBody(request.getHeaders()) && matches(request)) {
+            exchange.getAttributes().put(HEDGING_ATTR, this);
+        }
+        return chain.filter(exchange);
+    }
+
+    /**
+     * 라우트의 hedging 대기 시간 계산기
+     */
+    public HedgeDelayEstimator delayEstimator() {
+        return delayEstimator;
+    }
+
+    /**
+     * 두 번째 요청을 보냈음을 기록합니다.
+     */
+    public void onHedged() {
+        hedgedCounter.increment();
+    }
+
+    /**
+     * 두 번째 요청이 먼저 응답했음을 기록합니다.
+     */
+    public void onHedgeWon() {
+        wonCounter.increment();
+    }
+
+    /**
+     * 대기 시간이 지났지만 예산이 없어 두 번째 요청을 보내지 못했음을 기록합니다.
+     */
+    public void onBudgetExhausted() {
+        budgetExhaustedCounter.increment();
+    }
+
+    private boolean matches(ServerHttpRequest request) {
+        if (paths.isEmpty()) {
+            return true;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasBody(HttpHeaders headers) {
+        return headers.getContentLength() > 0 || headers.containsKey(HttpHeaders.TRANSFER_ENCODING);
+    }
+}
@@ -1,11 +1,17 @@
 package com.nhnacademy.gateway.common.filter;
 
+import com.nhnacademy.gateway.common.metrics.GatewayLatencyMetrics;
+import com.nhnacademy.gateway.common.metrics.GatewayLatencyMetrics.RouteTimers;
+import com.nhnacademy.gateway.common.metrics.LatencyStage;
+import com.nhnacademy.gateway.common.util.AccessTokenExtractor;
 import com.nhnacademy.gateway.common.util.JwtUtil;
+import com.nhnacademy.gateway.common.util.TokenVerification;
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
-import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
@@ -16,8 +22,9 @@ import java.util.Objects;
 /**
  * <h2>JWT 인증 필터.</h2>
  *
- * <p>Spring Cloud Gateway의 커스텀 필터로, 요청 쿠키에서 JWT를 추출해 유효성을 검증하고,
- * 유효한 경우 사용자 ID를 {@code X-User-Id} 헤더에 추가하여 다음 서비스로 전달합니다.</p>
+ * <p>Spring Cloud Gateway의 커스텀 필터로, 요청 쿠키(없으면 {@code Authorization: Bearer} 헤더)에서 JWT를 추출해 유효성을 검증하고,
+ * 유효한 경우 사용자 ID를 {@code X-User-Id} 헤더에, 권한을 {@code X-User-Role} 헤더에 추가하여 다음 서비스로 전달합니다.
+ * 하위 서비스는 이 헤더로 권한을 확인할 수 있으므로 권한을 따로 조회하지 않아도 됩니다.</p>
  *
  * <h3>동작 방식</h3>
  * <ul>
@@ -25,15 +32,18 @@ import java.util.Objects;
  *         <ul>
  *             <li>토큰에서 userId 클레임 추출</li>
  *             <li>추출한 userId를 {@code X-User-Id} 헤더에 추가</li>
+ *             <li>{@code role} 클레임을 쉼표로 이어 {@code X-User-Role} 헤더에 추가 (권한이 없으면 헤더 제거)</li>
  *         </ul>
  *     </li>
  *     <li>토큰이 없거나 유효하지 않은 경우:
  *         <ul>
- *             <li>요청을 수정하지 않고 그대로 다음 필터로 전달</li>
+ *             <li>요청을 수정하지 않고 그대로 다음 필터로 전달 (클라이언트가 보낸 {@code X-User-Id}, {@code X-User-Role} 헤더만 제거)</li>
  *         </ul>
  *     </li>
  * </ul>
  *
+ * <p>토큰 추출, 토큰 검증, 헤더 수정 단계의 소요 시간은 {@link GatewayLatencyMetrics}에 라우트별로 기록됩니다.</p>
+ *
  * @author Rayhke
  */
 @Slf4j
@@ -41,31 +51,81 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class JwtAuthorizationFilter implements GatewayFilter {
 
+    /**
+     * 검증된 {@link VerifiedPrincipal}을 뒤따르는 필터에 전달하는 exchange 속성 이름
+     */
+    public static final String PRINCIPAL_ATTR = JwtAuthorizationFilter.class.getName() + ".principal";
+
+    /**
+     * 검증된 사용자 ID를 전달하는 요청 헤더
+     */
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    /**
+     * 검증된 권한 목록(쉼표로 구분)을 전달하는 요청 헤더
+     */
+    public static final String USER_ROLE_HEADER = "X-User-Role";
+
     /**
      * JWT 유틸리티 (토큰 검증 및 클레임 추출)
      */
     private final JwtUtil jwtUtil;
 
+    /**
+     * 요청 헤더에서 액세스 토큰을 추출하는 컴포넌트
+     */
+    private final AccessTokenExtractor accessTokenExtractor;
+
+    /**
+     * 라우트/처리 단계별 지연 시간 메트릭
+     */
+    private final GatewayLatencyMetrics latencyMetrics;
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        // access_token 쿠키 조회
-        List<HttpCookie> cookies = exchange.getRequest().getCookies().get("accessToken");
-        if (Objects.isNull(cookies) || cookies.isEmpty()) {
-            // 토큰이 없으면, 원본 요청을 그대로 전달
-            return chain.filter(exchange);
+        RouteTimers timers = latencyMetrics.forExchange(exchange);
+        long startNanos = System.nanoTime();
+
+        // accessToken 쿠키(없으면 Authorization: Bearer) 조회
+        String token = accessTokenExtractor.extract(exchange.getRequest());
+        long extractedNanos = timers.record(LatencyStage.TOKEN_EXTRACTION, startNanos);
+        if (Objects.isNull(token)) {
+            // 토큰이 없으면, 원본 요청을 그대로 전달 (하위 서비스가 신뢰하는 사용자/권한 헤더는 위조할 수 없도록 제거)
+            HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+            if (!requestHeaders.containsKey(USER_ID_HEADER) && !requestHeaders.containsKey(USER_ROLE_HEADER)) {
+                return chain.filter(exchange);
+            }
+            return chain.filter(exchange.mutate()
+                    .request(builder -> builder.headers(headers -> {
+                        headers.remove(USER_ID_HEADER);
+                        headers.remove(USER_ROLE_HEADER);
+                    }))
+                    .build());
         }
 
-        String token = cookies.getFirst().getValue();
+        // 한 번의 파싱으로 서명/만료 검증 및 userId 추출 (변조 또는 잘못된 토큰이면 미리 만들어 둔 예외로 에러 신호)
+        TokenVerification verification = jwtUtil.tryVerify(token);
+        long verifiedNanos = timers.record(LatencyStage.TOKEN_VERIFICATION, extractedNanos);
+        if (!verification.valid()) {
+            return Mono.error(verification.exception());
+        }
 
-        // 토큰이 변조 또는 잘못 되었을 경우 throw를 던지는 validate실행
-        jwtUtil.validateToken(token);
-        // userId 클레임 추출
-        String userId = jwtUtil.getUserId(token);
+        VerifiedPrincipal principal = verification.principal();
+        exchange.getAttributes().put(PRINCIPAL_ATTR, principal);
 
-        // 커스텀 헤더에 userId 담아서 요청 객체 수정
+        // 커스텀 헤더에 userId와 권한 담아서 요청 객체 수정
         ServerWebExchange mutatedExchange = exchange.mutate()
-                .request(builder -> builder.header("X-User-Id", userId))
+                .request(builder -> builder.headers(headers -> {
+                    headers.set(USER_ID_HEADER, principal.userId());
+                    List<String> roles = principal.roles();
+                    if (roles.isEmpty()) {
+                        headers.remove(USER_ROLE_HEADER);
+                    } else {
+                        headers.set(USER_ROLE_HEADER, roles.size() == 1 ? roles.get(0) : String.join(",", roles));
+                    }
+                }))
                 .build();
+        timers.record(LatencyStage.HEADER_MUTATION, verifiedNanos);
 
         // 수정된 요청 전달
         return chain.filter(mutatedExchange);
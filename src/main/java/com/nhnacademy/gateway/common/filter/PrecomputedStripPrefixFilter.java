@@ -0,0 +1,44 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.route.PathRouteTrie;
+import com.nhnacademy.gateway.common.route.RouteMatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.addOriginalRequestUrl;
+
+/**
+ * <h2>트라이 매칭 결과를 이용한 prefix 제거 필터.</h2>
+ *
+ * <p>{@code stripPrefix(1)}과 같이 요청 경로의 첫 번째 세그먼트를 제거하지만,
+ * 경로를 다시 분할하지 않고 {@link PathRouteTrie}가 라우트를 결정할 때 계산해 둔
+ * 세그먼트 위치({@link RouteMatch#firstSegmentEnd()})를 그대로 사용합니다.</p>
+ */
+@RequiredArgsConstructor
+public class PrecomputedStripPrefixFilter implements GatewayFilter {
+
+    /**
+     * 라우트를 결정한 트라이
+     */
+    private final PathRouteTrie trie;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        addOriginalRequestUrl(exchange, request.getURI());
+
+        String strippedPath = trie.resolve(exchange).strippedPath();
+        ServerHttpRequest newRequest = request.mutate()
+                .path(strippedPath)
+                .build();
+
+        exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, newRequest.getURI());
+
+        return chain.filter(exchange.mutate().request(newRequest).build());
+    }
+}
@@ -0,0 +1,295 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <h2>동일 GET 요청 병합(single-flight) 필터.</h2>
+ *
+ * <p>같은 라우트, 경로, 쿼리, 사용자({@code X-User-Id}) 범위이고 콘텐츠 협상 헤더({@code Accept},
+ * {@code Accept-Encoding}, {@code Origin})가 같은 GET 요청이 동시에 들어오면 먼저 온 요청 하나만 업스트림으로 보내고,
+ * 나머지 요청은 그 응답을 기다렸다가 같은 상태 코드/헤더/본문으로 응답합니다. 기다리던 요청의 응답에 이미 있는 헤더는
+ * 덮어쓰지 않습니다. 먼저 온 요청의 응답은 그대로 스트리밍하면서 본문 복사본만 모읍니다.</p>
+ *
+ * <p>조건부 요청({@code If-None-Match}, {@code If-Modified-Since} 등)과 범위 요청({@code Range})은
+ * 응답(304, 206)이 요청마다 달라지므로 병합하지 않습니다.
+ * 아래 경우에는 응답을 공유하지 않고, 기다리던 요청이 각자 업스트림을 호출합니다.</p>
+ * <ul>
+ *     <li>상태 코드가 {@code 200 OK}가 아닌 응답</li>
+ *     <li>본문이 {@code max-shared-body-size}보다 큰 응답</li>
+ *     <li>{@code Set-Cookie}가 있는 응답, 스트리밍 응답</li>
+ *     <li>업스트림 오류 등으로 응답 본문을 받지 못한 경우</li>
+ * </ul>
+ *
+ * <p>병합 결과는 {@value #METRIC_NAME}{@code {route, result=leader|collapsed|fallback}} 카운터로 기록됩니다.
+ * 사용자 범위를 구분하려면 라우트에서 {@link JwtAuthorizationFilter} 뒤에 등록해야 합니다.
+ * 스트리밍 경로({@link StreamingBodyFilter}) 요청은 병합하지 않습니다.</p>
+ */
+public class RequestCoalescingFilter implements GatewayFilter {
+
+    /**
+     * 병합 결과 메트릭 이름
+     */
+    public static final String METRIC_NAME = "gateway.coalescing.requests";
+
+    /**
+     * 업스트림 응답 표현을 바꿀 수 있어 병합 키에 포함하는 요청 헤더
+     */
+    private static final List<String> KEY_HEADERS =
+            List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ORIGIN);
+
+    /**
+     * 응답이 요청마다 달라져 병합하지 않는 조건부/범위 요청 헤더
+     */
+    private static final List<String> BYPASS_HEADERS = List.of(
+            HttpHeaders.IF_NONE_MATCH,
+            HttpHeaders.IF_MODIFIED_SINCE,
+            HttpHeaders.IF_MATCH,
+            HttpHeaders.IF_UNMODIFIED_SINCE,
+            HttpHeaders.IF_RANGE,
+            HttpHeaders.RANGE
+    );
+
+    private final String routeId;
+
+    private final List<PathPattern> paths;
+
+    private final int maxSharedBodyBytes;
+
+    private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderCounter;
+
+    private final Counter collapsedCounter;
+
+    private final Counter fallbackCounter;
+
+    /**
+     * @param routeId            라우트 ID
+     * @param pathPatterns       병합할 경로 패턴 목록 (비어 있으면 라우트 전체)
+     * @param maxSharedBodyBytes 공유할 수 있는 응답 본문의 최대 크기
+     * @param meterRegistry      메트릭 등록 대상
+     */
+    public RequestCoalescingFilter(String routeId, List<String> pathPatterns, int maxSharedBodyBytes,
+                                   MeterRegistry meterRegistry) {
+        this.routeId = routeId;
+        this.paths = pathPatterns.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.maxSharedBodyBytes = maxSharedBodyBytes;
+        this.leaderCounter = counter(meterRegistry, "leader");
+        this.collapsedCounter = counter(meterRegistry, "collapsed");
+        this.fallbackCounter = counter(meterRegistry, "fallback");
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("동일 GET 요청 병합 결과")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET || isConditional(request) || !matches(request)
+                || StreamingBodyFilter.isStreaming(exchange)) {
+            return chain.filter(exchange);
+        }
+
+        String key = flightKey(exchange);
+        Flight flight = new Flight(key);
+        Flight existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            return existing.result.asMono()
+                    .flatMap(shared -> {
+                        if (shared == SharedResponse.NOT_SHARED) {
+                            fallbackCounter.increment();
+                            return chain.filter(exchange);
+                        }
+                        collapsedCounter.increment();
+                        return write(exchange.getResponse(), shared);
+                    });
+        }
+
+        leaderCounter.increment();
+        return chain.filter(exchange.mutate()
+                        .response(new LeaderResponseDecorator(exchange.getResponse(), flight))
+                        .build())
+                .doFinally(signal -> flight.abandon());
+    }
+
+    private static boolean isConditional(ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        for (String name : BYPASS_HEADERS) {
+            if (headers.containsKey(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(ServerHttpRequest request) {
+        if (paths.isEmpty()) {
+            return true;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 사용자 범위(검증된 사용자 ID, 없으면 익명)와 경로, 쿼리, 콘텐츠 협상 헤더로 병합 키를 만듭니다.
+     */
+    static String flightKey(ServerWebExchange exchange) {
+        VerifiedPrincipal principal = exchange.getAttribute(JwtAuthorizationFilter.PRINCIPAL_ATTR);
+        String scope = (principal == null) ? "" : principal.userId();
+        URI uri = exchange.getRequest().getURI();
+        String query = uri.getRawQuery();
+
+        StringBuilder key = new StringBuilder(scope.length() + uri.getRawPath().length() + 32)
+                .append(scope).append('|').append(uri.getRawPath());
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        for (String name : KEY_HEADERS) {
+            List<String> values = headers.get(name);
+            key.append('|');
+            if (values != null) {
+                key.append(String.join(",", values));
+            }
+        }
+        return key.toString();
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        // 기다리던 요청의 필터가 이미 설정한 헤더(CORS, 추적 ID 등)는 유지
+        HttpHeaders headers = response.getHeaders();
+        shared.headers().forEach((name, values) -> {
+            if (!headers.containsKey(name)) {
+                headers.addAll(name, values);
+            }
+        });
+        headers.setContentLength(shared.length());
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(ByteBuffer.wrap(shared.body(), 0, shared.length()))));
+    }
+
+    /**
+     * 대기 중인 요청에 전달되는 응답.
+     */
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, int length) {
+
+        /**
+         * 응답을 공유할 수 없어 각자 업스트림을 호출해야 함을 나타내는 값
+         */
+        private static final SharedResponse NOT_SHARED = new SharedResponse(null, null, null, 0);
+    }
+
+    /**
+     * 진행 중인 업스트림 호출 하나. 응답을 공유할 수 없으면 {@link SharedResponse#NOT_SHARED}로 완료됩니다.
+     */
+    private final class Flight {
+
+        private final String key;
+
+        private final Sinks.One<SharedResponse> result = Sinks.one();
+
+        private Flight(String key) {
+            this.key = key;
+        }
+
+        private void complete(SharedResponse response) {
+            // 완료 후 들어오는 요청은 새 호출을 시작하도록 먼저 제거
+            inFlight.remove(key, this);
+            result.tryEmitValue(response);
+        }
+
+        private void abandon() {
+            inFlight.remove(key, this);
+            result.tryEmitValue(SharedResponse.NOT_SHARED);
+        }
+    }
+
+    /**
+     * 먼저 온 요청의 응답을 그대로 전달하면서 공유할 본문 복사본을 모으는 응답 데코레이터.
+     */
+    private final class LeaderResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final Flight flight;
+
+        private LeaderResponseDecorator(ServerHttpResponse delegate, Flight flight) {
+            super(delegate);
+            this.flight = flight;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            HttpStatusCode status = getStatusCode();
+            // 304, 206, 오류 응답 등은 기다리던 요청에 맞지 않을 수 있으므로 200 OK만 공유
+            if (status == null || status.value() != HttpStatus.OK.value()
+                    || headers.containsKey(HttpHeaders.SET_COOKIE)
+                    || headers.getContentLength() > maxSharedBodyBytes) {
+                flight.abandon();
+                return super.writeWith(body);
+            }
+
+            // 바깥 데코레이터(응답 압축 등)가 헤더를 바꾸기 전의 업스트림 헤더를 공유
+            HttpHeaders shared = new HttpHeaders();
+            shared.putAll(headers);
+            shared.remove(HttpHeaders.CONTENT_LENGTH);
+            shared.remove(HttpHeaders.TRANSFER_ENCODING);
+
+            BodyCollector collector = new BodyCollector(maxSharedBodyBytes, headers.getContentLength());
+            return super.writeWith(Flux.from(body)
+                    .doOnNext(collector::append)
+                    .doOnComplete(() -> {
+                        if (collector.overflowed()) {
+                            flight.abandon();
+                            return;
+                        }
+                        flight.complete(new SharedResponse(status, HttpHeaders.readOnlyHttpHeaders(shared),
+                                collector.bytes(), collector.length()));
+                    }));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            flight.abandon();
+            return super.writeAndFlushWith(body);
+        }
+    }
+}
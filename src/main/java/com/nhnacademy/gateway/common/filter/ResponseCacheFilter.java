@@ -0,0 +1,324 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.cache.CachedResponse;
+import com.nhnacademy.gateway.common.cache.ResponseCache;
+import com.nhnacademy.gateway.common.config.ResponseCacheProperties;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>응답 캐시 필터.</h2>
+ *
+ * <p>자주 바뀌지 않는 공개 참조 데이터의 GET 응답을 {@link ResponseCache}에 보관하고, 같은 요청은 업스트림을 거치지 않고
+ * 게이트웨이에서 바로 응답합니다. 캐시된 응답의 ETag와 요청의 {@code If-None-Match}가 일치하면 본문 없이
+ * {@code 304 Not Modified}로 응답합니다.</p>
+ *
+ * <h3>캐시 조건</h3>
+ * <ul>
+ *     <li>{@code 200 OK}이고 {@code Set-Cookie}, {@code Content-Encoding}, {@code Vary: *}가 없는 응답</li>
+ *     <li>{@code Cache-Control}이 있고 {@code no-store}, {@code no-cache}, {@code private}가 없는 응답
+ *         ({@code s-maxage}/{@code max-age}를 보관 시간으로 사용하고, 둘 다 없으면 {@code public}일 때만
+ *         {@code default-ttl} 동안 보관, 최대 {@code max-ttl})</li>
+ *     <li>본문이 {@code max-entry-size} 이하인 응답</li>
+ * </ul>
+ *
+ * <p>응답에 {@code Vary}가 있으면 나열된 요청 헤더 값을 함께 저장하고, 값이 같은 요청에만 캐시된 응답을 사용합니다.
+ * 값이 다른 요청은 업스트림으로 보내고 그 응답으로 캐시를 갱신합니다.</p>
+ *
+ * <p>업스트림 응답 본문은 클라이언트로 그대로 스트리밍하면서 복사본만 모으므로, 캐시 저장 때문에 응답이 지연되지 않습니다.
+ * 요청에 {@code Cache-Control: no-cache}가 있으면 캐시를 조회하지 않고 업스트림 응답으로 캐시를 갱신합니다.
+ * 응답에는 {@code X-Cache: HIT|MISS} 헤더가 추가됩니다.</p>
+ *
+ * <p>사용자별 응답이 섞이지 않도록 인증이 필요 없는 라우트에만 등록합니다.
+ * 스트리밍 경로({@link StreamingBodyFilter}) 요청은 캐시하지 않습니다.</p>
+ */
+public class ResponseCacheFilter implements GatewayFilter {
+
+    /**
+     * 캐시 적중 여부를 알리는 응답 헤더
+     */
+    static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    /**
+     * 캐시된 응답에 다시 실어 보내는 헤더
+     */
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_LANGUAGE,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.EXPIRES,
+            HttpHeaders.VARY
+    );
+
+    private final ResponseCache responseCache;
+
+    private final List<PathPattern> paths;
+
+    /**
+     * @param responseCache 응답 캐시 저장소
+     * @param pathPatterns  캐시할 경로 패턴 목록 (비어 있으면 라우트 전체)
+     */
+    public ResponseCacheFilter(ResponseCache responseCache, List<String> pathPatterns) {
+        this.responseCache = responseCache;
+        this.paths = pathPatterns.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET || !matches(request) || StreamingBodyFilter.isStreaming(exchange)) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(request.getURI());
+        if (!hasDirective(request.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL), "no-cache")) {
+            CachedResponse cached = responseCache.get(key);
+            if (cached != null && cached.matches(request.getHeaders())) {
+                return writeCached(exchange, cached);
+            }
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+        return chain.filter(exchange.mutate()
+                .response(new CachingResponseDecorator(response, key, request.getHeaders()))
+                .build());
+    }
+
+    private boolean matches(ServerHttpRequest request) {
+        if (paths.isEmpty()) {
+            return true;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시된 응답을 씁니다. 조건부 요청의 ETag가 일치하면 본문 없이 304로 응답합니다.
+     */
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.set(HttpHeaders.AGE, Long.toString(cached.ageSeconds()));
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+
+        if (etagMatches(exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        ByteBuffer body = cached.body().duplicate();
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(body.remaining());
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * 응답의 캐시 보관 시간을 계산합니다.
+     *
+     * @return 보관 시간(나노초), 캐시하지 않을 응답이면 0
+     */
+    private long ttlNanos(HttpStatusCode status, HttpHeaders headers) {
+        ResponseCacheProperties properties = responseCache.properties();
+        if (status == null || status.value() != HttpStatus.OK.value()
+                || headers.containsKey(HttpHeaders.SET_COOKIE)
+                || headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+                || headers.getVary().contains("*")
+                || headers.getContentLength() > properties.maxEntrySize().toBytes()) {
+            return 0;
+        }
+
+        // 업스트림이 캐시를 허용하지 않은 응답(Cache-Control 없음)은 사용자별 응답일 수 있으므로 보관하지 않음
+        String cacheControl = headers.getFirst(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl == null || hasDirective(cacheControl, "no-store") || hasDirective(cacheControl, "no-cache")
+                || hasDirective(cacheControl, "private")) {
+            return 0;
+        }
+
+        long maxAgeSeconds = maxAgeSeconds(cacheControl);
+        long maxTtlNanos = properties.maxTtl().toNanos();
+        if (maxAgeSeconds < 0) {
+            return hasDirective(cacheControl, "public") ? Math.min(properties.defaultTtl().toNanos(), maxTtlNanos) : 0;
+        }
+        return Math.min(TimeUnit.SECONDS.toNanos(maxAgeSeconds), maxTtlNanos);
+    }
+
+    private void store(String key, HttpHeaders requestHeaders, HttpHeaders responseHeaders, BodyCollector collector,
+                       long ttlNanos) {
+        if (collector.overflowed()) {
+            return;
+        }
+
+        ByteBuffer body = responseCache.allocateBody(collector.bytes(), collector.length());
+        String etag = responseHeaders.getETag();
+        if (etag == null) {
+            etag = computeEtag(collector.bytes(), collector.length());
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : STORED_HEADERS) {
+            List<String> values = responseHeaders.get(name);
+            if (values != null) {
+                headers.put(name, values);
+            }
+        }
+        headers.setETag(etag);
+
+        responseCache.put(key, new CachedResponse(HttpHeaders.readOnlyHttpHeaders(headers), body, etag,
+                System.nanoTime(), ttlNanos, varyHeaders(requestHeaders, responseHeaders)));
+    }
+
+    /**
+     * 응답의 {@code Vary}에 나열된 요청 헤더의 값을 모읍니다. (요청에 없는 헤더는 빈 값)
+     */
+    private static HttpHeaders varyHeaders(HttpHeaders requestHeaders, HttpHeaders responseHeaders) {
+        HttpHeaders varyHeaders = new HttpHeaders();
+        for (String name : responseHeaders.getVary()) {
+            List<String> values = requestHeaders.get(name);
+            varyHeaders.put(name, (values == null) ? List.of() : List.copyOf(values));
+        }
+        return HttpHeaders.readOnlyHttpHeaders(varyHeaders);
+    }
+
+    static String cacheKey(URI uri) {
+        String query = uri.getRawQuery();
+        return (query == null) ? uri.getRawPath() : uri.getRawPath() + '?' + query;
+    }
+
+    /**
+     * {@code If-None-Match} 헤더가 ETag와 일치하는지 약한 비교(weak comparison)로 확인합니다.
+     */
+    static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String target = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if ("*".equals(trimmed) || stripWeak(trimmed).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    static boolean hasDirective(String cacheControl, String directive) {
+        if (cacheControl == null) {
+            return false;
+        }
+        for (String token : cacheControl.split(",")) {
+            String trimmed = token.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.equals(directive) || trimmed.startsWith(directive + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code s-maxage}(우선) 또는 {@code max-age} 값을 초 단위로 반환합니다. 없거나 잘못된 값이면 -1.
+     */
+    static long maxAgeSeconds(String cacheControl) {
+        if (cacheControl == null) {
+            return -1;
+        }
+        long maxAge = -1;
+        for (String token : cacheControl.split(",")) {
+            String trimmed = token.trim().toLowerCase(Locale.ROOT);
+            try {
+                if (trimmed.startsWith("s-maxage=")) {
+                    return Long.parseLong(trimmed.substring("s-maxage=".length()));
+                }
+                if (trimmed.startsWith("max-age=")) {
+                    maxAge = Long.parseLong(trimmed.substring("max-age=".length()));
+                }
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return maxAge;
+    }
+
+    private static String computeEtag(byte[] bytes, int length) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(bytes, 0, length);
+            return '"' + HexFormat.of().formatHex(digest.digest(), 0, 16) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 업스트림 응답을 클라이언트로 그대로 전달하면서 본문 복사본을 모아 캐시에 저장하는 응답 데코레이터.
+     */
+    private final class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final String key;
+
+        private final HttpHeaders requestHeaders;
+
+        private CachingResponseDecorator(ServerHttpResponse delegate, String key, HttpHeaders requestHeaders) {
+            super(delegate);
+            this.key = key;
+            this.requestHeaders = requestHeaders;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            long ttlNanos = ttlNanos(getStatusCode(), headers);
+            if (ttlNanos <= 0) {
+                return super.writeWith(body);
+            }
+
+            // 바깥 데코레이터(응답 압축 등)가 헤더를 바꾸기 전의 업스트림 헤더를 저장
+            HttpHeaders upstreamHeaders = new HttpHeaders();
+            upstreamHeaders.putAll(headers);
+
+            BodyCollector collector = new BodyCollector(
+                    (int) responseCache.properties().maxEntrySize().toBytes(), headers.getContentLength());
+            return super.writeWith(Flux.from(body)
+                    .doOnNext(collector::append)
+                    .doOnComplete(() -> store(key, requestHeaders, upstreamHeaders, collector, ttlNanos)));
+        }
+    }
+}
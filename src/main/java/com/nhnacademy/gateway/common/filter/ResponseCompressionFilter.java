@@ -0,0 +1,361 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.config.CompressionProperties;
+import com.nhnacademy.gateway.common.util.DeflaterPool;
+import com.nhnacademy.gateway.common.util.StreamingGzipEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>응답 압축 필터.</h2>
+ *
+ * <p>업스트림 응답 본문을 조각 단위로 gzip 압축해 클라이언트로 스트리밍합니다. 전체 본문을 모으지 않으므로
+ * 큰 응답도 첫 바이트가 늦어지지 않고, 응답 하나가 사용하는 메모리는 압축기의 창 크기로 제한됩니다.
+ * 압축기는 {@link DeflaterPool}에서 빌려 재사용하고, 압축 결과는 응답의 버퍼 팩토리(Netty 풀 버퍼)에서 할당한
+ * 버퍼에 바로 씁니다.</p>
+ *
+ * <h3>압축하지 않는 응답</h3>
+ * <ul>
+ *     <li>요청의 {@code Accept-Encoding}에 gzip이 없는 경우</li>
+ *     <li>{@code excluded-paths}에 해당하는 경로 (예: 이미지)와 스트리밍 경로({@link StreamingBodyFilter})</li>
+ *     <li>{@code 204}, {@code 206}, {@code 304} 응답과 HEAD 요청</li>
+ *     <li>이미 {@code Content-Encoding}이 있는 응답 (업스트림이 압축한 응답)</li>
+ *     <li>Content-Type이 {@code mime-types}에 없는 응답</li>
+ *     <li>{@code Content-Length}가 {@code min-response-size}보다 작은 응답</li>
+ * </ul>
+ *
+ * <p>압축한 응답은 {@code Content-Length}를 제거하고, 표현이 바뀌므로 ETag를 약한 ETag로 바꿉니다.
+ * 라우트별 원본/압축 바이트 수({@code gateway.compression.bytes}), 압축에 쓴 시간({@code gateway.compression.time}),
+ * 처리 결과별 응답 수({@code gateway.compression.responses})를 기록합니다.</p>
+ *
+ * <p>캐시/병합 필터가 압축 전 본문을 다루도록 라우트 필터 중 가장 먼저 등록합니다.</p>
+ */
+public class ResponseCompressionFilter implements GatewayFilter {
+
+    static final String BYTES_METRIC = "gateway.compression.bytes";
+
+    static final String TIME_METRIC = "gateway.compression.time";
+
+    static final String RESPONSES_METRIC = "gateway.compression.responses";
+
+    private static final String GZIP = "gzip";
+
+    /**
+     * 압축 결과를 담는 버퍼의 최소 초기 크기 (부족하면 늘어남)
+     */
+    private static final int ENCODED_BUFFER_SIZE = 1024;
+
+    private final List<PathPattern> excludedPaths;
+
+    private final long minResponseSize;
+
+    private final DeflaterPool deflaterPool;
+
+    private final List<MediaType> mimeTypes;
+
+    private final Counter inputBytes;
+
+    private final Counter outputBytes;
+
+    private final Timer encodeTime;
+
+    private final Map<Result, Counter> results = new EnumMap<>(Result.class);
+
+    /**
+     * @param routeId       라우트 ID (지표 태그)
+     * @param properties    압축 설정
+     * @param excludedPaths 압축하지 않을 경로 패턴 목록
+     * @param deflaterPool  압축기 풀 (라우트 사이에 공유)
+     * @param meterRegistry 지표 저장소
+     */
+    public ResponseCompressionFilter(String routeId, CompressionProperties properties, List<String> excludedPaths,
+                                     DeflaterPool deflaterPool, MeterRegistry meterRegistry) {
+        this.excludedPaths = excludedPaths.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.minResponseSize = properties.minResponseSize().toBytes();
+        this.deflaterPool = deflaterPool;
+        this.mimeTypes = properties.mimeTypes().stream()
+                .map(MediaType::parseMediaType)
+                .toList();
+
+        this.inputBytes = Counter.builder(BYTES_METRIC)
+                .description("압축 대상 응답의 원본/압축 후 바이트 수")
+                .baseUnit("bytes")
+                .tags("route", routeId, "direction", "in")
+                .register(meterRegistry);
+        this.outputBytes = Counter.builder(BYTES_METRIC)
+                .description("압축 대상 응답의 원본/압축 후 바이트 수")
+                .baseUnit("bytes")
+                .tags("route", routeId, "direction", "out")
+                .register(meterRegistry);
+        this.encodeTime = Timer.builder(TIME_METRIC)
+                .description("응답 하나를 압축하는 데 사용한 시간")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        for (Result result : Result.values()) {
+            results.put(result, Counter.builder(RESPONSES_METRIC)
+                    .description("응답 압축 처리 결과")
+                    .tags("route", routeId, "result", result.tagValue())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() == HttpMethod.HEAD) {
+            return chain.filter(exchange);
+        }
+        if (StreamingBodyFilter.isStreaming(exchange) || excluded(request.getPath().pathWithinApplication())) {
+            results.get(Result.EXCLUDED_PATH).increment();
+            return chain.filter(exchange);
+        }
+
+        boolean acceptsGzip = acceptsGzip(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+        return chain.filter(exchange.mutate()
+                .response(new CompressingResponseDecorator(exchange.getResponse(), acceptsGzip))
+                .build());
+    }
+
+    private boolean excluded(PathContainer path) {
+        for (PathPattern pattern : excludedPaths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code Accept-Encoding} 헤더가 gzip을 허용하는지 확인합니다. ({@code q=0}은 허용하지 않음)
+     */
+    static boolean acceptsGzip(List<String> acceptEncodings) {
+        if (acceptEncodings == null) {
+            return false;
+        }
+        for (String header : acceptEncodings) {
+            for (String token : header.split(",")) {
+                String[] parts = token.split(";");
+                String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+                if ((GZIP.equals(coding) || "*".equals(coding)) && qualityOf(parts) > 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 응답을 압축하지 않을 이유를 반환합니다.
+     *
+     * @return 압축하지 않을 이유, 압축할 응답이면 {@code null}
+     */
+    private Result skipReason(HttpStatusCode status, HttpHeaders headers) {
+        if (status == null || status.is1xxInformational() || status.value() == HttpStatus.NO_CONTENT.value()
+                || status.value() == HttpStatus.PARTIAL_CONTENT.value()
+                || status.value() == HttpStatus.NOT_MODIFIED.value()) {
+            return Result.STATUS;
+        }
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return Result.ENCODED;
+        }
+        if (!compressible(headers)) {
+            return Result.CONTENT_TYPE;
+        }
+        long contentLength = headers.getContentLength();
+        if (contentLength >= 0 && contentLength < minResponseSize) {
+            return Result.SMALL;
+        }
+        return null;
+    }
+
+    private boolean compressible(HttpHeaders headers) {
+        MediaType contentType;
+        try {
+            contentType = headers.getContentType();
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        if (contentType == null) {
+            return false;
+        }
+        for (MediaType mimeType : mimeTypes) {
+            if (mimeType.includes(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 본문 조각을 압축해 새 버퍼에 담고, 입력 버퍼는 해제합니다.
+     */
+    private static DataBuffer encode(StreamingGzipEncoder encoder, DataBuffer buffer, DataBufferFactory bufferFactory) {
+        DataBuffer encoded = bufferFactory.allocateBuffer(Math.max(ENCODED_BUFFER_SIZE, buffer.readableByteCount() / 4));
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                encoder.encode(iterator.next(), encoded);
+            }
+            return encoded;
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(encoded);
+            throw e;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * 남은 압축 결과와 gzip 트레일러를 새 버퍼에 담습니다.
+     */
+    private static DataBuffer finish(StreamingGzipEncoder encoder, DataBufferFactory bufferFactory) {
+        DataBuffer encoded = bufferFactory.allocateBuffer(ENCODED_BUFFER_SIZE);
+        try {
+            encoder.finish(encoded);
+            return encoded;
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(encoded);
+            throw e;
+        }
+    }
+
+    /**
+     * 응답 압축 처리 결과 ({@code result} 지표 태그)
+     */
+    private enum Result {
+        COMPRESSED,
+        NOT_ACCEPTED,
+        EXCLUDED_PATH,
+        STATUS,
+        ENCODED,
+        CONTENT_TYPE,
+        SMALL;
+
+        String tagValue() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    /**
+     * 응답 헤더를 보고 압축 여부를 정한 뒤, 본문을 조각 단위로 압축해 전달하는 응답 데코레이터.
+     */
+    private final class CompressingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final boolean acceptsGzip;
+
+        private CompressingResponseDecorator(ServerHttpResponse delegate, boolean acceptsGzip) {
+            super(delegate);
+            this.acceptsGzip = acceptsGzip;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            Result skipReason = skipReason(getStatusCode(), headers);
+            if (skipReason == null) {
+                // 같은 URL이라도 Accept-Encoding에 따라 응답이 달라짐을 중간 캐시에 알림
+                addVary(headers);
+                if (!acceptsGzip) {
+                    skipReason = Result.NOT_ACCEPTED;
+                }
+            }
+            if (skipReason != null) {
+                results.get(skipReason).increment();
+                return super.writeWith(body);
+            }
+
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            String etag = headers.getETag();
+            if (etag != null && !etag.startsWith("W/")) {
+                headers.setETag("W/" + etag);
+            }
+            results.get(Result.COMPRESSED).increment();
+
+            StreamingGzipEncoder encoder = new StreamingGzipEncoder(deflaterPool);
+            long[] encodeNanos = new long[1];
+            DataBufferFactory bufferFactory = bufferFactory();
+
+            Flux<DataBuffer> compressed = Flux.from(body)
+                    .map(buffer -> {
+                        long start = System.nanoTime();
+                        DataBuffer encoded = encode(encoder, buffer, bufferFactory);
+                        encodeNanos[0] += System.nanoTime() - start;
+                        return encoded;
+                    })
+                    .concatWith(Mono.fromSupplier(() -> {
+                        long start = System.nanoTime();
+                        DataBuffer encoded = finish(encoder, bufferFactory);
+                        encodeNanos[0] += System.nanoTime() - start;
+                        return encoded;
+                    }))
+                    .filter(encoded -> {
+                        if (encoded.readableByteCount() > 0) {
+                            return true;
+                        }
+                        DataBufferUtils.release(encoded);
+                        return false;
+                    })
+                    .doFinally(signal -> {
+                        inputBytes.increment(encoder.inputBytes());
+                        outputBytes.increment(encoder.outputBytes());
+                        encodeTime.record(encodeNanos[0], TimeUnit.NANOSECONDS);
+                        encoder.close();
+                    });
+            return super.writeWith(compressed);
+        }
+
+        private void addVary(HttpHeaders headers) {
+            List<String> vary = headers.getVary();
+            for (String value : vary) {
+                if (value.equalsIgnoreCase(HttpHeaders.ACCEPT_ENCODING) || "*".equals(value)) {
+                    return;
+                }
+            }
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.exception.ForbiddenException;
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import com.nhnacademy.gateway.common.route.RoleBitmask;
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * <h2>라우트별 권한 검사 필터.</h2>
+ *
+ * <p>{@link JwtAuthorizationFilter}가 검증한 토큰의 권한 중 하나라도 라우트의 필요 권한에 있으면 요청을 전달하고,
+ * 없으면 업스트림으로 보내지 않고 {@link ForbiddenException}(403)을 발생시킵니다. 토큰이 없는 요청은
+ * {@link UnauthorizedException}(401)으로 거부합니다.</p>
+ *
+ * <p>필요 권한은 생성 시 {@link RoleBitmask}로 마스크를 만들어 두고, 요청마다 토큰의 권한 목록을
+ * 한 번 마스크로 바꿔 비교합니다. 라우트에서 {@link JwtAuthorizationFilter} 뒤에 등록해야 합니다.</p>
+ */
+public class RoleAuthorizationFilter implements GatewayFilter {
+
+    static final String FORBIDDEN_MESSAGE = "요청한 경로에 접근할 권한이 없습니다.";
+
+    private final RoleBitmask roleBitmask;
+
+    /**
+     * 라우트의 필요 권한 마스크
+     */
+    private final long requiredMask;
+
+    /**
+     * @param roleBitmask   라우트 테이블에서 만든 권한별 비트 번호
+     * @param requiredRoles 라우트의 필요 권한 (하나라도 있으면 허용)
+     */
+    public RoleAuthorizationFilter(RoleBitmask roleBitmask, List<String> requiredRoles) {
+        this.roleBitmask = roleBitmask;
+        this.requiredMask = roleBitmask.maskOf(requiredRoles);
+        if (requiredMask == 0) {
+            throw new IllegalArgumentException("필요 권한이 라우트 테이블에 없습니다: " + requiredRoles);
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        VerifiedPrincipal principal = exchange.getAttribute(JwtAuthorizationFilter.PRINCIPAL_ATTR);
+        if (principal == null) {
+            return Mono.error(new UnauthorizedException(UnauthorizedException.EMPTY_TOKEN_MESSAGE));
+        }
+        if ((roleBitmask.maskOf(principal.roles()) & requiredMask) == 0) {
+            return Mono.error(new ForbiddenException(FORBIDDEN_MESSAGE));
+        }
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,142 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.exception.PayloadTooLargeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * <h2>스트리밍 경로 필터.</h2>
+ *
+ * <p>이미지/업로드처럼 큰 바이너리 본문이 오가는 경로를 스트리밍 경로로 표시하고, 요청 본문 크기를 제한합니다.
+ * 스트리밍 경로의 요청/응답 본문은 Netty가 읽은 풀 버퍼 그대로 업스트림과 클라이언트 사이를 오가며,
+ * 받는 쪽이 요청한 만큼만 읽으므로(backpressure) 느린 클라이언트 때문에 본문 전체가 힙에 쌓이지 않습니다.
+ * 이를 위해 본문을 모으거나 바꾸는 필터(응답 압축, 응답 캐시, 동일 GET 요청 병합)는
+ * {@link #isStreaming(ServerWebExchange)}인 요청을 그대로 통과시킵니다.</p>
+ *
+ * <h3>본문 크기 제한</h3>
+ * <ul>
+ *     <li>{@code Content-Length}가 최대 크기를 넘으면 본문을 읽기 전에 413으로 거절합니다.</li>
+ *     <li>{@code Content-Length}가 없는 요청(chunked)은 전달한 바이트 수를 세다가 최대 크기를 넘는 순간
+ *     업스트림 요청을 중단하고 413으로 응답합니다. 버퍼는 복사하지 않고 그대로 전달합니다.</li>
+ * </ul>
+ *
+ * <p>거절한 요청 수는 {@value #REJECTED_METRIC}{@code {route}} 카운터로 기록됩니다.
+ * 다른 필터보다 먼저 판단하도록 라우트 필터 중 가장 먼저 등록합니다.</p>
+ */
+public class StreamingBodyFilter implements GatewayFilter {
+
+    /**
+     * 스트리밍 경로 요청임을 표시하는 exchange 속성 이름
+     */
+    public static final String STREAMING_ATTR = StreamingBodyFilter.class.getName() + ".streaming";
+
+    static final String REJECTED_METRIC = "gateway.streaming.rejected";
+
+    private final List<PathPattern> paths;
+
+    private final long maxRequestSize;
+
+    private final Counter rejectedCounter;
+
+    /**
+     * @param routeId        라우트 ID (지표 태그)
+     * @param pathPatterns   스트리밍할 경로 패턴 목록 (비어 있으면 라우트 전체)
+     * @param maxRequestSize 요청 본문의 최대 크기 (바이트)
+     * @param meterRegistry  지표 저장소
+     */
+    public StreamingBodyFilter(String routeId, List<String> pathPatterns, long maxRequestSize,
+                               MeterRegistry meterRegistry) {
+        this.paths = pathPatterns.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.maxRequestSize = maxRequestSize;
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC)
+                .description("본문이 최대 크기를 넘어 거절한 스트리밍 경로 요청 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청이 스트리밍 경로 요청인지 확인합니다.
+     */
+    public static boolean isStreaming(ServerWebExchange exchange) {
+        return exchange.getAttribute(STREAMING_ATTR) != null;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!matches(request)) {
+            return chain.filter(exchange);
+        }
+
+        long contentLength = request.getHeaders().getContentLength();
+        if (contentLength > maxRequestSize) {
+            rejectedCounter.increment();
+            return Mono.error(new PayloadTooLargeException());
+        }
+        exchange.getAttributes().put(STREAMING_ATTR, Boolean.TRUE);
+
+        // Content-Length가 있으면 Netty가 그 이상 읽지 않으므로 길이를 모를 때만 전달한 바이트 수를 셈
+        if (contentLength >= 0) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate()
+                .request(new LimitedRequestDecorator(request))
+                .build());
+    }
+
+    private boolean matches(ServerHttpRequest request) {
+        if (paths.isEmpty()) {
+            return true;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 본문을 복사하지 않고 전달하면서, 최대 크기를 넘으면 오류로 끝내는 요청.
+     */
+    private final class LimitedRequestDecorator extends ServerHttpRequestDecorator {
+
+        private LimitedRequestDecorator(ServerHttpRequest delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> {
+                long[] received = {0};
+                return getDelegate().getBody().handle((buffer, sink) -> {
+                    received[0] += buffer.readableByteCount();
+                    if (received[0] > maxRequestSize) {
+                        DataBufferUtils.release(buffer);
+                        rejectedCounter.increment();
+                        sink.error(new PayloadTooLargeException());
+                        return;
+                    }
+                    sink.next(buffer);
+                });
+            });
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.metrics.GatewayLatencyMetrics;
+import com.nhnacademy.gateway.common.metrics.GatewayLatencyMetrics.RouteTimers;
+import com.nhnacademy.gateway.common.metrics.LatencyStage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 업스트림 time-to-first-byte 측정 필터.
+ *
+ * <p>{@link NettyRoutingFilter} 바로 앞에서 실행되어, 업스트림 요청을 시작한 시점부터
+ * 라우팅 필터가 완료되는 시점(업스트림 응답 헤더 수신)까지를
+ * {@link LatencyStage#UPSTREAM_FIRST_BYTE} 단계로 기록합니다.
+ * 응답 본문 전송은 이후 {@code NettyWriteResponseFilter}가 스트리밍하므로 포함되지 않습니다.</p>
+ *
+ * <p>업스트림 오류(연결 실패, 타임아웃)는 실패 시점까지 기록하고, 클라이언트가 취소한 요청은 기록하지 않습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamLatencyFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 라우팅 필터({@link NettyRoutingFilter#ORDER}) 및 웹소켓 라우팅 필터보다 먼저 실행
+     */
+    static final int ORDER = NettyRoutingFilter.ORDER - 2;
+
+    /**
+     * 기록한 업스트림 time-to-first-byte(나노초)를 접근 로그에 전달하는 exchange 속성 이름
+     */
+    public static final String UPSTREAM_LATENCY_ATTR = UpstreamLatencyFilter.class.getName() + ".latency";
+
+    private final GatewayLatencyMetrics latencyMetrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        RouteTimers timers = latencyMetrics.forExchange(exchange);
+        long startNanos = System.nanoTime();
+
+        // 취소된 요청은 doOnTerminate가 호출되지 않으므로 기록하지 않음
+        return chain.filter(exchange)
+                .doOnTerminate(() -> {
+                    long now = timers.record(LatencyStage.UPSTREAM_FIRST_BYTE, startNanos);
+                    exchange.getAttributes().put(UPSTREAM_LATENCY_ATTR, now - startNanos);
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
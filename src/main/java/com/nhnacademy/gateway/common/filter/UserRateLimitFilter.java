@@ -0,0 +1,66 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.exception.TooManyRequestsException;
+import com.nhnacademy.gateway.common.util.LocalRateLimiter;
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>사용자별 요청 제한 필터.</h2>
+ *
+ * <p>{@link JwtAuthorizationFilter}가 검증한 사용자 ID를 키로, 인증 정보가 없는 요청은 클라이언트 IP를 키로
+ * {@link LocalRateLimiter}의 버킷을 소비합니다. 한도를 넘은 요청은 업스트림으로 전달하지 않고
+ * {@code Retry-After} 헤더와 함께 {@link TooManyRequestsException}(429)을 발생시켜
+ * {@code GlobalErrorHandler}가 응답하도록 합니다.</p>
+ *
+ * <p>사용자 ID를 사용하려면 라우트에서 {@link JwtAuthorizationFilter} 뒤에 등록해야 합니다.</p>
+ */
+@RequiredArgsConstructor
+public class UserRateLimitFilter implements GatewayFilter {
+
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 라우트의 요청 제한기
+     */
+    private final LocalRateLimiter rateLimiter;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long retryAfterNanos = rateLimiter.tryAcquire(resolveKey(exchange));
+        if (retryAfterNanos == 0) {
+            return chain.filter(exchange);
+        }
+
+        long retryAfterSeconds = (retryAfterNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return Mono.error(new TooManyRequestsException());
+    }
+
+    /**
+     * 인증된 사용자는 사용자 ID, 그 외에는 클라이언트 IP를 키로 사용합니다.
+     */
+    static String resolveKey(ServerWebExchange exchange) {
+        VerifiedPrincipal principal = exchange.getAttribute(JwtAuthorizationFilter.PRINCIPAL_ATTR);
+        if (principal != null) {
+            return principal.userId();
+        }
+
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return UNKNOWN_CLIENT;
+        }
+        // 사용자 ID와 겹치지 않도록 IP 키는 접두사로 구분
+        return "ip:" + remoteAddress.getAddress().getHostAddress();
+    }
+}
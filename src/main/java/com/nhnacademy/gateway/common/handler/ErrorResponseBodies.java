@@ -0,0 +1,101 @@
+package com.nhnacademy.gateway.common.handler;
+
+import com.nhnacademy.gateway.common.exception.ServiceUnavailableException;
+import com.nhnacademy.gateway.common.exception.TooManyRequestsException;
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 미리 인코딩한 오류 응답 본문 저장소.
+ *
+ * <p>{@code {"status": 401, "message": "..."}} 형태의 JSON 본문을 상태 코드와 메시지별로 한 번만
+ * 이스케이프/인코딩해 읽기 전용 {@link ByteBuffer}로 보관합니다. 응답을 쓸 때는
+ * {@link ByteBuffer#duplicate()}로 위치만 분리해 같은 바이트 배열을 재사용합니다.</p>
+ *
+ * <p>예외 클래스에 정의된 고정 메시지는 생성 시 미리 등록하고, 그 외 메시지는 처음 사용될 때 등록합니다.
+ * 메시지 종류가 무한히 늘어나지 않도록 {@value #MAX_CACHED_BODIES}개를 넘으면 더 이상 보관하지 않고
+ * 요청마다 인코딩합니다.</p>
+ */
+final class ErrorResponseBodies {
+
+    static final int MAX_CACHED_BODIES = 256;
+
+    private final ConcurrentMap<BodyKey, ByteBuffer> bodies = new ConcurrentHashMap<>();
+
+    ErrorResponseBodies(int defaultStatusCode, String defaultMessage) {
+        register(defaultStatusCode, defaultMessage);
+        register(401, UnauthorizedException.EXPIRED_TOKEN_MESSAGE);
+        register(401, UnauthorizedException.EMPTY_TOKEN_MESSAGE);
+        register(401, UnauthorizedException.INVALID_INPUT_MESSAGE);
+        register(401, UnauthorizedException.MISSING_USER_ID_MESSAGE);
+        register(429, TooManyRequestsException.RATE_LIMITED_MESSAGE);
+        register(503, ServiceUnavailableException.OVERLOADED_MESSAGE);
+    }
+
+    /**
+     * 상태 코드와 메시지에 해당하는 본문을 반환합니다.
+     *
+     * @param statusCode HTTP 상태 코드
+     * @param message    오류 메시지
+     * @return 읽기 전용 본문 버퍼 (호출자마다 독립된 위치를 가짐)
+     */
+    ByteBuffer body(int statusCode, String message) {
+        BodyKey key = new BodyKey(statusCode, message);
+        ByteBuffer body = bodies.get(key);
+        if (body == null) {
+            body = encode(statusCode, message);
+            if (bodies.size() < MAX_CACHED_BODIES) {
+                ByteBuffer previous = bodies.putIfAbsent(key, body);
+                if (previous != null) {
+                    body = previous;
+                }
+            }
+        }
+        return body.duplicate();
+    }
+
+    private void register(int statusCode, String message) {
+        bodies.put(new BodyKey(statusCode, message), encode(statusCode, message));
+    }
+
+    private static ByteBuffer encode(int statusCode, String message) {
+        String json = "{\"status\": " + statusCode + ", \"message\": \"" + escapeJson(message) + "\"}";
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+    }
+
+    /**
+     * JSON 문자열 값으로 쓸 수 있도록 따옴표, 역슬래시, 제어 문자를 이스케이프합니다.
+     */
+    static String escapeJson(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+
+    private record BodyKey(int statusCode, String message) {
+    }
+}
@@ -1,17 +1,24 @@
 package com.nhnacademy.gateway.common.handler;
 
 import com.nhnacademy.gateway.common.exception.CommonHttpException;
+import com.nhnacademy.gateway.common.exception.ServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * <h2>GlobalErrorHandler</h2>
@@ -22,6 +29,7 @@ import java.nio.charset.StandardCharsets;
  * <h3>주요 기능</h3>
  * <ul>
  *     <li>공통 예외(CommonHttpException) 처리</li>
+ *     <li>프레임워크 예외(ResponseStatusException)는 예외의 상태 코드로 응답</li>
  *     <li>기타 처리되지 않은 예외 로깅 및 500 응답 반환</li>
  *     <li>JSON 형태의 오류 메시지를 클라이언트에 반환</li>
  * </ul>
@@ -30,6 +38,13 @@ import java.nio.charset.StandardCharsets;
  * Spring Boot에서 {@link ErrorWebExceptionHandler}를 구현하여 글로벌하게 예외를 처리합니다.
  * </p>
  *
+ * <p>
+ * 토큰 만료가 몰리는 상황에서도 부담이 없도록, 응답 본문은 {@link ErrorResponseBodies}에 미리 인코딩된
+ * 버퍼를 재사용합니다. 예상된 클라이언트 오류(4xx {@link CommonHttpException}, {@link ResponseStatusException})와 동시 요청 한도 초과
+ * ({@link ServiceUnavailableException})는 요청마다 로그를 남기지 않고
+ * {@code gateway.error.log-sample-interval}마다 한 번, 그동안 발생한 건수와 함께 기록합니다.
+ * </p>
+ *
  * @author HwangSlater
  */
 @Slf4j
@@ -38,6 +53,24 @@ public class GlobalErrorHandler implements ErrorWebExceptionHandler {
     private static final int DEFAULT_STATUS_CODE = 500;
     private static final String DEFAULT_MESSAGE = "게이트웨이 내부 오류 발생";
 
+    private final ErrorResponseBodies errorResponseBodies = new ErrorResponseBodies(DEFAULT_STATUS_CODE, DEFAULT_MESSAGE);
+
+    /**
+     * 예상된 클라이언트 오류 로그 간격
+     */
+    @Value("${gateway.error.log-sample-interval:10s}")
+    private Duration logSampleInterval = Duration.ofSeconds(10);
+
+    /**
+     * 다음 클라이언트 오류 로그를 남길 수 있는 시각 ({@link System#nanoTime()})
+     */
+    private final AtomicLong nextClientErrorLogNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * 마지막 로그 이후 기록하지 않은 클라이언트 오류 건수
+     */
+    private final LongAdder suppressedClientErrors = new LongAdder();
+
     /**
      * 전역 예외 처리 메서드
      *
@@ -47,9 +80,10 @@ public class GlobalErrorHandler implements ErrorWebExceptionHandler {
      */
     @Override
     public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
-        log.info(ex.getMessage());
         ServerHttpResponse response = exchange.getResponse();
-        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
 
         int statusCode = DEFAULT_STATUS_CODE;
         String message = DEFAULT_MESSAGE;
@@ -58,15 +92,59 @@ public class GlobalErrorHandler implements ErrorWebExceptionHandler {
         if (ex instanceof CommonHttpException commonEx) {
             statusCode = commonEx.getStatusCode();
             message = commonEx.getMessage();
+        } else if (ex instanceof ResponseStatusException statusEx) {
+            // 매칭되는 라우트가 없는 404, 업스트림 인스턴스가 없는 503 등 프레임워크가 상태 코드를 정한 예외
+            statusCode = statusEx.getStatusCode().value();
+            message = reason(statusEx);
         }
+        logException(statusCode, message, ex);
 
         // 상태 코드 설정
-        response.setStatusCode(HttpStatus.resolve(statusCode));
+        response.setStatusCode(HttpStatusCode.valueOf(statusCode));
 
-        // JSON 응답 생성
-        String body = String.format("{\"status\": %d, \"message\": \"%s\"}", statusCode, message);
-        DataBuffer buffer = response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8));
+        // 미리 인코딩된 JSON 응답 본문
+        ByteBuffer body = errorResponseBodies.body(statusCode, message);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.remaining());
+        DataBuffer buffer = response.bufferFactory().wrap(body);
 
         return response.writeWith(Mono.just(buffer));
     }
+
+    /**
+     * 예상된 클라이언트 오류(4xx)와 한도 초과 거절은 간격마다 한 번 요약해 기록하고, 그 외 5xx는 모두 기록합니다.
+     * 스택 트레이스는 {@link CommonHttpException}이 아닌 5xx 예외에만 남깁니다.
+     */
+    private void logException(int statusCode, String message, Throwable ex) {
+        if (statusCode >= DEFAULT_STATUS_CODE && !(ex instanceof ServiceUnavailableException)) {
+            if (ex instanceof CommonHttpException) {
+                log.warn(message);
+            } else {
+                log.error("처리되지 않은 예외: {}", ex.getMessage(), ex);
+            }
+            return;
+        }
+
+        long now = System.nanoTime();
+        long next = nextClientErrorLogNanos.get();
+        if (now - next < 0 || !nextClientErrorLogNanos.compareAndSet(next, now + logSampleInterval.toNanos())) {
+            suppressedClientErrors.increment();
+            log.debug(message);
+            return;
+        }
+
+        long suppressed = suppressedClientErrors.sumThenReset();
+        log.info("{} (status: {}, 이전 로그 이후 추가 발생: {}건)", message, statusCode, suppressed);
+    }
+
+    /**
+     * 예외에 사유가 없으면 상태 코드의 기본 문구를 메시지로 사용합니다.
+     */
+    private static String reason(ResponseStatusException ex) {
+        if (ex.getReason() != null) {
+            return ex.getReason();
+        }
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        return (status != null) ? status.getReasonPhrase() : DEFAULT_MESSAGE;
+    }
 }
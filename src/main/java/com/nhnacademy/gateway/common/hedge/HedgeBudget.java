@@ -0,0 +1,67 @@
+package com.nhnacademy.gateway.common.hedge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게이트웨이 전체의 hedging 예산.
+ *
+ * <p>hedging 대상 요청이 들어올 때마다 {@code ratio}만큼 적립하고, 두 번째 요청을 보낼 때 1만큼 사용합니다.
+ * 적립량은 {@code burst}를 넘지 않으므로, 업스트림 장애로 모든 요청이 느려져도 추가 요청은 대상 요청의
+ * {@code ratio} 비율과 {@code burst}를 넘지 못합니다. 잔액은 정수 연산을 위해 1000배로 보관하며 CAS로만 갱신합니다.</p>
+ */
+public class HedgeBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+
+    private final long capacity;
+
+    private final AtomicLong balance;
+
+    /**
+     * @param ratio 요청 하나당 적립되는 두 번째 요청 수
+     * @param burst 적립해 둘 수 있는 두 번째 요청의 최대 수 (시작 시 잔액)
+     */
+    public HedgeBudget(double ratio, int burst) {
+        if (ratio < 0 || burst < 1) {
+            throw new IllegalArgumentException("hedging 예산 설정이 잘못되었습니다: ratio=" + ratio + ", burst=" + burst);
+        }
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.capacity = burst * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * hedging 대상 요청 하나만큼 예산을 적립합니다.
+     */
+    public void deposit() {
+        if (balance.get() < capacity) {
+            balance.getAndUpdate(current -> Math.min(capacity, current + depositPerRequest));
+        }
+    }
+
+    /**
+     * 두 번째 요청 하나만큼 예산을 사용합니다.
+     *
+     * @return 예산이 남아 있어 사용했으면 true
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 지금 보낼 수 있는 두 번째 요청 수를 반환합니다.
+     */
+    public double available() {
+        return (double) balance.get() / SCALE;
+    }
+}
@@ -0,0 +1,84 @@
+package com.nhnacademy.gateway.common.hedge;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 라우트의 최근 업스트림 응답 시간으로 hedging 대기 시간을 계산합니다.
+ *
+ * <p>최근 {@value #SAMPLES}개의 응답 시간(첫 번째 요청 기준)을 링 버퍼에 보관하고, {@value #RECOMPUTE_INTERVAL}건마다
+ * 정렬해 설정한 백분위 값을 다시 계산합니다. 요청 처리 중에는 배열 한 칸을 쓰고 미리 계산된 값을 읽기만 하며,
+ * 표본이 {@value #MIN_SAMPLES}개보다 적으면 초기 대기 시간을 사용합니다. 결과는 최소/최대 대기 시간 범위로 제한합니다.</p>
+ *
+ * <p>두 번째 요청이 먼저 응답해 첫 번째 요청을 취소한 경우에도 취소 시점까지의 시간을 기록하므로,
+ * hedging이 꼬리 지연을 줄이더라도 대기 시간이 계속 짧아지지는 않습니다.</p>
+ */
+public class HedgeDelayEstimator {
+
+    static final int SAMPLES = 1024;
+
+    static final int RECOMPUTE_INTERVAL = 128;
+
+    static final int MIN_SAMPLES = 64;
+
+    private final double percentile;
+
+    private final long minNanos;
+
+    private final long maxNanos;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private volatile long delayNanos;
+
+    /**
+     * @param percentile   대기 시간으로 사용할 응답 시간 백분위 (0~1)
+     * @param initialDelay 표본이 충분히 모이기 전의 대기 시간
+     * @param minDelay     대기 시간 하한
+     * @param maxDelay     대기 시간 상한
+     */
+    public HedgeDelayEstimator(double percentile, Duration initialDelay, Duration minDelay, Duration maxDelay) {
+        this.percentile = percentile;
+        this.minNanos = minDelay.toNanos();
+        this.maxNanos = maxDelay.toNanos();
+        this.delayNanos = clamp(initialDelay.toNanos());
+    }
+
+    /**
+     * 업스트림 응답 시간을 기록합니다.
+     */
+    public void record(long elapsedNanos) {
+        long n = count.getAndIncrement();
+        samples.lazySet((int) (n & (SAMPLES - 1)), elapsedNanos);
+
+        long recorded = n + 1;
+        if (recorded >= MIN_SAMPLES && recorded % RECOMPUTE_INTERVAL == 0) {
+            recompute((int) Math.min(recorded, SAMPLES));
+        }
+    }
+
+    /**
+     * 두 번째 요청을 보내기 전까지 기다릴 시간을 반환합니다.
+     */
+    public Duration delay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    private void recompute(int size) {
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = Math.min(size - 1, Math.max(0, (int) Math.ceil(percentile * size) - 1));
+        delayNanos = clamp(sorted[index]);
+    }
+
+    private long clamp(long nanos) {
+        return Math.max(minNanos, Math.min(maxNanos, nanos));
+    }
+}
@@ -0,0 +1,297 @@
+package com.nhnacademy.gateway.common.hedge;
+
+import com.nhnacademy.gateway.common.filter.HedgingFilter;
+import com.nhnacademy.gateway.common.loadbalancer.InstanceLatencyLifecycle;
+import com.nhnacademy.gateway.common.loadbalancer.InstanceLatencyStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerUriTools;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.net.URI;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.isAlreadyRouted;
+
+/**
+ * GET 요청을 두 인스턴스로 보내 먼저 응답한 쪽을 사용하는 hedging 실행기.
+ *
+ * <p>{@link HedgingFilter}가 대상으로 지정한 요청을 로드밸런서가 고른 인스턴스로 먼저 보내고, 라우트의 대기 시간 안에
+ * 응답 헤더를 받지 못하면 {@link InstanceLatencyStats} 비용이 가장 작은 다른 인스턴스로 같은 요청을 한 번 더 보냅니다.
+ * 먼저 응답한 요청의 상태 코드/헤더/연결을 실제 exchange에 적용하고, 나머지 요청은 취소해 연결을 닫습니다.
+ * 두 번째 요청은 게이트웨이 전체의 {@link HedgeBudget}이 남아 있을 때만 보냅니다.</p>
+ *
+ * <p>두 번째 요청이 이기면 취소된 첫 번째 요청의 인스턴스에는 취소 시점까지의 시간을 직접 기록하고
+ * {@link InstanceLatencyLifecycle#RECORDED_ATTR}로 표시해, 로드밸런서 라이프사이클이 두 번째 인스턴스가 응답한
+ * 시간을 첫 번째 인스턴스의 지연으로 기록하지 않도록 합니다.</p>
+ *
+ * <p>각 요청은 속성과 응답 헤더를 따로 가진 exchange 복사본으로 라우팅 필터를 실행하므로, 진 쪽의 응답이 실제 응답에
+ * 섞이지 않습니다. 다른 인스턴스가 없거나 로드밸런싱되지 않는 라우트는 hedging하지 않습니다.</p>
+ */
+public class RequestHedger {
+
+    static final String BUDGET_METRIC = "gateway.hedging.budget";
+
+    private final HedgeBudget budget;
+
+    private final LoadBalancerClientFactory loadBalancerClientFactory;
+
+    private final InstanceLatencyStats latencyStats;
+
+    public RequestHedger(HedgeBudget budget, LoadBalancerClientFactory loadBalancerClientFactory,
+                         InstanceLatencyStats latencyStats, MeterRegistry meterRegistry) {
+        this.budget = budget;
+        this.loadBalancerClientFactory = loadBalancerClientFactory;
+        this.latencyStats = latencyStats;
+        Gauge.builder(BUDGET_METRIC, budget, HedgeBudget::available)
+                .description("지금 보낼 수 있는 hedging 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 hedging할 수 있는지 확인합니다. (대상으로 지정되었고, 로드밸런서가 인스턴스를 고른 HTTP 요청)
+     */
+    public boolean canHedge(ServerWebExchange exchange) {
+        if (exchange.getAttribute(HedgingFilter.HEDGING_ATTR) == null || isAlreadyRouted(exchange)) {
+            return false;
+        }
+        Response<ServiceInstance> lbResponse = exchange.getAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        URI uri = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+        return lbResponse != null && lbResponse.hasServer() && uri != null
+                && ("http".equalsIgnoreCase(uri.getScheme()) || "https".equalsIgnoreCase(uri.getScheme()));
+    }
+
+    /**
+     * 요청을 hedging해 업스트림으로 보내고, 먼저 응답한 쪽으로 나머지 필터 체인을 이어갑니다.
+     *
+     * @param exchange 실제 요청 exchange ({@link #canHedge(ServerWebExchange)}가 true인 요청)
+     * @param chain    라우팅 이후의 필터 체인
+     * @param routing  exchange 복사본 하나를 업스트림으로 보내는 라우팅 필터 (응답 헤더를 받으면 완료)
+     */
+    public Mono<Void> route(ServerWebExchange exchange, GatewayFilterChain chain,
+                            Function<ServerWebExchange, Mono<Void>> routing) {
+        HedgingFilter policy = exchange.getRequiredAttribute(HedgingFilter.HEDGING_ATTR);
+        Response<ServiceInstance> lbResponse = exchange.getRequiredAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        URI uri = exchange.getRequiredAttribute(GATEWAY_REQUEST_URL_ATTR);
+        HedgeDelayEstimator delayEstimator = policy.delayEstimator();
+        budget.deposit();
+
+        Attempt primary = new Attempt(exchange, uri);
+        AtomicReference<Attempt> hedge = new AtomicReference<>();
+        AtomicReference<Throwable> primaryError = new AtomicReference<>();
+        long startNanos = System.nanoTime();
+
+        // 취소된 경우에도 취소 시점까지의 시간을 기록 (대기 시간이 hedging 결과에 끌려 내려가지 않도록)
+        Mono<Attempt> first = routing.apply(primary)
+                .thenReturn(primary)
+                .doOnSuccess(attempt -> delayEstimator.record(System.nanoTime() - startNanos))
+                .doOnCancel(() -> {
+                    long elapsedNanos = System.nanoTime() - startNanos;
+                    delayEstimator.record(elapsedNanos);
+                    cancelled(exchange, lbResponse.getServer(), elapsedNanos);
+                })
+                .doOnError(primaryError::set);
+
+        Mono<Attempt> second = Mono.delay(delayEstimator.delay())
+                .flatMap(tick -> alternative(lbResponse.getServer()))
+                .filter(instance -> {
+                    if (budget.tryWithdraw()) {
+                        return true;
+                    }
+                    policy.onBudgetExhausted();
+                    return false;
+                })
+                .flatMap(instance -> {
+                    policy.onHedged();
+                    Attempt attempt = new Attempt(exchange, LoadBalancerUriTools.reconstructURI(instance, uri));
+                    hedge.set(attempt);
+                    return send(attempt, instance, routing);
+                });
+
+        return Mono.firstWithValue(first, second)
+                // 두 번째 요청을 보내지 않았거나 둘 다 실패하면 첫 번째 요청의 오류로 응답
+                .onErrorMap(e -> Objects.requireNonNullElse(primaryError.get(), e))
+                .flatMap(winner -> {
+                    Attempt loser = (winner == primary) ? hedge.get() : primary;
+                    if (loser != null) {
+                        loser.release();
+                    }
+                    if (winner != primary) {
+                        policy.onHedgeWon();
+                    }
+                    winner.applyTo(exchange);
+                    return chain.filter(exchange);
+                });
+    }
+
+    /**
+     * 응답하지 못하고 취소된 첫 번째 요청의 인스턴스에 취소 시점까지의 시간을 기록합니다.
+     * 로드밸런서 라이프사이클이 시작한 요청이므로 라이프사이클의 완료 기록은 건너뛰도록 표시합니다.
+     */
+    private void cancelled(ServerWebExchange exchange, ServiceInstance instance, long elapsedNanos) {
+        if (exchange.getAttributes().putIfAbsent(InstanceLatencyLifecycle.RECORDED_ATTR, Boolean.TRUE) == null) {
+            latencyStats.onComplete(instance, elapsedNanos, true);
+        }
+    }
+
+    /**
+     * 두 번째 요청을 보내고, 로드밸런서 라이프사이클을 거치지 않으므로 인스턴스 지연 통계를 직접 기록합니다.
+     */
+    private Mono<Attempt> send(Attempt attempt, ServiceInstance instance,
+                               Function<ServerWebExchange, Mono<Void>> routing) {
+        latencyStats.onStart(instance);
+        long startNanos = System.nanoTime();
+        return routing.apply(attempt)
+                .thenReturn(attempt)
+                .doOnSuccess(done -> latencyStats.onComplete(instance, System.nanoTime() - startNanos,
+                        done.response.status == null || !done.response.status.is5xxServerError()))
+                .doOnError(e -> latencyStats.onComplete(instance, System.nanoTime() - startNanos, false))
+                .doOnCancel(() -> latencyStats.onComplete(instance, System.nanoTime() - startNanos, true));
+    }
+
+    /**
+     * 첫 번째 요청과 다른 인스턴스 중 지연 비용이 가장 작은 인스턴스를 고릅니다.
+     */
+    private Mono<ServiceInstance> alternative(ServiceInstance primary) {
+        ServiceInstanceListSupplier supplier =
+                loadBalancerClientFactory.getInstance(primary.getServiceId(), ServiceInstanceListSupplier.class);
+        if (supplier == null) {
+            return Mono.empty();
+        }
+        return supplier.get()
+                .next()
+                .flatMap(instances -> Mono.justOrEmpty(instances.stream()
+                        .filter(instance -> !sameInstance(instance, primary))
+                        .min(Comparator.comparingDouble(latencyStats::cost))));
+    }
+
+    private static boolean sameInstance(ServiceInstance a, ServiceInstance b) {
+        return a.getPort() == b.getPort() && Objects.equals(a.getHost(), b.getHost());
+    }
+
+    /**
+     * 업스트림 요청 하나의 exchange 복사본.
+     *
+     * <p>속성, 요청 URL, 응답 상태 코드/헤더를 따로 가지며, GET 요청 본문은 다시 구독하지 않도록 비워 둡니다.</p>
+     */
+    private static final class Attempt extends ServerWebExchangeDecorator {
+
+        private final Map<String, Object> attributes;
+
+        private final ServerHttpRequest request;
+
+        private final AttemptResponse response;
+
+        private Attempt(ServerWebExchange exchange, URI uri) {
+            super(exchange);
+            this.attributes = new ConcurrentHashMap<>(exchange.getAttributes());
+            this.attributes.put(GATEWAY_REQUEST_URL_ATTR, uri);
+            this.request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+                @Override
+                public Flux<DataBuffer> getBody() {
+                    return Flux.empty();
+                }
+            };
+            this.response = new AttemptResponse(exchange.getResponse());
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public ServerHttpRequest getRequest() {
+            return request;
+        }
+
+        @Override
+        public ServerHttpResponse getResponse() {
+            return response;
+        }
+
+        /**
+         * 이 요청의 업스트림 응답(상태 코드, 헤더, 연결)을 실제 exchange에 적용합니다.
+         */
+        private void applyTo(ServerWebExchange exchange) {
+            exchange.getAttributes().putAll(attributes);
+            ServerHttpResponse target = exchange.getResponse();
+            if (response.status != null) {
+                target.setStatusCode(response.status);
+            }
+            target.getHeaders().clear();
+            target.getHeaders().putAll(response.headers);
+        }
+
+        /**
+         * 사용하지 않는 업스트림 응답의 연결을 닫습니다.
+         */
+        private void release() {
+            if (attributes.get(CLIENT_RESPONSE_CONN_ATTR) instanceof Connection connection) {
+                connection.dispose();
+            }
+        }
+    }
+
+    /**
+     * 실제 응답에 쓰지 않고 상태 코드와 헤더만 보관하는 응답.
+     */
+    private static final class AttemptResponse extends ServerHttpResponseDecorator {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private volatile HttpStatusCode status;
+
+        private AttemptResponse(ServerHttpResponse delegate) {
+            super(delegate);
+            headers.putAll(delegate.getHeaders());
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public boolean setStatusCode(HttpStatusCode status) {
+            this.status = status;
+            return true;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return (status != null) ? status : getDelegate().getStatusCode();
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Integer getRawStatusCode() {
+            HttpStatusCode statusCode = getStatusCode();
+            return (statusCode != null) ? statusCode.value() : null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.nhnacademy.gateway.common.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 시간 변화로 동시 요청 한도를 조정하는 적응형 한도 (gradient 방식).
+ *
+ * <p>응답 시간의 장기 지수 이동 평균을 "평소 응답 시간"으로 두고, 새 응답 시간과의 비율(gradient)로 한도를 조정합니다.</p>
+ * <ul>
+ *     <li>응답 시간이 평소의 {@code rttTolerance}배 안이면 한도를 {@code √limit}만큼 늘리는 쪽으로 옮깁니다.</li>
+ *     <li>그보다 느려지면 비율만큼(최대 절반까지) 줄이는 쪽으로 옮깁니다.</li>
+ *     <li>연결 실패/타임아웃 등으로 실패한 요청은 한도를 {@value #BACKOFF_RATIO}배로 바로 줄입니다.</li>
+ * </ul>
+ *
+ * <p>처리 중인 요청이 한도의 절반도 안 될 때의 응답은 부하와 관계없는 표본이므로 한도를 바꾸지 않습니다.
+ * 느려진 뒤 회복되었을 때 평소 응답 시간이 높게 남아 한도가 너무 커지지 않도록, 평소 응답 시간이 새 응답 시간의
+ * 2배를 넘으면 빠르게 낮춥니다.</p>
+ */
+public class GradientConcurrencyLimit {
+
+    static final double BACKOFF_RATIO = 0.9;
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double smoothing;
+
+    private final double rttTolerance;
+
+    private final double longRttAlpha;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    /**
+     * 평소 응답 시간(나노초, 장기 지수 이동 평균). 0이면 아직 표본 없음
+     */
+    private double longRttNanos;
+
+    /**
+     * @param initialLimit 기동 직후의 한도
+     * @param minLimit     한도 하한
+     * @param maxLimit     한도 상한
+     * @param smoothing    응답 하나로 한도를 새 값 쪽으로 옮기는 비율 (0~1)
+     * @param rttTolerance 평소 응답 시간의 몇 배까지를 혼잡이 아닌 것으로 볼지 (1 이상)
+     * @param longWindow   평소 응답 시간에 반영하는 응답 수
+     */
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double smoothing,
+                                    double rttTolerance, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.longRttAlpha = 2.0 / (longWindow + 1);
+        this.limit = clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * 한도 안이면 요청 하나를 처리 중으로 기록합니다.
+     *
+     * @return 처리 중인 요청 수(이 요청 포함), 한도를 넘었으면 0 (기록하지 않음)
+     */
+    public int tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > (int) limit) {
+            inFlight.decrementAndGet();
+            return 0;
+        }
+        return current;
+    }
+
+    /**
+     * {@link #tryAcquire()}로 기록한 요청이 끝났음을 기록합니다.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 끝난 요청의 결과로 한도를 조정합니다.
+     *
+     * @param rttNanos        업스트림 응답 시간(나노초)
+     * @param inFlightAtStart 요청을 시작할 때 처리 중이던 요청 수 ({@link #tryAcquire()} 반환값)
+     * @param dropped         연결 실패/타임아웃 등으로 응답을 받지 못했는지 여부
+     */
+    public synchronized void onSample(long rttNanos, int inFlightAtStart, boolean dropped) {
+        if (dropped) {
+            limit = clamp(limit * BACKOFF_RATIO, minLimit, maxLimit);
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        longRttNanos = (longRttNanos == 0) ? rttNanos : longRttNanos + longRttAlpha * (rttNanos - longRttNanos);
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= LONG_RTT_DECAY;
+        }
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+
+        double current = limit;
+        double gradient = clamp(rttTolerance * longRttNanos / rttNanos, MIN_GRADIENT, 1.0);
+        double target = current * gradient + Math.sqrt(current);
+        limit = clamp(current * (1 - smoothing) + target * smoothing, minLimit, maxLimit);
+    }
+
+    /**
+     * 현재 한도
+     */
+    public int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * 처리 중인 요청 수
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
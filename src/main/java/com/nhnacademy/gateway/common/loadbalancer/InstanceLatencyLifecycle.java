@@ -0,0 +1,88 @@
+package com.nhnacademy.gateway.common.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로드밸런싱된 요청의 시작/완료를 {@link InstanceLatencyStats}에 기록하는 라이프사이클.
+ *
+ * <p>{@code lb://} 라우트의 {@code ReactiveLoadBalancerClientFilter}가 인스턴스를 고른 직후와 응답이 끝난 뒤 호출합니다.
+ * 업스트림 응답이 5xx이거나 요청이 실패하면 실패로 기록합니다. 다른 곳(hedging 등)에서 이미 지연을 기록한 요청은
+ * {@link #RECORDED_ATTR} 속성으로 표시되며, 이 경우 완료 시점에 다시 기록하지 않습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class InstanceLatencyLifecycle implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    /**
+     * 선택된 인스턴스의 지연을 이미 기록했음을 표시하는 exchange 속성 이름
+     */
+    public static final String RECORDED_ATTR = InstanceLatencyLifecycle.class.getName() + ".recorded";
+
+    private final InstanceLatencyStats latencyStats;
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+        // 인스턴스가 선택된 뒤(onStartRequest)부터 측정
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        if (request.getContext() instanceof TimedRequestContext context) {
+            context.setRequestStartTime(System.nanoTime());
+        }
+        latencyStats.onStart(lbResponse.getServer());
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()
+                || completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+
+        Request<RequestDataContext> request = completionContext.getLoadBalancerRequest();
+        if (isRecorded(request)) {
+            return;
+        }
+        long startNanos = (request != null && request.getContext() instanceof TimedRequestContext context)
+                ? context.getRequestStartTime()
+                : 0;
+        long elapsedNanos = (startNanos > 0) ? System.nanoTime() - startNanos : 0;
+
+        latencyStats.onComplete(lbResponse.getServer(), elapsedNanos, isSuccess(completionContext));
+    }
+
+    private static boolean isRecorded(Request<RequestDataContext> request) {
+        // 요청 데이터의 속성은 exchange 속성 맵 자체이므로 라우팅 중에 추가한 속성도 보임
+        return request != null && request.getContext() != null && request.getContext().getClientRequest() != null
+                && request.getContext().getClientRequest().getAttributes().get(RECORDED_ATTR) != null;
+    }
+
+    private static boolean isSuccess(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> context) {
+        if (context.status() != CompletionContext.Status.SUCCESS) {
+            return false;
+        }
+        ResponseData response = context.getClientResponse();
+        return response == null || response.getHttpStatus() == null || !response.getHttpStatus().is5xxServerError();
+    }
+}
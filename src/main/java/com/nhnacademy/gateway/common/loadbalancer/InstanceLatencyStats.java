@@ -0,0 +1,135 @@
+package com.nhnacademy.gateway.common.loadbalancer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서비스 인스턴스별 응답 지연 통계.
+ *
+ * <p>게이트웨이가 직접 관측한 응답 시간으로 인스턴스마다 peak-EWMA(지수 가중 이동 평균) 지연 시간과
+ * 처리 중인 요청 수를 유지합니다. 관측값이 평균보다 크면 평균을 즉시 관측값으로 올려 GC 멈춤 같은 급격한 지연에
+ * 바로 반응하고, 작으면 {@code gateway.loadbalancer.ewma-decay} 시간 상수로 천천히 내려갑니다.
+ * 오래 선택되지 않은 인스턴스의 평균도 같은 시간 상수로 감소해 다시 트래픽을 받을 기회를 얻습니다.</p>
+ *
+ * <p>{@link LatencyAwareLoadBalancer}가 인스턴스를 고를 때 {@link #cost(ServiceInstance)}를 사용하며,
+ * 통계는 {@link InstanceLatencyLifecycle}이 요청 시작/완료 시 갱신합니다.</p>
+ */
+@Component
+public class InstanceLatencyStats {
+
+    /**
+     * EWMA 시간 상수. 이 시간만큼 지나면 이전 평균의 영향이 약 37%로 줄어듭니다.
+     */
+    @Value("${gateway.loadbalancer.ewma-decay:10s}")
+    private Duration ewmaDecay = Duration.ofSeconds(10);
+
+    /**
+     * 실패한 요청(연결 실패, 5xx)에 기록하는 최소 지연 시간
+     */
+    @Value("${gateway.loadbalancer.failure-penalty:1s}")
+    private Duration failurePenalty = Duration.ofSeconds(1);
+
+    /**
+     * 인스턴스별 통계 (사라진 인스턴스는 일정 시간 뒤 제거)
+     */
+    private final Cache<String, InstanceStats> statsByInstance = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    /**
+     * 인스턴스로 요청을 보내기 시작했음을 기록합니다.
+     */
+    public void onStart(ServiceInstance instance) {
+        stats(instance).inFlight.incrementAndGet();
+    }
+
+    /**
+     * 인스턴스의 요청 완료를 기록합니다.
+     *
+     * @param instance     요청을 처리한 인스턴스
+     * @param elapsedNanos 요청 시작부터 완료까지의 시간
+     * @param success      성공 여부 (실패하면 {@code failure-penalty} 이상으로 기록)
+     */
+    public void onComplete(ServiceInstance instance, long elapsedNanos, boolean success) {
+        onComplete(instance, elapsedNanos, success, System.nanoTime());
+    }
+
+    void onComplete(ServiceInstance instance, long elapsedNanos, boolean success, long now) {
+        InstanceStats stats = stats(instance);
+        stats.inFlight.decrementAndGet();
+        long observed = success ? elapsedNanos : Math.max(elapsedNanos, failurePenalty.toNanos());
+        stats.observe(observed, now, ewmaDecay.toNanos());
+    }
+
+    /**
+     * 인스턴스 선택 비용을 계산합니다. (감쇠된 평균 지연 시간 x (처리 중인 요청 수 + 1))
+     *
+     * <p>아직 관측값이 없는 인스턴스는 처리 중인 요청이 없으면 비용이 0이라 우선 선택되어 곧 관측값을 얻습니다.
+     * 첫 응답을 기다리는 동안에는 요청마다 {@code failure-penalty}를 비용으로 보아, 느린 새 인스턴스로
+     * 요청이 몰리지 않도록 합니다.</p>
+     */
+    public double cost(ServiceInstance instance) {
+        return cost(instance, System.nanoTime());
+    }
+
+    double cost(ServiceInstance instance, long now) {
+        InstanceStats stats = stats(instance);
+        int inFlight = stats.inFlight.get();
+        if (!stats.observed()) {
+            return (double) failurePenalty.toNanos() * inFlight;
+        }
+        return stats.decayedEwma(now, ewmaDecay.toNanos()) * (inFlight + 1);
+    }
+
+    private InstanceStats stats(ServiceInstance instance) {
+        return statsByInstance.get(key(instance), k -> new InstanceStats());
+    }
+
+    private static String key(ServiceInstance instance) {
+        String instanceId = instance.getInstanceId();
+        return (instanceId != null) ? instanceId : instance.getHost() + ":" + instance.getPort();
+    }
+
+    /**
+     * 인스턴스 하나의 통계. 평균 갱신은 인스턴스 단위로만 동기화되어 경합이 거의 없습니다.
+     */
+    private static final class InstanceStats {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private double ewmaNanos;
+
+        private boolean observed;
+
+        private long lastUpdateNanos = System.nanoTime();
+
+        private synchronized void observe(long observedNanos, long now, long decayNanos) {
+            // 경과 시간만큼 이전 평균의 가중치를 줄이고 나머지를 관측값에 배분 (평균보다 크면 바로 관측값으로)
+            double weight = weight(now, decayNanos);
+            double decayed = ewmaNanos * weight;
+            ewmaNanos = (observedNanos > decayed)
+                    ? observedNanos
+                    : decayed + observedNanos * (1 - weight);
+            lastUpdateNanos = now;
+            observed = true;
+        }
+
+        private synchronized boolean observed() {
+            return observed;
+        }
+
+        private synchronized double decayedEwma(long now, long decayNanos) {
+            return ewmaNanos * weight(now, decayNanos);
+        }
+
+        private double weight(long now, long decayNanos) {
+            return Math.exp(-(double) Math.max(now - lastUpdateNanos, 0) / decayNanos);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.gateway.common.loadbalancer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 로드밸런서 컨텍스트에 {@link LatencyAwareLoadBalancer}를 등록하는 설정.
+ *
+ * <p>{@code @LoadBalancerClients(defaultConfiguration = ...)}로만 사용되며, 애플리케이션 컨텍스트에서
+ * 컴포넌트 스캔되지 않도록 {@code @Configuration}을 붙이지 않습니다.
+ * {@code gateway.loadbalancer.latency-aware=false}이면 등록하지 않아 기본 라운드 로빈으로 돌아갑니다.</p>
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(value = "gateway.loadbalancer.latency-aware", havingValue = "true", matchIfMissing = true)
+    ReactorLoadBalancer<ServiceInstance> latencyAwareLoadBalancer(Environment environment,
+                                                                  LoadBalancerClientFactory loadBalancerClientFactory,
+                                                                  InstanceLatencyStats latencyStats) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, latencyStats);
+    }
+}
@@ -0,0 +1,116 @@
+package com.nhnacademy.gateway.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * 라우트/처리 단계별 지연 시간 메트릭.
+ *
+ * <p>{@value #METRIC_NAME} 타이머를 {@code route}(라우트 ID)와 {@code stage}({@link LatencyStage}) 태그로
+ * 기록하며, actuator의 {@code /actuator/metrics}로 조회할 수 있습니다.</p>
+ *
+ * <p>타이머는 라우트마다 처음 한 번만 등록해 {@link RouteTimers}로 보관합니다.
+ * 요청 처리 중에는 라우트 ID로 조회한 배열에서 단계 순서로 타이머를 꺼내 기록하므로,
+ * 태그 문자열이나 {@code Tags} 객체를 요청마다 생성하지 않습니다.</p>
+ */
+@Component
+public class GatewayLatencyMetrics {
+
+    /**
+     * 메트릭 이름
+     */
+    public static final String METRIC_NAME = "gateway.route.stage.latency";
+
+    /**
+     * 라우트가 결정되지 않은 요청의 {@code route} 태그 값
+     */
+    static final String UNKNOWN_ROUTE = "unknown";
+
+    private static final LatencyStage[] STAGES = LatencyStage.values();
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, RouteTimers> timersByRoute = new ConcurrentHashMap<>();
+
+    public GatewayLatencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * exchange에 매칭된 라우트의 타이머를 반환합니다.
+     *
+     * @param exchange 요청 exchange
+     * @return 라우트 타이머, 라우트가 없으면 {@value #UNKNOWN_ROUTE} 라우트의 타이머
+     */
+    public RouteTimers forExchange(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        return forRoute(route == null ? UNKNOWN_ROUTE : route.getId());
+    }
+
+    /**
+     * 라우트 ID에 해당하는 타이머를 반환합니다. 처음 조회한 라우트는 이 시점에 등록됩니다.
+     *
+     * @param routeId 라우트 ID
+     * @return 라우트 타이머
+     */
+    public RouteTimers forRoute(String routeId) {
+        RouteTimers timers = timersByRoute.get(routeId);
+        if (timers != null) {
+            return timers;
+        }
+        return timersByRoute.computeIfAbsent(routeId, this::register);
+    }
+
+    private RouteTimers register(String routeId) {
+        Timer[] timers = new Timer[STAGES.length];
+        for (LatencyStage stage : STAGES) {
+            timers[stage.ordinal()] = Timer.builder(METRIC_NAME)
+                    .description("게이트웨이 라우트/처리 단계별 지연 시간")
+                    .tag("route", routeId)
+                    .tag("stage", stage.tagValue())
+                    .register(meterRegistry);
+        }
+        return new RouteTimers(timers);
+    }
+
+    /**
+     * 한 라우트의 단계별 타이머 묶음.
+     */
+    public static final class RouteTimers {
+
+        private final Timer[] timers;
+
+        private RouteTimers(Timer[] timers) {
+            this.timers = timers;
+        }
+
+        /**
+         * {@code startNanos}부터 현재까지의 시간을 단계 타이머에 기록합니다.
+         *
+         * @param stage      처리 단계
+         * @param startNanos 단계 시작 시각 ({@link System#nanoTime()})
+         * @return 기록 시점의 {@link System#nanoTime()}, 다음 단계의 시작 시각으로 사용
+         */
+        public long record(LatencyStage stage, long startNanos) {
+            long now = System.nanoTime();
+            timers[stage.ordinal()].record(now - startNanos, TimeUnit.NANOSECONDS);
+            return now;
+        }
+
+        /**
+         * 단계 타이머를 반환합니다.
+         */
+        public Timer timer(LatencyStage stage) {
+            return timers[stage.ordinal()];
+        }
+    }
+}
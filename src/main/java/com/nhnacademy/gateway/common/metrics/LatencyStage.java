@@ -0,0 +1,42 @@
+package com.nhnacademy.gateway.common.metrics;
+
+/**
+ * 게이트웨이 요청 처리 단계.
+ *
+ * <p>{@link GatewayLatencyMetrics}의 {@code stage} 태그 값으로 사용됩니다.</p>
+ */
+public enum LatencyStage {
+
+    /**
+     * 요청 쿠키/헤더에서 액세스 토큰 추출
+     */
+    TOKEN_EXTRACTION("token-extraction"),
+
+    /**
+     * JWT 서명/만료 검증 및 클레임 추출 ({@code JwtUtil})
+     */
+    TOKEN_VERIFICATION("token-verification"),
+
+    /**
+     * 검증 결과를 요청 헤더에 반영 ({@code X-User-Id})
+     */
+    HEADER_MUTATION("header-mutation"),
+
+    /**
+     * 업스트림 요청 시작부터 응답 헤더 수신까지 (time-to-first-byte)
+     */
+    UPSTREAM_FIRST_BYTE("upstream-first-byte");
+
+    private final String tagValue;
+
+    LatencyStage(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    /**
+     * 메트릭 태그 값을 반환합니다.
+     */
+    public String tagValue() {
+        return tagValue;
+    }
+}
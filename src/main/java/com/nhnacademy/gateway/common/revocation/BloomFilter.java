@@ -0,0 +1,92 @@
+package com.nhnacademy.gateway.common.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 안전한 블룸 필터.
+ *
+ * <p>값의 32비트 해시를 받아 64비트로 섞은 뒤, 이중 해싱으로 {@code k}개의 비트 위치를 정합니다.
+ * {@link #mightContain}이 false이면 추가된 적 없는 값이고, true이면 추가된 값이거나 오탐입니다.
+ * 비트 배열 크기는 2의 거듭제곱으로 올려 나머지 연산 대신 마스크를 사용합니다.</p>
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+
+    private final long bitMask;
+
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  예상 원소 수만큼 추가했을 때의 목표 오탐률
+     */
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions는 1 이상, falsePositiveRate는 0과 1 사이여야 합니다: "
+                    + expectedInsertions + ", " + falsePositiveRate);
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long bits = Math.max(64, Long.highestOneBit(optimalBits - 1) << 1);
+
+        this.words = new AtomicLongArray((int) (bits >>> 6));
+        this.bitMask = bits - 1;
+        this.hashCount = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+    }
+
+    void add(int hash) {
+        long h = mix(hash);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + (long) i * h2) & bitMask;
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+        }
+    }
+
+    boolean mightContain(int hash) {
+        long h = mix(hash);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + (long) i * h2) & bitMask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 비트 배열 크기
+     */
+    long bitSize() {
+        return bitMask + 1;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * MurmurHash3의 64비트 마무리 함수
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
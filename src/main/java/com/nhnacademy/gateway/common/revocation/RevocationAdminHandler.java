@@ -0,0 +1,97 @@
+package com.nhnacademy.gateway.common.revocation;
+
+import com.nhnacademy.gateway.common.exception.CommonHttpException;
+import com.nhnacademy.gateway.common.exception.ForbiddenException;
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import com.nhnacademy.gateway.common.util.AccessTokenExtractor;
+import com.nhnacademy.gateway.common.util.JwtUtil;
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 토큰 폐기 관리 API.
+ *
+ * <ul>
+ *     <li>{@code POST {"type": "token" | "user", "id": "..."}}: 토큰 ID({@code jti}) 또는 사용자 ID 폐기 (204)</li>
+ *     <li>{@code GET}: 폐기된 토큰/사용자 수 조회</li>
+ * </ul>
+ *
+ * <p>관리자 권한({@code gateway.revocation.admin-role})이 있는 토큰으로만 호출할 수 있습니다.
+ * 파일 기록은 이벤트 루프를 막지 않도록 별도 스레드에서 처리합니다.</p>
+ */
+public class RevocationAdminHandler {
+
+    private final TokenRevocationService revocationService;
+
+    private final JwtUtil jwtUtil;
+
+    private final AccessTokenExtractor accessTokenExtractor;
+
+    private final String adminRole;
+
+    public RevocationAdminHandler(TokenRevocationService revocationService, JwtUtil jwtUtil,
+                                  AccessTokenExtractor accessTokenExtractor, String adminRole) {
+        this.revocationService = revocationService;
+        this.jwtUtil = jwtUtil;
+        this.accessTokenExtractor = accessTokenExtractor;
+        this.adminRole = adminRole;
+    }
+
+    public Mono<ServerResponse> revoke(ServerRequest request) {
+        authorize(request);
+        return request.bodyToMono(RevokeRequest.class)
+                .switchIfEmpty(Mono.error(() -> new CommonHttpException(400, "요청 본문이 없습니다.")))
+                .flatMap(body -> Mono.fromCallable(() -> {
+                            revocationService.revoke(body.parsedType(), body.id());
+                            return body;
+                        })
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .onErrorMap(IllegalArgumentException.class, e -> new CommonHttpException(400, e.getMessage()))
+                .onErrorMap(IOException.class, e -> new CommonHttpException(500, "토큰 폐기 목록을 기록하지 못했습니다.", e))
+                .then(ServerResponse.noContent().build());
+    }
+
+    public Mono<ServerResponse> summary(ServerRequest request) {
+        authorize(request);
+        RevocationList list = jwtUtil.revocationList();
+        return ServerResponse.ok().bodyValue(Map.of("tokens", list.tokenCount(), "users", list.userCount()));
+    }
+
+    private void authorize(ServerRequest request) {
+        String token = accessTokenExtractor.extract(request.exchange().getRequest());
+        if (token == null) {
+            throw new UnauthorizedException(UnauthorizedException.EMPTY_TOKEN_MESSAGE);
+        }
+        VerifiedPrincipal principal = jwtUtil.verify(token);
+        if (!principal.roles().contains(adminRole)) {
+            throw new ForbiddenException("토큰 폐기 권한이 없습니다.");
+        }
+    }
+
+    /**
+     * 폐기 요청 본문.
+     *
+     * @param type {@code token} 또는 {@code user}
+     * @param id   토큰 ID({@code jti}) 또는 사용자 ID
+     */
+    record RevokeRequest(String type, String id) {
+
+        TokenRevocationService.Type parsedType() {
+            if (type == null) {
+                throw new IllegalArgumentException("type은 token 또는 user여야 합니다.");
+            }
+            try {
+                return TokenRevocationService.Type.valueOf(type.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("type은 token 또는 user여야 합니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.nhnacademy.gateway.common.revocation;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 ID({@code jti})와 사용자 ID 목록.
+ *
+ * <p>정확한 집합 앞에 {@link BloomFilter}를 두어, 대부분을 차지하는 폐기되지 않은 토큰은 집합 조회 없이
+ * 해시 몇 번으로 통과시킵니다. 블룸 필터가 포함 가능성을 알릴 때만 정확한 집합을 확인하므로 오탐으로
+ * 거부되는 토큰은 없습니다.</p>
+ *
+ * <p>항목 추가는 여러 스레드에서 동시에 해도 안전합니다. 항목을 빼려면 새 목록을 만들어 교체합니다.</p>
+ */
+public final class RevocationList {
+
+    /**
+     * 토큰 ID와 사용자 ID가 같은 문자열이어도 블룸 필터에서 다른 위치를 쓰도록 섞는 값
+     */
+    private static final int USER_SEED = 0x9e3779b9;
+
+    private final BloomFilter bloomFilter;
+
+    private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+
+    private final Set<String> userIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param expectedInsertions 예상 항목 수 (넘으면 블룸 필터의 오탐률이 올라가 정확한 집합 조회가 늘어남)
+     * @param falsePositiveRate  블룸 필터의 목표 오탐률
+     */
+    public RevocationList(int expectedInsertions, double falsePositiveRate) {
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 빈 목록을 만듭니다.
+     */
+    public static RevocationList empty() {
+        return new RevocationList(64, 0.01);
+    }
+
+    /**
+     * 토큰 ID({@code jti})를 폐기합니다.
+     */
+    public void revokeToken(String tokenId) {
+        if (tokenIds.add(tokenId)) {
+            bloomFilter.add(tokenId.hashCode());
+        }
+    }
+
+    /**
+     * 사용자의 모든 토큰을 폐기합니다.
+     */
+    public void revokeUser(String userId) {
+        if (userIds.add(userId)) {
+            bloomFilter.add(userId.hashCode() ^ USER_SEED);
+        }
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다.
+     *
+     * @param tokenId 토큰 ID, 없으면 null
+     * @param userId  사용자 ID
+     * @return 토큰 ID나 사용자 ID가 폐기되었으면 true
+     */
+    public boolean isRevoked(String tokenId, String userId) {
+        if (tokenId != null && bloomFilter.mightContain(tokenId.hashCode()) && tokenIds.contains(tokenId)) {
+            return true;
+        }
+        return bloomFilter.mightContain(userId.hashCode() ^ USER_SEED) && userIds.contains(userId);
+    }
+
+    /**
+     * 폐기된 토큰 ID 수
+     */
+    public int tokenCount() {
+        return tokenIds.size();
+    }
+
+    /**
+     * 폐기된 사용자 ID 수
+     */
+    public int userCount() {
+        return userIds.size();
+    }
+}
@@ -0,0 +1,178 @@
+package com.nhnacademy.gateway.common.revocation;
+
+import com.nhnacademy.gateway.common.util.JwtUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 폐기 목록 파일을 관리하고 {@link JwtUtil}의 폐기 목록에 반영합니다.
+ *
+ * <p>파일은 한 줄에 하나씩 {@code token:<jti>} 또는 {@code user:<사용자 ID>} 형식이며, {@code #}으로 시작하는 줄은
+ * 주석입니다. 파일이 바뀌면 별도 스레드에서 다시 읽어 목록을 통째로 교체하므로, 항목을 빼려면 파일에서 지우면 됩니다.
+ * {@link #revoke}로 추가한 항목은 파일 끝에도 기록되어 재기동 후에도 유지됩니다.</p>
+ */
+@Slf4j
+public class TokenRevocationService implements DisposableBean {
+
+    /**
+     * 폐기 항목 유형
+     */
+    public enum Type {
+        TOKEN("token:"),
+        USER("user:");
+
+        private final String prefix;
+
+        Type(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private final JwtUtil jwtUtil;
+
+    private final Path path;
+
+    private final Duration refreshInterval;
+
+    private final int expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 마지막으로 읽은 파일의 수정 시각 (파일이 없으면 null)
+     */
+    private FileTime lastModified;
+
+    /**
+     * @param path               폐기 목록 파일 경로
+     * @param refreshInterval    파일 변경을 확인하는 간격
+     * @param expectedInsertions 블룸 필터의 예상 항목 수 (파일 항목이 더 많으면 그 두 배로 맞춤)
+     * @param falsePositiveRate  블룸 필터의 목표 오탐률
+     */
+    public TokenRevocationService(JwtUtil jwtUtil, Path path, Duration refreshInterval, int expectedInsertions,
+                                  double falsePositiveRate) {
+        this.jwtUtil = jwtUtil;
+        this.path = path;
+        this.refreshInterval = refreshInterval;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 기동 시 목록을 한 번 읽은 뒤 파일 변경 확인을 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        reload();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("token-revocation-refresh")
+                .daemon()
+                .factory());
+        long intervalMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::reload, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 파일이 바뀌었으면 다시 읽어 폐기 목록을 교체합니다.
+     *
+     * @return 목록을 교체했으면 true
+     */
+    public synchronized boolean reload() {
+        try {
+            FileTime modified = modifiedTime();
+            if (Objects.equals(modified, lastModified)) {
+                return false;
+            }
+
+            List<String> lines = (modified == null) ? List.of() : Files.readAllLines(path, StandardCharsets.UTF_8);
+            RevocationList next = new RevocationList(Math.max(expectedInsertions, lines.size() * 2), falsePositiveRate);
+            for (String line : lines) {
+                apply(next, line.trim());
+            }
+            jwtUtil.swapRevocationList(next);
+            lastModified = modified;
+            log.info("토큰 폐기 목록을 불러왔습니다. (토큰 {}개, 사용자 {}명)", next.tokenCount(), next.userCount());
+            return true;
+        } catch (IOException e) {
+            log.warn("토큰 폐기 목록을 읽지 못해 기존 목록을 계속 사용합니다: {} ({})", path, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 토큰 ID나 사용자 ID를 폐기합니다. 파일에 기록한 뒤 현재 목록에 바로 반영합니다.
+     *
+     * @param type 폐기 항목 유형
+     * @param id   토큰 ID({@code jti}) 또는 사용자 ID
+     * @throws IOException 파일에 기록하지 못한 경우 (이때는 목록에도 반영하지 않음)
+     */
+    public synchronized void revoke(Type type, String id) throws IOException {
+        if (id == null || id.isBlank() || id.indexOf('\n') >= 0 || id.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("폐기할 ID가 올바르지 않습니다.");
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(path, type.prefix + id + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        RevocationList current = jwtUtil.revocationList();
+        apply(current, type.prefix + id);
+        // 직접 추가한 항목은 이미 반영했으므로 다음 확인에서 파일을 다시 읽지 않음
+        lastModified = modifiedTime();
+        log.info("{} 폐기: {}", type, id);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private FileTime modifiedTime() throws IOException {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private static void apply(RevocationList list, String line) {
+        if (line.isEmpty() || line.startsWith("#")) {
+            return;
+        }
+        for (Type type : Type.values()) {
+            if (line.startsWith(type.prefix) && line.length() > type.prefix.length()) {
+                String id = line.substring(type.prefix.length());
+                if (type == Type.TOKEN) {
+                    list.revokeToken(id);
+                } else {
+                    list.revokeUser(id);
+                }
+                return;
+            }
+        }
+        log.warn("토큰 폐기 목록의 알 수 없는 항목을 건너뜁니다: {}", line);
+    }
+}
@@ -0,0 +1,290 @@
+package com.nhnacademy.gateway.common.route;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 라우트 경로 패턴을 하나로 모은 세그먼트 트라이.
+ *
+ * <p>Spring Cloud Gateway는 라우트의 {@code path(...)} predicate를 선언 순서대로 하나씩 평가합니다.
+ * 이 클래스는 기동 시 모든 패턴을 트라이로 컴파일해, 요청 경로를 한 번 순회하는 것으로
+ * 요청이 갈 라우트를 결정합니다. 여러 패턴이 매칭되면 기존과 같이 먼저 선언된 라우트가 적용됩니다.</p>
+ *
+ * <h3>지원하는 패턴</h3>
+ * <ul>
+ *     <li>리터럴 세그먼트: {@code /api/departments}</li>
+ *     <li>한 세그먼트 와일드카드: {@code *}, {@code {변수}}</li>
+ *     <li>마지막 위치의 {@code **}: 0개 이상의 나머지 세그먼트</li>
+ * </ul>
+ *
+ * <p>{@code path(...)} predicate와 마찬가지로 끝의 {@code /}는 무시합니다.
+ * 중복되거나 앞선 패턴에 가려지는 패턴은 기동 시 경고 로그로 알리고 {@link #conflicts()}로 제공합니다.</p>
+ */
+@Slf4j
+public final class PathRouteTrie {
+
+    private static final String CATCH_ALL = "**";
+
+    /**
+     * 요청별 매칭 결과를 보관하는 exchange 속성 이름
+     */
+    static final String MATCH_ATTR = PathRouteTrie.class.getName() + ".match";
+
+    private final Node root = new Node(null);
+
+    private final List<RouteEntry> routes;
+
+    private final List<String> conflicts = new ArrayList<>();
+
+    private PathRouteTrie(List<RouteEntry> routes) {
+        this.routes = List.copyOf(routes);
+    }
+
+    /**
+     * 라우트 테이블의 모든 경로 패턴을 트라이로 컴파일합니다.
+     *
+     * @param routes 선언 순서대로 정렬된 라우트 테이블
+     * @return 컴파일된 트라이
+     * @throws IllegalArgumentException 지원하지 않는 패턴이 있는 경우
+     */
+    public static PathRouteTrie compile(List<RouteEntry> routes) {
+        PathRouteTrie trie = new PathRouteTrie(routes);
+        for (int index = 0; index < routes.size(); index++) {
+            for (String pattern : routes.get(index).paths()) {
+                trie.insert(pattern, index);
+            }
+        }
+        return trie;
+    }
+
+    /**
+     * 기동 시 발견한 중복/가려짐 패턴 목록을 반환합니다.
+     */
+    public List<String> conflicts() {
+        return Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * 컴파일에 사용한 라우트 테이블을 반환합니다.
+     */
+    public List<RouteEntry> routes() {
+        return routes;
+    }
+
+    /**
+     * 요청 경로에 해당하는 라우트를 결정합니다.
+     *
+     * <p>결과는 exchange 속성에 보관되어, 같은 요청의 다른 라우트 predicate와
+     * prefix 제거 필터는 트라이를 다시 순회하지 않습니다.</p>
+     *
+     * @param exchange 요청 exchange
+     * @return 매칭 결과
+     */
+    public RouteMatch resolve(ServerWebExchange exchange) {
+        String path = exchange.getRequest().getPath().value();
+
+        Object cached = exchange.getAttributes().get(MATCH_ATTR);
+        if (cached instanceof RouteMatch match && match.trie() == this && match.path().equals(path)) {
+            return match;
+        }
+
+        RouteMatch match = match(path);
+        exchange.getAttributes().put(MATCH_ATTR, match);
+        return match;
+    }
+
+    /**
+     * 요청 경로를 한 번 순회해 가장 먼저 선언된 매칭 라우트를 찾습니다.
+     *
+     * @param path 요청 경로 (raw)
+     * @return 매칭 결과
+     */
+    public RouteMatch match(String path) {
+        int end = path.length();
+        // path(...) predicate와 동일하게 끝의 '/' 하나는 무시
+        if (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+
+        int firstSegmentEnd = path.indexOf('/', 1);
+        if (firstSegmentEnd < 0) {
+            firstSegmentEnd = path.length();
+        }
+
+        int routeIndex = (path.isEmpty() || path.charAt(0) != '/')
+                ? RouteMatch.NO_ROUTE
+                : walk(root, path, 1, end);
+        return new RouteMatch(this, path, routeIndex, firstSegmentEnd);
+    }
+
+    /**
+     * {@code start}부터 시작하는 남은 경로를 매칭하는 가장 작은 라우트 인덱스를 찾습니다.
+     */
+    private int walk(Node node, String path, int start, int end) {
+        int best = node.catchAllRoute;
+
+        if (start >= end) {
+            return min(best, node.exactRoute);
+        }
+
+        int segmentEnd = path.indexOf('/', start);
+        if (segmentEnd < 0 || segmentEnd > end) {
+            segmentEnd = end;
+        }
+        int segmentLength = segmentEnd - start;
+
+        for (Node child : node.literals) {
+            if (child.segment.length() == segmentLength
+                    && path.regionMatches(start, child.segment, 0, segmentLength)) {
+                best = min(best, walk(child, path, segmentEnd + 1, end));
+                break;
+            }
+        }
+
+        if (node.wildcard != null && segmentLength > 0) {
+            best = min(best, walk(node.wildcard, path, segmentEnd + 1, end));
+        }
+
+        return best;
+    }
+
+    /**
+     * 경로 패턴 하나를 트라이에 추가하고 중복/가려짐 여부를 기록합니다.
+     */
+    private void insert(String pattern, int routeIndex) {
+        if (!pattern.startsWith("/")) {
+            throw new IllegalArgumentException("경로 패턴은 '/'로 시작해야 합니다: " + pattern);
+        }
+
+        String[] segments = pattern.substring(1).split("/");
+        Node node = root;
+
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            boolean last = i == segments.length - 1;
+
+            if (segment.isEmpty() && last) {
+                break;
+            }
+            checkShadowed(node, pattern, routeIndex);
+
+            if (CATCH_ALL.equals(segment)) {
+                if (!last) {
+                    throw new IllegalArgumentException("'**'는 패턴의 마지막에만 사용할 수 있습니다: " + pattern);
+                }
+                node.catchAllRoute = register(node.catchAllRoute, node.catchAllPattern, pattern, routeIndex);
+                if (node.catchAllRoute == routeIndex) {
+                    node.catchAllPattern = pattern;
+                }
+                return;
+            }
+
+            node = isWildcard(segment) ? node.wildcardChild() : node.literalChild(segment, pattern);
+        }
+
+        checkShadowed(node, pattern, routeIndex);
+        node.exactRoute = register(node.exactRoute, node.exactPattern, pattern, routeIndex);
+        if (node.exactRoute == routeIndex) {
+            node.exactPattern = pattern;
+        }
+    }
+
+    /**
+     * 이미 다른 패턴이 차지한 위치라면 중복으로 기록하고, 먼저 선언된 라우트를 유지합니다.
+     */
+    private int register(int existingRoute, String existingPattern, String pattern, int routeIndex) {
+        if (existingRoute == RouteMatch.NO_ROUTE) {
+            return routeIndex;
+        }
+        conflict("중복 경로 패턴 '%s': %s에 이미 '%s'(으)로 선언되어 있어 %s에는 적용되지 않습니다.",
+                pattern, describe(existingRoute), existingPattern, describe(routeIndex));
+        return existingRoute;
+    }
+
+    /**
+     * 앞선 라우트의 {@code **} 패턴이 현재 패턴을 모두 가리는 경우 기록합니다.
+     */
+    private void checkShadowed(Node node, String pattern, int routeIndex) {
+        if (node.catchAllRoute != RouteMatch.NO_ROUTE && node.catchAllRoute < routeIndex
+                && !pattern.equals(node.catchAllPattern)) {
+            conflict("경로 패턴 '%s'(%s)는 먼저 선언된 '%s'(%s)에 가려져 적용되지 않습니다.",
+                    pattern, describe(routeIndex), node.catchAllPattern, describe(node.catchAllRoute));
+        }
+    }
+
+    private void conflict(String format, Object... args) {
+        String message = String.format(format, args);
+        conflicts.add(message);
+        log.warn(message);
+    }
+
+    private String describe(int routeIndex) {
+        return routes.get(routeIndex).id() + "#" + routeIndex;
+    }
+
+    private static boolean isWildcard(String segment) {
+        return "*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}") && segment.indexOf('*') < 0);
+    }
+
+    private static int min(int a, int b) {
+        if (a == RouteMatch.NO_ROUTE) {
+            return b;
+        }
+        if (b == RouteMatch.NO_ROUTE) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * 트라이 노드. 리터럴 자식은 수가 적어 배열을 선형 탐색합니다.
+     */
+    private static final class Node {
+
+        private final String segment;
+
+        private Node[] literals = new Node[0];
+
+        private Node wildcard;
+
+        private int exactRoute = RouteMatch.NO_ROUTE;
+
+        private String exactPattern;
+
+        private int catchAllRoute = RouteMatch.NO_ROUTE;
+
+        private String catchAllPattern;
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+
+        private Node literalChild(String segment, String pattern) {
+            if (segment.indexOf('*') >= 0 || segment.indexOf('{') >= 0 || segment.indexOf('?') >= 0) {
+                throw new IllegalArgumentException("트라이 라우팅이 지원하지 않는 경로 패턴입니다: " + pattern);
+            }
+            for (Node child : literals) {
+                if (child.segment.equals(segment)) {
+                    return child;
+                }
+            }
+            Node child = new Node(segment);
+            Node[] expanded = new Node[literals.length + 1];
+            System.arraycopy(literals, 0, expanded, 0, literals.length);
+            expanded[literals.length] = child;
+            literals = expanded;
+            return child;
+        }
+
+        private Node wildcardChild() {
+            if (wildcard == null) {
+                wildcard = new Node("*");
+            }
+            return wildcard;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.nhnacademy.gateway.common.route;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 외부 파일({@link RouteTableFile})에서 라우트 테이블을 읽고, 파일이 바뀌면 재기동 없이 교체하는 {@link RouteLocator}.
+ *
+ * <p>파일은 별도 스레드에서 주기적으로 다시 읽으며, 내용이 바뀐 경우에만 라우트와 필터를 새로 컴파일한 뒤
+ * 참조 하나를 바꿔 한 번에 교체하고 {@link RefreshRoutesEvent}로 게이트웨이의 라우트 캐시를 갱신합니다.
+ * 이미 라우트가 결정된 요청은 이전 테이블의 필터로 끝까지 처리됩니다. 읽기나 컴파일에 실패하면 기존 테이블을
+ * 그대로 사용하고, 기동 시 파일을 쓸 수 없으면 코드에 선언된 기본 테이블로 시작합니다.</p>
+ *
+ * <p>파일 위치가 없으면 기본 테이블만 한 번 컴파일합니다. 다시 읽는 데 걸린 시간은 결과({@code success},
+ * {@code failure})별로 {@value #RELOAD_METRIC}, 현재 라우트 수는 {@value #ROUTES_METRIC} 지표로 노출합니다.</p>
+ */
+@Slf4j
+public class ReloadableRouteLocator implements RouteLocator, DisposableBean {
+
+    static final String RELOAD_METRIC = "gateway.route.reload";
+
+    static final String ROUTES_METRIC = "gateway.route.count";
+
+    private final List<RouteEntry> defaultRoutes;
+
+    private final Function<List<RouteEntry>, List<Route>> compiler;
+
+    private final String location;
+
+    private final Duration refreshInterval;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Timer reloadSuccess;
+
+    private final Timer reloadFailure;
+
+    /**
+     * 현재 라우트 테이블 (컴파일된 라우트)
+     */
+    private final AtomicReference<List<Route>> routes = new AtomicReference<>(List.of());
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 마지막으로 읽은 문서 (적용에 실패한 문서 포함)
+     */
+    private byte[] lastDocument;
+
+    /**
+     * @param defaultRoutes   파일 위치가 없거나 기동 시 파일을 쓸 수 없을 때 사용하는 라우트 테이블
+     * @param compiler        라우트 선언을 predicate/필터가 적용된 라우트로 컴파일하는 함수
+     * @param location        라우트 테이블 파일 경로 (없으면 기본 테이블만 사용)
+     * @param refreshInterval 파일을 다시 읽는 간격
+     */
+    public ReloadableRouteLocator(List<RouteEntry> defaultRoutes, Function<List<RouteEntry>, List<Route>> compiler,
+                                  String location, Duration refreshInterval,
+                                  ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.defaultRoutes = List.copyOf(defaultRoutes);
+        this.compiler = compiler;
+        this.location = (location == null || location.isBlank()) ? null : location;
+        this.refreshInterval = refreshInterval;
+        this.eventPublisher = eventPublisher;
+        this.reloadSuccess = reloadTimer(meterRegistry, "success");
+        this.reloadFailure = reloadTimer(meterRegistry, "failure");
+        Gauge.builder(ROUTES_METRIC, routes, current -> current.get().size())
+                .description("현재 라우트 테이블의 라우트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 라우트 테이블을 컴파일하고, 파일 위치가 있으면 주기적인 갱신을 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (location == null || !reload()) {
+            if (location != null) {
+                log.warn("라우트 테이블 파일을 쓸 수 없어 기본 라우트 테이블로 시작합니다: {}", location);
+            }
+            routes.set(compiler.apply(defaultRoutes));
+        }
+        if (location == null) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("route-table-refresh")
+                .daemon()
+                .factory());
+        long intervalMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Flux<Route> getRoutes() {
+        return Flux.fromIterable(routes.get());
+    }
+
+    /**
+     * 파일을 다시 읽고, 내용이 바뀌었으면 라우트 테이블을 교체한 뒤 게이트웨이의 라우트 캐시를 갱신합니다.
+     */
+    void refresh() {
+        if (reload()) {
+            eventPublisher.publishEvent(new RefreshRoutesEvent(this));
+        }
+    }
+
+    /**
+     * 파일을 다시 읽고, 내용이 바뀌었으면 라우트 테이블을 컴파일해 교체합니다.
+     *
+     * @return 라우트 테이블을 교체했으면 true
+     */
+    synchronized boolean reload() {
+        byte[] document;
+        try {
+            document = Files.readAllBytes(Path.of(location));
+        } catch (IOException e) {
+            reloadFailure.record(Duration.ZERO);
+            log.warn("라우트 테이블 파일을 읽지 못해 기존 라우트를 계속 사용합니다: {} ({})", location, e.getMessage());
+            return false;
+        }
+        if (Arrays.equals(document, lastDocument)) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<RouteEntry> entries = RouteTableFile.parse(document);
+            List<Route> next = List.copyOf(compiler.apply(entries));
+            routes.set(next);
+            lastDocument = document;
+            reloadSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("라우트 테이블을 불러왔습니다. (라우트 {}개: {})", next.size(), location);
+            return true;
+        } catch (RuntimeException e) {
+            // 같은 내용을 다시 읽을 때마다 실패를 반복하지 않도록 기록 (파일이 고쳐지면 다시 적용)
+            lastDocument = document;
+            reloadFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.warn("라우트 테이블을 적용하지 못해 기존 라우트를 계속 사용합니다: {} ({})", location, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static Timer reloadTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder(RELOAD_METRIC)
+                .description("라우트 테이블 파일을 읽어 라우트를 다시 컴파일하는 데 걸린 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,68 @@
+package com.nhnacademy.gateway.common.route;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우트 테이블에 선언된 권한 이름별 비트 번호.
+ *
+ * <p>기동 시 {@link RouteEntry#requiredRoles()}에 나오는 권한마다 비트 하나를 배정해, 라우트의 필요 권한은
+ * 미리 마스크로 계산해 두고 요청마다 토큰의 권한 목록을 한 번만 마스크로 바꿔 비트 AND로 비교합니다.
+ * 라우트 테이블에 없는 권한은 어떤 라우트의 조건도 만족시키지 않으므로 마스크에서 제외합니다.</p>
+ */
+public final class RoleBitmask {
+
+    private final Map<String, Long> bits;
+
+    private RoleBitmask(Map<String, Long> bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * 라우트 테이블의 필요 권한에 비트를 배정합니다.
+     *
+     * @param routes 라우트 테이블
+     * @return 권한별 비트 번호
+     * @throws IllegalArgumentException 서로 다른 권한이 64개를 넘는 경우
+     */
+    public static RoleBitmask compile(List<RouteEntry> routes) {
+        Map<String, Long> bits = new HashMap<>();
+        for (RouteEntry route : routes) {
+            for (String role : route.requiredRoles()) {
+                if (!bits.containsKey(role)) {
+                    if (bits.size() == Long.SIZE) {
+                        throw new IllegalArgumentException("라우트에 선언할 수 있는 권한은 최대 " + Long.SIZE + "개입니다.");
+                    }
+                    bits.put(role, 1L << bits.size());
+                }
+            }
+        }
+        return new RoleBitmask(Map.copyOf(bits));
+    }
+
+    /**
+     * 권한 목록을 마스크로 변환합니다.
+     *
+     * @param roles 권한 이름 목록
+     * @return 라우트 테이블에 선언된 권한의 비트를 모은 마스크
+     */
+    public long maskOf(Collection<String> roles) {
+        long mask = 0;
+        for (String role : roles) {
+            Long bit = bits.get(role);
+            if (bit != null) {
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 비트가 배정된 권한 수
+     */
+    public int size() {
+        return bits.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.nhnacademy.gateway.common.route;
+
+import java.util.List;
+
+/**
+ * 게이트웨이 라우트 선언.
+ *
+ * <p>{@code RouterConfig}의 라우트 테이블 한 줄에 해당하며, 선언 순서가 곧 매칭 우선순위입니다.
+ * 같은 서비스가 인증 여부나 필요 권한에 따라 여러 줄로 나뉠 수 있으므로 {@code id}는 중복될 수 있습니다.</p>
+ *
+ * @param id            라우트 ID (서비스 이름)
+ * @param uri           라우팅 대상 URI (예: {@code lb://AUTH-SERVICE})
+ * @param paths         ant 스타일 경로 패턴 목록
+ * @param authenticated JWT 인증 필터 적용 여부
+ * @param requiredRoles 요청에 필요한 권한 ({@code role} 클레임) 목록, 하나라도 있으면 허용 (비어 있으면 권한 검사 없음)
+ */
+public record RouteEntry(String id, String uri, List<String> paths, boolean authenticated, List<String> requiredRoles) {
+
+    public RouteEntry {
+        paths = List.copyOf(paths);
+        requiredRoles = List.copyOf(requiredRoles);
+        if (!authenticated && !requiredRoles.isEmpty()) {
+            throw new IllegalArgumentException("권한 검사는 인증이 필요한 라우트에만 선언할 수 있습니다: " + id);
+        }
+    }
+
+    /**
+     * 권한 검사가 없는 라우트를 생성합니다.
+     */
+    public RouteEntry(String id, String uri, List<String> paths, boolean authenticated) {
+        this(id, uri, paths, authenticated, List.of());
+    }
+
+    /**
+     * 인증 없이 접근 가능한 라우트를 생성합니다.
+     */
+    public static RouteEntry publicRoute(String id, String uri, String... paths) {
+        return new RouteEntry(id, uri, List.of(paths), false);
+    }
+
+    /**
+     * JWT 인증 필터가 적용되는 라우트를 생성합니다.
+     */
+    public static RouteEntry authenticatedRoute(String id, String uri, String... paths) {
+        return new RouteEntry(id, uri, List.of(paths), true);
+    }
+
+    /**
+     * JWT 인증 후 지정한 권한 중 하나가 있어야 접근 가능한 라우트를 생성합니다.
+     */
+    public static RouteEntry roleRoute(String id, String uri, List<String> requiredRoles, String... paths) {
+        return new RouteEntry(id, uri, List.of(paths), true, requiredRoles);
+    }
+}
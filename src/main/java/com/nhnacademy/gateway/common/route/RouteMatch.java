@@ -0,0 +1,36 @@
+package com.nhnacademy.gateway.common.route;
+
+/**
+ * {@link PathRouteTrie}의 경로 매칭 결과.
+ *
+ * <p>한 요청에 대해 한 번만 계산되어 exchange 속성에 보관되며, 라우트 predicate와
+ * prefix 제거 필터가 같은 결과를 재사용합니다.</p>
+ *
+ * @param trie             결과를 계산한 트라이 (라우트 테이블이 바뀐 경우 재계산 판단용)
+ * @param path             매칭한 요청 경로 (raw)
+ * @param routeIndex       매칭된 라우트의 선언 순서, 없으면 {@link #NO_ROUTE}
+ * @param firstSegmentEnd  첫 번째 경로 세그먼트가 끝나는 위치 ({@code /api/auth/login}이면 4)
+ */
+public record RouteMatch(PathRouteTrie trie, String path, int routeIndex, int firstSegmentEnd) {
+
+    /**
+     * 매칭되는 라우트가 없음을 나타내는 인덱스
+     */
+    public static final int NO_ROUTE = -1;
+
+    /**
+     * 첫 번째 경로 세그먼트를 제거한 경로를 반환합니다. ({@code stripPrefix(1)}과 동일)
+     *
+     * @return prefix가 제거된 경로, 남은 경로가 없으면 {@code /}
+     */
+    public String strippedPath() {
+        return firstSegmentEnd < path.length() ? path.substring(firstSegmentEnd) : "/";
+    }
+
+    /**
+     * 매칭된 라우트가 있는지 여부를 반환합니다.
+     */
+    public boolean matched() {
+        return routeIndex != NO_ROUTE;
+    }
+}
@@ -0,0 +1,96 @@
+package com.nhnacademy.gateway.common.route;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 외부 라우트 테이블 파일 형식.
+ *
+ * <p>{@code RouterConfig}의 라우트 테이블과 같은 내용을 JSON으로 선언합니다. 배열 순서가 곧 매칭 우선순위이며,
+ * 요청 한도/응답 캐시/병합/압축 같은 나머지 라우트 필터는 지금처럼 라우트 ID별 설정으로 적용됩니다.</p>
+ *
+ * <pre>{@code
+ * {
+ *   "routes": [
+ *     {"id": "AUTH-SERVICE", "uri": "lb://AUTH-SERVICE", "paths": ["/api/auth/**"], "authenticated": false},
+ *     {"id": "USER-SERVICE", "uri": "lb://USER-SERVICE", "paths": ["/api/admin/users/**"],
+ *      "requiredRoles": ["ROLE_ADMIN"]}
+ *   ]
+ * }
+ * }</pre>
+ *
+ * <p>{@code authenticated}를 생략하면 JWT 인증이 필요한 라우트로 취급합니다.</p>
+ */
+public final class RouteTableFile {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private RouteTableFile() {
+    }
+
+    /**
+     * 라우트 테이블 문서를 읽어 라우트 목록을 만듭니다.
+     *
+     * @param document 라우트 테이블 JSON
+     * @return 선언 순서대로 정렬된 라우트 목록
+     * @throws IllegalArgumentException 문서 형식이 잘못되었거나 라우트가 하나도 없는 경우
+     */
+    public static List<RouteEntry> parse(byte[] document) {
+        JsonNode root;
+        try {
+            root = OBJECT_MAPPER.readTree(document);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("라우트 테이블 문서를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        JsonNode entries = (root == null) ? null : root.get("routes");
+        if (entries == null || !entries.isArray() || entries.isEmpty()) {
+            throw new IllegalArgumentException("라우트 테이블 문서에 routes 배열이 없거나 비어 있습니다.");
+        }
+
+        List<RouteEntry> routes = new ArrayList<>(entries.size());
+        for (JsonNode entry : entries) {
+            String id = required(entry, "id");
+            List<String> paths = strings(entry, "paths");
+            if (paths.isEmpty()) {
+                throw new IllegalArgumentException("라우트에 paths가 없습니다: " + id);
+            }
+            routes.add(new RouteEntry(
+                    id,
+                    required(entry, "uri"),
+                    paths,
+                    entry.path("authenticated").asBoolean(true),
+                    strings(entry, "requiredRoles")));
+        }
+        return List.copyOf(routes);
+    }
+
+    private static String required(JsonNode entry, String field) {
+        JsonNode value = entry.get(field);
+        if (value == null || !value.isTextual() || value.asText().isBlank()) {
+            throw new IllegalArgumentException("라우트에 " + field + " 값이 없습니다: " + entry);
+        }
+        return value.asText();
+    }
+
+    private static List<String> strings(JsonNode entry, String field) {
+        JsonNode values = entry.get(field);
+        if (values == null || values.isNull()) {
+            return List.of();
+        }
+        if (!values.isArray()) {
+            throw new IllegalArgumentException("라우트의 " + field + " 값은 배열이어야 합니다: " + entry);
+        }
+        List<String> result = new ArrayList<>(values.size());
+        for (JsonNode value : values) {
+            if (!value.isTextual() || value.asText().isBlank()) {
+                throw new IllegalArgumentException("라우트의 " + field + " 항목이 잘못되었습니다: " + entry);
+            }
+            result.add(value.asText());
+        }
+        return result;
+    }
+}
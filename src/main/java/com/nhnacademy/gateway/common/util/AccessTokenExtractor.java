@@ -0,0 +1,130 @@
+package com.nhnacademy.gateway.common.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 요청에서 액세스 토큰을 추출하는 컴포넌트.
+ *
+ * <p>{@link ServerHttpRequest#getCookies()}는 요청의 모든 쿠키를 {@code MultiValueMap<String, HttpCookie>}로
+ * 파싱하므로, 쿠키 헤더가 큰 브라우저 요청에서는 요청마다 불필요한 객체가 많이 생성됩니다.
+ * 이 클래스는 원본 {@code Cookie} 헤더 문자열을 직접 스캔해 설정된 쿠키 하나만 찾으며,
+ * 토큰 값 문자열 외에는 객체를 생성하지 않습니다.</p>
+ *
+ * <h3>추출 순서</h3>
+ * <ol>
+ *     <li>{@code Cookie} 헤더의 {@code jwt.cookie-name} 쿠키 (기본값: {@code accessToken})</li>
+ *     <li>쿠키가 없으면 {@code Authorization: Bearer} 헤더 (브라우저가 아닌 클라이언트용)</li>
+ * </ol>
+ */
+@Component
+public class AccessTokenExtractor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * 액세스 토큰을 담는 쿠키 이름
+     */
+    @Value("${jwt.cookie-name:accessToken}")
+    private String cookieName = "accessToken";
+
+    /**
+     * 요청에서 액세스 토큰을 추출합니다.
+     *
+     * <p>쿠키가 존재하지만 값이 비어 있으면 빈 문자열을 반환하여, 검증 단계에서 오류로 처리되도록 합니다.</p>
+     *
+     * @param request 요청
+     * @return 액세스 토큰, 쿠키와 Bearer 헤더가 모두 없으면 null
+     */
+    public String extract(ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+
+        List<String> cookieHeaders = headers.get(HttpHeaders.COOKIE);
+        if (cookieHeaders != null) {
+            for (String cookieHeader : cookieHeaders) {
+                String token = findCookieValue(cookieHeader, cookieName);
+                if (token != null) {
+                    return token;
+                }
+            }
+        }
+
+        return bearerToken(headers.getFirst(HttpHeaders.AUTHORIZATION));
+    }
+
+    /**
+     * {@code Cookie} 헤더 값에서 지정한 이름의 쿠키 값을 찾습니다.
+     *
+     * <p>{@code name=value; name2=value2} 형식을 앞에서부터 한 번 스캔하며,
+     * 큰따옴표로 감싼 값은 따옴표를 제거합니다.</p>
+     *
+     * @param header {@code Cookie} 헤더 값
+     * @param name   찾을 쿠키 이름
+     * @return 쿠키 값, 없으면 null
+     */
+    static String findCookieValue(String header, String name) {
+        int length = header.length();
+        int nameLength = name.length();
+        int position = 0;
+
+        while (position < length) {
+            // 쿠키 쌍 앞의 공백과 구분자 건너뛰기
+            char c = header.charAt(position);
+            if (c == ' ' || c == '\t' || c == ';') {
+                position++;
+                continue;
+            }
+
+            int pairEnd = header.indexOf(';', position);
+            if (pairEnd < 0) {
+                pairEnd = length;
+            }
+
+            int nameEnd = position + nameLength;
+            if (nameEnd < pairEnd
+                    && header.charAt(nameEnd) == '='
+                    && header.regionMatches(position, name, 0, nameLength)) {
+                return trimValue(header, nameEnd + 1, pairEnd);
+            }
+
+            position = pairEnd + 1;
+        }
+
+        return null;
+    }
+
+    /**
+     * 쿠키 값 구간의 앞뒤 공백과 감싸는 큰따옴표를 제거해 반환합니다.
+     */
+    private static String trimValue(String header, int start, int end) {
+        while (start < end && header.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && header.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end - start >= 2 && header.charAt(start) == '"' && header.charAt(end - 1) == '"') {
+            start++;
+            end--;
+        }
+        return header.substring(start, end);
+    }
+
+    /**
+     * {@code Authorization} 헤더에서 Bearer 토큰을 추출합니다.
+     *
+     * @param authorization {@code Authorization} 헤더 값
+     * @return Bearer 토큰, Bearer 방식이 아니면 null
+     */
+    private static String bearerToken(String authorization) {
+        if (authorization == null
+                || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        return authorization.substring(BEARER_PREFIX.length()).trim();
+    }
+}
@@ -0,0 +1,56 @@
+package com.nhnacademy.gateway.common.util;
+
+import com.nhnacademy.gateway.common.config.CompressionProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * 응답 압축에 사용하는 {@link Deflater} 풀.
+ *
+ * <p>{@link Deflater}는 생성할 때마다 수백 KB의 네이티브 압축 상태를 할당하고 해제해야 하므로, 다 쓴 압축기를
+ * {@link Deflater#reset()}해 보관했다가 다음 응답에 다시 사용합니다. 보관 개수({@code deflater-pool-size})를
+ * 넘는 압축기는 바로 해제하므로, 동시에 압축하는 응답이 많아도 풀이 붙잡는 메모리는 일정합니다.</p>
+ */
+@Component
+public class DeflaterPool {
+
+    private final int level;
+
+    private final BlockingQueue<Deflater> idle;
+
+    /**
+     * @param properties 압축 수준({@code level})과 보관할 압축기 최대 개수({@code deflater-pool-size})
+     */
+    public DeflaterPool(CompressionProperties properties) {
+        this.level = properties.level();
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, properties.deflaterPoolSize()));
+    }
+
+    /**
+     * 보관 중인 압축기를 꺼내고, 없으면 새로 만듭니다. (gzip 본문용 raw deflate 형식)
+     */
+    public Deflater acquire() {
+        Deflater deflater = idle.poll();
+        return (deflater != null) ? deflater : new Deflater(level, true);
+    }
+
+    /**
+     * 다 쓴 압축기를 초기화해 돌려줍니다. 풀이 가득 차 있으면 네이티브 자원을 해제합니다.
+     */
+    public void release(Deflater deflater) {
+        deflater.reset();
+        if (!idle.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 보관 중인 압축기 수
+     */
+    public int idle() {
+        return idle.size();
+    }
+}
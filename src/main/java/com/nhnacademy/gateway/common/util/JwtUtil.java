@@ -1,19 +1,37 @@
 package com.nhnacademy.gateway.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import com.nhnacademy.gateway.common.revocation.RevocationList;
+import com.nhnacademy.gateway.common.util.TokenVerification.Outcome;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Date;
-import java.util.Objects;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * JWT 유틸리티 클래스.
@@ -22,19 +40,51 @@ import java.util.Objects;
  *
  * <h3>주요 기능</h3>
  * <ul>
- *     <li>토큰의 서명 및 만료 검증</li>
+ *     <li>토큰의 서명 및 만료 검증 (헤더의 {@code kid}로 검증 키 선택, {@link SigningKeySet})</li>
  *     <li>사용자 ID(subject) 및 커스텀 클레임 추출</li>
+ *     <li>한 번의 파싱으로 검증된 사용자 정보({@link VerifiedPrincipal}) 반환</li>
+ *     <li>검증된 토큰 캐싱 (토큰 SHA-256 다이제스트 기준, 토큰의 {@code exp}에 만료)</li>
+ *     <li>폐기된 토큰 ID({@code jti})/사용자 ID 거부 ({@link RevocationList})</li>
+ *     <li>예외 없이 검증 결과를 반환하는 {@link #tryVerify(String)} ({@link TokenVerification})</li>
  * </ul>
  *
  * <p>
- * 유효하지 않은 토큰의 경우 {@link UnauthorizedException} 예외를 발생시킵니다.
+ * 유효하지 않은 토큰의 경우 {@link UnauthorizedException} 예외를 발생시킵니다. 이 예외는 결과 유형마다 미리 만들어 둔
+ * 스택 트레이스 없는 인스턴스입니다. 검증에 실패한 토큰은 결과 유형을 따로 캐시해, 같은 토큰이 반복되면 다시 파싱하지 않습니다.
+ * 캐시의 hit/miss/eviction 지표는 {@code cache.*{cache=jwt-verified-token}} 이름으로 actuator에 노출됩니다.
  * </p>
  *
  * @author HwangSlater
  */
 @Slf4j
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
+
+    /**
+     * actuator에 노출되는 검증 토큰 캐시 이름
+     */
+    static final String VERIFIED_TOKEN_CACHE_NAME = "jwt-verified-token";
+
+    /**
+     * 검증 키 묶음에 없는 {@code kid}로 서명된 토큰의 오류 메시지
+     */
+    static final String UNKNOWN_KEY_ID_MESSAGE = "등록되지 않은 서명 키(kid)입니다.";
+
+    /**
+     * 등록되지 않은 {@code kid}를 알리는 예외 (스택 트레이스 없이 재사용)
+     */
+    private static final UnknownKeyIdException UNKNOWN_KEY_ID = new UnknownKeyIdException();
+
+    /**
+     * 요청 스레드(Netty 이벤트 루프)마다 재사용하는 SHA-256 다이제스트
+     */
+    private static final ThreadLocal<MessageDigest> TOKEN_DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
 
     /**
      * application.properties에서 주입받은 JWT 서명용 시크릿 키
@@ -43,46 +93,201 @@ public class JwtUtil {
     private String secret;
 
     /**
-     * JWT 서명 및 검증에 사용하는 HMAC 키 객체
+     * 검증 토큰 캐시에 보관할 최대 토큰 수
+     */
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long cacheMaximumSize = 10_000;
+
+    /**
+     * 검증에 실패한 토큰의 결과 유형을 보관할 최대 토큰 수
+     */
+    @Value("${jwt.cache.rejected-maximum-size:10000}")
+    private long rejectedCacheMaximumSize = 10_000;
+
+    /**
+     * {@code exp} 클레임이 없는 토큰을 캐시에 보관할 최대 시간(초)
+     */
+    @Value("${jwt.cache.max-ttl-seconds:1800}")
+    private long cacheMaxTtlSeconds = 1_800;
+
+    /**
+     * JWT 서명 및 검증에 사용하는 HMAC 키 객체 ({@code kid}가 없는 토큰의 검증 키)
      */
     private Key secretKey;
 
     /**
-     * 빈 초기화 시 시크릿 문자열을 기반으로 서명 키를 생성합니다.
+     * 토큰의 {@code kid}로 찾는 검증 키 묶음. 키 파일이 바뀌면 통째로 교체합니다.
+     */
+    private final AtomicReference<SigningKeySet> keySet = new AtomicReference<>();
+
+    /**
+     * 폐기된 토큰 ID/사용자 ID 목록. 목록 파일을 다시 읽으면 통째로 교체합니다.
+     */
+    private final AtomicReference<RevocationList> revocationList = new AtomicReference<>(RevocationList.empty());
+
+    /**
+     * 검증 키 묶음에서 서명 키를 찾는 JWT 파서 (불변 객체로 모든 요청 스레드에서 공유)
+     */
+    private JwtParser jwtParser;
+
+    /**
+     * 서명 검증을 통과한 토큰의 캐시 (키: 토큰 SHA-256 다이제스트)
+     */
+    private Cache<ByteBuffer, VerifiedPrincipal> verifiedTokenCache;
+
+    /**
+     * 검증에 실패한 토큰의 결과 유형 캐시 (키: 토큰 SHA-256 다이제스트).
+     * 만료/구조 오류는 바뀌지 않고, 서명 관련 실패는 검증 키 묶음을 교체할 때 비웁니다.
+     */
+    private Cache<ByteBuffer, TokenVerification.Outcome> rejectedTokenCache;
+
+    /**
+     * 빈 초기화 시 시크릿 문자열을 기반으로 기본 서명 키, JWT 파서, 검증 토큰 캐시를 생성합니다.
+     *
+     * <p>{@code kid}별 검증 키는 {@link #swapKeySet(SigningKeySet)}으로 추가됩니다.</p>
      */
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.keySet.set(SigningKeySet.of(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeySetResolver())
+                .build();
+
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(cacheMaxTtlSeconds)))
+                .recordStats()
+                .build();
+        this.rejectedTokenCache = Caffeine.newBuilder()
+                .maximumSize(rejectedCacheMaximumSize)
+                .build();
     }
 
     /**
-     * 주어진 JWT 토큰의 유효성을 검증합니다.
+     * 현재 검증 키 묶음을 반환합니다.
+     *
+     * @return 검증 키 묶음
+     */
+    public SigningKeySet keySet() {
+        return keySet.get();
+    }
+
+    /**
+     * 검증 키 묶음을 교체합니다. 이후 검증하는 토큰부터 새 키 묶음을 사용합니다.
      *
-     * <p>만료되었거나 구조가 잘못된 토큰에 대해 {@link UnauthorizedException} 예외를 발생시킵니다.</p>
+     * <p>이전 키 중 빠지거나 바뀐 키가 있으면, 그 키로 검증해 둔 토큰이 계속 통과하지 않도록 검증 토큰 캐시를 비웁니다.
+     * 새 키로 서명된 토큰이 이전 거부 결과에 막히지 않도록 실패 결과 캐시는 항상 비웁니다.</p>
+     *
+     * @param next 새 검증 키 묶음
+     */
+    public void swapKeySet(SigningKeySet next) {
+        SigningKeySet previous = keySet.getAndSet(next);
+        if (next.revokesAnyOf(previous)) {
+            verifiedTokenCache.invalidateAll();
+        }
+        rejectedTokenCache.invalidateAll();
+    }
+
+    /**
+     * 현재 토큰 폐기 목록을 반환합니다. 반환된 목록에 추가한 항목은 바로 검증에 반영됩니다.
+     *
+     * @return 토큰 폐기 목록
+     */
+    public RevocationList revocationList() {
+        return revocationList.get();
+    }
+
+    /**
+     * 토큰 폐기 목록을 교체합니다.
+     *
+     * <p>폐기 여부는 검증 토큰 캐시를 조회한 뒤에도 매번 확인하므로 캐시를 비우지 않습니다.</p>
+     *
+     * @param next 새 토큰 폐기 목록
+     */
+    public void swapRevocationList(RevocationList next) {
+        revocationList.set(next);
+    }
+
+    /**
+     * 검증 토큰 캐시의 지표를 actuator(Micrometer)에 등록합니다.
+     *
+     * @param registry 지표를 등록할 {@link MeterRegistry}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokenCache, VERIFIED_TOKEN_CACHE_NAME);
+    }
+
+    /**
+     * 토큰을 한 번만 파싱해 서명과 만료를 검증하고 결과를 반환합니다. 유효하지 않은 토큰이어도 예외를 발생시키지 않습니다.
+     *
+     * <p>이미 검증된 토큰이라면 서명 검증과 JSON 파싱 없이 캐시된 결과를 사용하고, 이미 거부한 토큰이라면
+     * 캐시된 실패 결과를 그대로 반환합니다. 구조가 JWT가 아닌 문자열은 다이제스트 계산 전에 거부합니다.</p>
      *
      * @param token 검증할 JWT 문자열
-     * @throws UnauthorizedException 유효하지 않은 토큰일 경우
+     * @return 검증 결과 (실패 결과는 미리 만들어 둔 인스턴스)
      */
-    public void validateToken(String token) {
-        try {
-            isValidJwtToken(token);
+    public TokenVerification tryVerify(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenVerification.failure(Outcome.EMPTY);
+        }
+        if (!isCompactJws(token)) {
+            return TokenVerification.failure(Outcome.MALFORMED);
+        }
 
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+        ByteBuffer key = digest(token);
+        VerifiedPrincipal principal = verifiedTokenCache.getIfPresent(key);
+        if (principal == null) {
+            Outcome rejected = rejectedTokenCache.getIfPresent(key);
+            if (rejected != null) {
+                return TokenVerification.failure(rejected);
+            }
 
-            log.debug("JWT 유효성 검사 통과: {}", token);
+            TokenVerification parsed = parseAndCache(key, token);
+            if (!parsed.valid()) {
+                return parsed;
+            }
+            principal = parsed.principal();
+        }
 
-        } catch (ExpiredJwtException e) {
-            log.warn("JWT 만료됨. exp: {}, now: {}", e.getClaims().getExpiration(), new Date());
-            throw new UnauthorizedException("JWT가 만료되었습니다.");
-        } catch (JwtException e) {
-            log.warn("유효하지 않은 JWT. message: {}, token: {}", e.getMessage(), token, e);
-            throw new UnauthorizedException(e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.warn("잘못된 JWT 입력: {}", e.getMessage());
-            throw new UnauthorizedException("잘못된 JWT 입력입니다.");
+        // 폐기 여부는 목록이 바뀔 수 있으므로 캐시하지 않고 매번 확인
+        if (revocationList.get().isRevoked(principal.tokenId(), principal.userId())) {
+            return TokenVerification.failure(Outcome.REVOKED);
+        }
+        return TokenVerification.valid(principal);
+    }
+
+    /**
+     * 토큰을 한 번만 파싱해 서명과 만료를 검증하고 사용자 정보를 반환합니다.
+     *
+     * <p>이미 검증된 토큰이라면 서명 검증과 JSON 파싱 없이 캐시된 결과를 반환합니다.</p>
+     *
+     * @param token 검증할 JWT 문자열
+     * @return 검증된 사용자 정보
+     * @throws UnauthorizedException 토큰이 유효하지 않거나 {@code user_id} 클레임이 없거나 폐기된 경우
+     */
+    public VerifiedPrincipal verify(String token) {
+        TokenVerification verification = tryVerify(token);
+        if (!verification.valid()) {
+            throw verification.exception();
+        }
+        return verification.principal();
+    }
+
+    /**
+     * 주어진 JWT 토큰의 유효성을 검증합니다.
+     *
+     * <p>만료되었거나 구조가 잘못된 토큰에 대해 {@link UnauthorizedException} 예외를 발생시킵니다.
+     * {@code user_id} 클레임이 없는 토큰은 서명이 유효하면 통과합니다.</p>
+     *
+     * @param token 검증할 JWT 문자열
+     * @throws UnauthorizedException 유효하지 않은 토큰일 경우
+     */
+    public void validateToken(String token) {
+        TokenVerification verification = tryVerify(token);
+        if (!verification.valid() && verification.outcome() != Outcome.MISSING_USER_ID) {
+            throw verification.exception();
         }
     }
 
@@ -97,49 +302,166 @@ public class JwtUtil {
      * @throws UnauthorizedException 토큰이 유효하지 않을 경우
      */
     public String getUserId(String token) {
+        return verify(token).userId();
+    }
+
+    /**
+     * 검증 토큰 캐시의 누적 통계를 반환합니다.
+     *
+     * @return hit/miss/eviction 통계
+     */
+    CacheStats verifiedTokenCacheStats() {
+        return verifiedTokenCache.stats();
+    }
+
+    /**
+     * 공유 파서로 토큰을 파싱하고, 결과를 검증 토큰 캐시나 실패 결과 캐시에 보관합니다.
+     *
+     * <p>JWT 라이브러리가 던지는 예외는 여기서만 잡아 결과 유형으로 바꿉니다. 아직 유효 시각({@code nbf})이
+     * 되지 않은 토큰은 나중에 유효해지므로 실패 결과를 캐시하지 않습니다.</p>
+     *
+     * @param key   토큰 다이제스트
+     * @param token JWT 문자열
+     * @return 검증 결과
+     */
+    private TokenVerification parseAndCache(ByteBuffer key, String token) {
+        Outcome outcome;
         try {
-            isValidJwtToken(token);
-            String subject = getClaims(token).get("user_id", String.class);
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
 
-            if (subject == null) {
-                throw new JwtException("JWT에서 사용자 ID 추출 실패");
+            VerifiedPrincipal principal = VerifiedPrincipal.from(claims);
+            if (principal != null) {
+                verifiedTokenCache.put(key, principal);
+                return TokenVerification.valid(principal);
             }
-
-            return subject;
+            outcome = Outcome.MISSING_USER_ID;
+        } catch (ExpiredJwtException e) {
+            outcome = Outcome.EXPIRED;
+        } catch (UnknownKeyIdException e) {
+            outcome = Outcome.UNKNOWN_KEY_ID;
+        } catch (SignatureException e) {
+            outcome = Outcome.BAD_SIGNATURE;
+        } catch (PrematureJwtException e) {
+            log.debug("아직 유효하지 않은 JWT: {}", e.getMessage());
+            return TokenVerification.failure(Outcome.MALFORMED);
         } catch (JwtException | IllegalArgumentException e) {
-            String message = e.getMessage();
-            throw new UnauthorizedException(
-                    (Objects.nonNull(message) && !message.isEmpty())
-                            ? message
-                            : "JWT에서 사용자 ID 추출 실패"
-            );
+            log.debug("유효하지 않은 JWT: {}", e.getMessage());
+            outcome = Outcome.MALFORMED;
         }
+
+        rejectedTokenCache.put(key, outcome);
+        return TokenVerification.failure(outcome);
+    }
+
+    /**
+     * JWS compact 형식({@code header.payload.signature}, base64url 문자)인지 확인합니다.
+     *
+     * <p>파서가 예외를 던지기 전에 명백히 잘못된 문자열을 걸러내는 용도이며, 형식만 확인합니다.</p>
+     *
+     * @param token 비어 있지 않은 토큰 문자열
+     * @return 세 부분이 모두 비어 있지 않고 허용된 문자만 있으면 true
+     */
+    private static boolean isCompactJws(String token) {
+        int dots = 0;
+        int segmentLength = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0 || ++dots > 2) {
+                    return false;
+                }
+                segmentLength = 0;
+            } else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '=') {
+                segmentLength++;
+            } else {
+                return false;
+            }
+        }
+        return dots == 2 && segmentLength > 0;
     }
 
     /**
-     * JWT에서 Claims(페이로드)를 추출합니다.
+     * 토큰 문자열의 SHA-256 다이제스트를 캐시 키로 반환합니다.
+     *
+     * <p>원본 토큰을 메모리에 보관하지 않기 위해 다이제스트를 키로 사용합니다.</p>
      *
      * @param token JWT 문자열
-     * @return Claims 객체
-     * @throws JwtException 서명 검증 실패 또는 잘못된 토큰 구조일 경우
+     * @return 내용 기반 equals/hashCode를 갖는 다이제스트 버퍼
      */
-    private Claims getClaims(String token) throws JwtException {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(TOKEN_DIGEST.get().digest(token.getBytes(StandardCharsets.UTF_8)));
     }
 
     /**
-     * 전달된 문자열이 null이거나 비어 있는 경우 예외를 발생시킵니다.
+     * 토큰 헤더의 {@code kid}로 현재 검증 키 묶음에서 키를 찾는 리졸버.
      *
-     * @param value 검사할 문자열
-     * @throws IllegalArgumentException 값이 null이거나 공백 문자열인 경우
+     * <p>등록되지 않은 {@code kid}는 키를 다시 불러오지 않고 바로 거부합니다.</p>
      */
-    private void isValidJwtToken(String value) {
-        if (value == null || value.trim().isEmpty()) {
-            throw new IllegalArgumentException("JWT 토큰이 null이거나 비어 있습니다.");
+    private final class KeySetResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            return resolve(header);
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, String plaintext) {
+            return resolve(header);
+        }
+
+        private Key resolve(JwsHeader header) {
+            Key key = keySet.get().resolve(header.getKeyId());
+            if (key == null) {
+                throw UNKNOWN_KEY_ID;
+            }
+            return key;
+        }
+    }
+
+    /**
+     * 검증 키 묶음에 없는 {@code kid}로 서명된 토큰을 다른 서명 오류와 구분하기 위한 예외.
+     * 파서 밖으로 나가지 않으므로 스택 트레이스 없이 하나만 만들어 재사용합니다.
+     */
+    private static final class UnknownKeyIdException extends SignatureException {
+
+        private UnknownKeyIdException() {
+            super(UNKNOWN_KEY_ID_MESSAGE);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * 캐시 항목을 토큰의 {@code exp} 시각에 만료시키는 {@link Expiry}.
+     *
+     * <p>{@code exp}가 없거나 최대 보관 시간보다 먼 경우 최대 보관 시간을 적용하며,
+     * 조회나 갱신으로는 만료 시각이 연장되지 않습니다.</p>
+     *
+     * @param maxTtlNanos 최대 보관 시간(나노초)
+     */
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<ByteBuffer, VerifiedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedPrincipal value, long currentTime) {
+            if (value.expiration() == null) {
+                return maxTtlNanos;
+            }
+            long remainingMillis = value.expiration().toEpochMilli() - System.currentTimeMillis();
+            return Math.min(TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0)), maxTtlNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
-}
\ No newline at end of file
+}
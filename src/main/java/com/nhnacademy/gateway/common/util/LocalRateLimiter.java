@@ -0,0 +1,85 @@
+package com.nhnacademy.gateway.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.gateway.common.config.RateLimitProperties.Limit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis 없이 게이트웨이 인스턴스 안에서 동작하는 토큰 버킷 요청 제한기.
+ *
+ * <p>버킷 하나를 {@link AtomicLong} 하나(다음 요청이 도착할 것으로 예상되는 시각, GCRA 방식)로 표현해
+ * CAS로만 갱신하므로 잠금이 없습니다. 버킷은 키(사용자 ID 또는 클라이언트 IP)별로 Caffeine 캐시에 보관하며,
+ * 최대 개수와 유휴 만료 시간으로 메모리 사용량을 제한합니다. 제거된 버킷은 다음 요청 시 가득 찬 상태로 다시 생성됩니다.</p>
+ */
+public class LocalRateLimiter {
+
+    /**
+     * 요청 하나당 소비되는 시간 (1 / 초당 충전량)
+     */
+    private final long emissionIntervalNanos;
+
+    /**
+     * 버킷 크기만큼의 요청을 한 번에 허용하는 시간 범위
+     */
+    private final long burstToleranceNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public LocalRateLimiter(Limit limit, long maxKeys, Duration idleTimeout) {
+        this(limit, maxKeys, idleTimeout, System::nanoTime);
+    }
+
+    LocalRateLimiter(Limit limit, long maxKeys, Duration idleTimeout, LongSupplier nanoClock) {
+        this.emissionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / limit.replenishRate();
+        this.burstToleranceNanos = emissionIntervalNanos * limit.burstCapacity();
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * 키의 버킷에서 요청 하나를 소비합니다.
+     *
+     * @param key 사용자 ID 또는 클라이언트 IP
+     * @return 허용되면 0, 거부되면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long now = nanoClock.getAsLong();
+
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long overflow = next - now - burstToleranceNanos;
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 현재 보관 중인 버킷 수(추정치)를 반환합니다.
+     */
+    long estimatedSize() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * 지연된 버킷 제거 작업을 즉시 수행합니다.
+     */
+    void cleanUp() {
+        buckets.cleanUp();
+    }
+}
@@ -0,0 +1,158 @@
+package com.nhnacademy.gateway.common.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 검증 키 묶음.
+ *
+ * <p>토큰 헤더의 {@code kid}로 검증 키를 찾습니다. {@code kid}가 없는 토큰은 기본 키({@code jwt.secret})로 검증하고,
+ * 등록되지 않은 {@code kid}는 원격 조회 없이 거부합니다. 키 객체는 불러올 때 모두 만들어 두므로
+ * 요청 처리 중의 조회는 맵 조회 한 번입니다.</p>
+ *
+ * @param keys       {@code kid}별 검증 키
+ * @param defaultKey {@code kid}가 없는 토큰의 검증 키
+ */
+public record SigningKeySet(Map<String, Key> keys, Key defaultKey) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+
+    public SigningKeySet {
+        keys = Map.copyOf(keys);
+    }
+
+    /**
+     * 기본 키만 있는 키 묶음을 만듭니다.
+     */
+    public static SigningKeySet of(Key defaultKey) {
+        return new SigningKeySet(Map.of(), defaultKey);
+    }
+
+    /**
+     * JWK Set 문서({@code {"keys": [...]}})를 읽어 키 묶음을 만듭니다.
+     *
+     * <p>HMAC({@code kty=oct}), RSA 공개 키({@code kty=RSA}), EC 공개 키({@code kty=EC}, P-256/P-384/P-521)를
+     * 지원하며, 암호화 용도({@code use=enc})의 키는 건너뜁니다.</p>
+     *
+     * @param document   JWK Set JSON
+     * @param defaultKey {@code kid}가 없는 토큰의 검증 키
+     * @return 키 묶음
+     * @throws IllegalArgumentException 문서 형식이 잘못되었거나 지원하지 않는 키가 있는 경우
+     */
+    public static SigningKeySet parse(byte[] document, Key defaultKey) {
+        JsonNode root;
+        try {
+            root = OBJECT_MAPPER.readTree(document);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JWK Set 문서를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        JsonNode entries = (root == null) ? null : root.get("keys");
+        if (entries == null || !entries.isArray()) {
+            throw new IllegalArgumentException("JWK Set 문서에 keys 배열이 없습니다.");
+        }
+
+        Map<String, Key> keys = new HashMap<>();
+        for (JsonNode jwk : entries) {
+            if ("enc".equals(jwk.path("use").asText(null))) {
+                continue;
+            }
+            String kid = required(jwk, "kid");
+            if (keys.put(kid, toKey(jwk)) != null) {
+                throw new IllegalArgumentException("kid가 중복되었습니다: " + kid);
+            }
+        }
+        return new SigningKeySet(keys, defaultKey);
+    }
+
+    /**
+     * {@code kid}에 해당하는 검증 키를 반환합니다.
+     *
+     * @param kid 토큰 헤더의 {@code kid}, 없으면 null
+     * @return 검증 키, 등록되지 않은 {@code kid}이면 null
+     */
+    public Key resolve(String kid) {
+        return (kid == null) ? defaultKey : keys.get(kid);
+    }
+
+    /**
+     * 이 키 묶음에서 빠졌거나 다른 키로 바뀐 {@code kid}가 있는지 확인합니다.
+     *
+     * @param previous 이전 키 묶음
+     * @return 이전 키 묶음의 키 중 더 이상 같은 키로 검증할 수 없는 것이 있으면 true
+     */
+    public boolean revokesAnyOf(SigningKeySet previous) {
+        if (!previous.defaultKey.equals(defaultKey)) {
+            return true;
+        }
+        for (Map.Entry<String, Key> entry : previous.keys.entrySet()) {
+            if (!entry.getValue().equals(keys.get(entry.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Key toKey(JsonNode jwk) {
+        String kty = required(jwk, "kty");
+        try {
+            return switch (kty) {
+                case "oct" -> Keys.hmacShaKeyFor(decode(jwk, "k"));
+                case "RSA" -> KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                        unsigned(jwk, "n"), unsigned(jwk, "e")));
+                case "EC" -> KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(
+                        new ECPoint(unsigned(jwk, "x"), unsigned(jwk, "y")), curve(required(jwk, "crv"))));
+                default -> throw new IllegalArgumentException("지원하지 않는 키 유형입니다: " + kty);
+            };
+        } catch (GeneralSecurityException | WeakKeyException e) {
+            throw new IllegalArgumentException(
+                    "검증 키를 만들 수 없습니다 (kid: " + jwk.path("kid").asText() + "): " + e.getMessage(), e);
+        }
+    }
+
+    private static ECParameterSpec curve(String crv) throws GeneralSecurityException {
+        String name = switch (crv) {
+            case "P-256" -> "secp256r1";
+            case "P-384" -> "secp384r1";
+            case "P-521" -> "secp521r1";
+            default -> throw new IllegalArgumentException("지원하지 않는 EC 곡선입니다: " + crv);
+        };
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec(name));
+        return parameters.getParameterSpec(ECParameterSpec.class);
+    }
+
+    private static BigInteger unsigned(JsonNode jwk, String field) {
+        return new BigInteger(1, decode(jwk, field));
+    }
+
+    private static byte[] decode(JsonNode jwk, String field) {
+        return BASE64_URL.decode(required(jwk, field));
+    }
+
+    private static String required(JsonNode jwk, String field) {
+        String value = jwk.path(field).asText(null);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("JWK에 " + field + " 값이 없습니다.");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,149 @@
+package com.nhnacademy.gateway.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWK Set 문서(로컬 파일 또는 JWKS URL)를 주기적으로 다시 읽어 {@link JwtUtil}의 검증 키 묶음을 교체합니다.
+ *
+ * <p>문서는 별도 스레드에서만 읽으므로 요청 처리 중에는 원격 호출이 일어나지 않습니다. 내용이 바뀐 경우에만
+ * 키를 다시 만들어 한 번에 교체하고, 읽기나 파싱에 실패하면 기존 키 묶음을 그대로 사용합니다.</p>
+ *
+ * <p>키 개수는 {@value #KEYS_METRIC}, 실패 횟수는 {@value #FAILURES_METRIC} 지표로 노출합니다.</p>
+ */
+@Slf4j
+public class SigningKeySetRefresher implements DisposableBean {
+
+    static final String KEYS_METRIC = "jwt.keyset.keys";
+
+    static final String FAILURES_METRIC = "jwt.keyset.reload.failures";
+
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final JwtUtil jwtUtil;
+
+    private final String location;
+
+    private final Duration refreshInterval;
+
+    private final Counter failures;
+
+    private HttpClient httpClient;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 마지막으로 적용한 문서
+     */
+    private byte[] lastDocument;
+
+    /**
+     * @param location        JWK Set 문서 위치 ({@code http(s)://} URL 또는 파일 경로)
+     * @param refreshInterval 다시 읽는 간격
+     */
+    public SigningKeySetRefresher(JwtUtil jwtUtil, String location, Duration refreshInterval,
+                                  MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.location = location;
+        this.refreshInterval = refreshInterval;
+        this.failures = Counter.builder(FAILURES_METRIC)
+                .description("JWK Set 문서를 읽거나 파싱하지 못한 횟수")
+                .register(meterRegistry);
+        Gauge.builder(KEYS_METRIC, jwtUtil, util -> util.keySet().keys().size())
+                .description("kid로 찾을 수 있는 JWT 검증 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 키를 한 번 읽은 뒤 주기적인 갱신을 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (isRemote()) {
+            httpClient = HttpClient.newBuilder()
+                    .connectTimeout(HTTP_TIMEOUT)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+        }
+        refresh();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("jwt-keyset-refresh")
+                .daemon()
+                .factory());
+        long intervalMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 문서를 다시 읽고, 내용이 바뀌었으면 검증 키 묶음을 교체합니다.
+     *
+     * @return 키 묶음을 교체했으면 true
+     */
+    synchronized boolean refresh() {
+        try {
+            byte[] document = read();
+            if (Arrays.equals(document, lastDocument)) {
+                return false;
+            }
+
+            SigningKeySet next = SigningKeySet.parse(document, jwtUtil.keySet().defaultKey());
+            jwtUtil.swapKeySet(next);
+            lastDocument = document;
+            log.info("JWT 검증 키를 불러왔습니다. (kid {}개: {})", next.keys().size(), next.keys().keySet());
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            failures.increment();
+            log.warn("JWT 검증 키를 불러오지 못해 기존 키를 계속 사용합니다: {} ({})", location, e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private byte[] read() throws IOException, InterruptedException {
+        if (!isRemote()) {
+            return Files.readAllBytes(Path.of(location));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(location))
+                .timeout(HTTP_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("JWKS 응답 상태 코드: " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private boolean isRemote() {
+        return location.startsWith("http://") || location.startsWith("https://");
+    }
+}
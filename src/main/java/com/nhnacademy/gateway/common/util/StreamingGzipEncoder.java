@@ -0,0 +1,163 @@
+package com.nhnacademy.gateway.common.util;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 본문을 조각(chunk) 단위로 받아 gzip으로 압축하는 인코더.
+ *
+ * <p>{@link java.util.zip.GZIPOutputStream}과 같은 형식(RFC 1952)을 만들지만, 입력 조각마다
+ * {@link Deflater#SYNC_FLUSH}로 그 조각까지의 압축 결과를 모두 출력 버퍼에 쓰므로 전체 본문을 모으지 않고 스트리밍할 수
+ * 있고, 업스트림이 보낸 조각이 압축기 안에 머물지 않아 첫 바이트가 늦어지지 않습니다. 메모리 사용량은
+ * {@link Deflater}의 내부 창(window) 크기로 제한됩니다.</p>
+ *
+ * <p>압축 결과는 호출한 쪽이 할당한 {@link DataBuffer}(Netty 풀 버퍼 등)에 바로 쓰므로 중간 바이트 배열을 만들지 않습니다.
+ * 압축기는 {@link DeflaterPool}에서 빌리며, 응답 하나에 인스턴스 하나를 사용하고 사용이 끝나면 {@link #close()}로
+ * 압축기를 풀에 돌려줘야 합니다.</p>
+ */
+public final class StreamingGzipEncoder implements AutoCloseable {
+
+    private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b,  // magic
+            Deflater.DEFLATED,  // compression method
+            0,                  // flags
+            0, 0, 0, 0,         // modification time
+            0,                  // extra flags
+            (byte) 0xff         // OS: unknown
+    };
+
+    private static final int TRAILER_SIZE = 8;
+
+    /**
+     * 압축 결과를 꺼내기 전에 출력 버퍼에 확보하는 최소 여유 공간
+     */
+    private static final int MIN_WRITABLE = 512;
+
+    private final DeflaterPool pool;
+
+    private final Deflater deflater;
+
+    private final CRC32 crc = new CRC32();
+
+    private long inputBytes;
+
+    private long outputBytes;
+
+    private boolean headerWritten;
+
+    private boolean closed;
+
+    /**
+     * @param pool 압축기를 빌려 오고 돌려줄 풀
+     */
+    public StreamingGzipEncoder(DeflaterPool pool) {
+        this.pool = pool;
+        this.deflater = pool.acquire();
+    }
+
+    /**
+     * 본문 조각을 압축하고, 조각 경계에서 압축기를 비워(sync flush) 결과를 출력 버퍼에 씁니다.
+     *
+     * @param input 압축할 본문 조각 (position부터 limit까지 모두 소비)
+     * @param out   지금까지 만들어진 압축 결과를 덧붙일 버퍼 (필요하면 늘어남)
+     */
+    public synchronized void encode(ByteBuffer input, DataBuffer out) {
+        ensureOpen();
+        writeHeaderIfNeeded(out);
+
+        inputBytes += input.remaining();
+        crc.update(input.duplicate());
+        deflater.setInput(input);
+        // 출력 공간을 다 채우지 못했다면 입력과 플러시 블록까지 모두 쓴 것
+        boolean full;
+        do {
+            full = drain(out, Deflater.SYNC_FLUSH);
+        } while (full);
+    }
+
+    /**
+     * 남은 압축 결과와 gzip 트레일러(CRC32, 원본 크기)를 출력 버퍼에 씁니다.
+     *
+     * @param out 마지막 압축 결과를 덧붙일 버퍼
+     */
+    public synchronized void finish(DataBuffer out) {
+        ensureOpen();
+        writeHeaderIfNeeded(out);
+
+        deflater.finish();
+        while (!deflater.finished()) {
+            drain(out, Deflater.NO_FLUSH);
+        }
+
+        writeIntLe(out, (int) crc.getValue());
+        writeIntLe(out, (int) inputBytes);
+        outputBytes += TRAILER_SIZE;
+    }
+
+    /**
+     * 지금까지 입력된 원본 바이트 수
+     */
+    public synchronized long inputBytes() {
+        return inputBytes;
+    }
+
+    /**
+     * 지금까지 만들어진 압축 결과 바이트 수 (gzip 헤더/트레일러 포함)
+     */
+    public synchronized long outputBytes() {
+        return outputBytes;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            pool.release(deflater);
+        }
+    }
+
+    /**
+     * 압축 결과를 출력 버퍼의 여유 공간만큼 꺼냅니다.
+     *
+     * @return 여유 공간을 모두 채웠는지 여부 (채웠다면 남은 결과가 더 있을 수 있음)
+     */
+    private boolean drain(DataBuffer out, int flush) {
+        out.ensureWritable(MIN_WRITABLE);
+        int length;
+        boolean full;
+        try (DataBuffer.ByteBufferIterator iterator = out.writableByteBuffers()) {
+            ByteBuffer target = iterator.next();
+            int start = target.position();
+            deflater.deflate(target, flush);
+            length = target.position() - start;
+            full = !target.hasRemaining();
+        }
+        out.writePosition(out.writePosition() + length);
+        outputBytes += length;
+        return full;
+    }
+
+    private void writeHeaderIfNeeded(DataBuffer out) {
+        if (!headerWritten) {
+            headerWritten = true;
+            out.write(HEADER);
+            outputBytes += HEADER.length;
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("이미 닫힌 인코더입니다.");
+        }
+    }
+
+    private static void writeIntLe(DataBuffer out, int value) {
+        out.write((byte) value);
+        out.write((byte) (value >>> 8));
+        out.write((byte) (value >>> 16));
+        out.write((byte) (value >>> 24));
+    }
+}
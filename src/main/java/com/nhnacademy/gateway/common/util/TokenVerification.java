@@ -0,0 +1,88 @@
+package com.nhnacademy.gateway.common.util;
+
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+
+/**
+ * {@link JwtUtil#tryVerify(String)}의 검증 결과.
+ *
+ * <p>실패는 예외 대신 {@link Outcome}으로 돌려주므로, 유효하지 않은 토큰이 몰려도 예외 생성과 스택 트레이스
+ * 수집 비용이 들지 않습니다. 실패 결과와 응답용 예외는 결과 유형마다 하나씩 미리 만들어 두고 재사용합니다.</p>
+ *
+ * @param outcome   검증 결과 유형
+ * @param principal 검증된 사용자 정보 ({@link Outcome#VALID}가 아니면 null)
+ */
+public record TokenVerification(Outcome outcome, VerifiedPrincipal principal) {
+
+    /**
+     * 검증 결과 유형
+     */
+    public enum Outcome {
+        VALID(null),
+        /**
+         * 토큰이 null이거나 비어 있음
+         */
+        EMPTY(UnauthorizedException.EMPTY_TOKEN_MESSAGE),
+        /**
+         * JWT 구조나 인코딩이 잘못됨
+         */
+        MALFORMED(UnauthorizedException.INVALID_INPUT_MESSAGE),
+        /**
+         * 서명이 검증 키와 맞지 않음
+         */
+        BAD_SIGNATURE(UnauthorizedException.INVALID_SIGNATURE_MESSAGE),
+        /**
+         * 검증 키 묶음에 없는 {@code kid}로 서명됨
+         */
+        UNKNOWN_KEY_ID(JwtUtil.UNKNOWN_KEY_ID_MESSAGE),
+        EXPIRED(UnauthorizedException.EXPIRED_TOKEN_MESSAGE),
+        /**
+         * 서명은 유효하지만 {@code user_id} 클레임이 없음
+         */
+        MISSING_USER_ID(UnauthorizedException.MISSING_USER_ID_MESSAGE),
+        REVOKED(UnauthorizedException.REVOKED_TOKEN_MESSAGE);
+
+        private final UnauthorizedException exception;
+
+        private final TokenVerification failure;
+
+        Outcome(String message) {
+            this.exception = (message == null) ? null : UnauthorizedException.stackless(message);
+            this.failure = (message == null) ? null : new TokenVerification(this, null);
+        }
+
+        /**
+         * 결과 유형에 해당하는 응답용 예외 (미리 만들어 둔 스택 트레이스 없는 인스턴스, {@link #VALID}이면 null)
+         */
+        public UnauthorizedException exception() {
+            return exception;
+        }
+    }
+
+    /**
+     * 검증에 성공한 결과를 생성합니다.
+     */
+    static TokenVerification valid(VerifiedPrincipal principal) {
+        return new TokenVerification(Outcome.VALID, principal);
+    }
+
+    /**
+     * 미리 만들어 둔 실패 결과를 반환합니다.
+     */
+    static TokenVerification failure(Outcome outcome) {
+        return outcome.failure;
+    }
+
+    /**
+     * 검증에 성공했는지 여부
+     */
+    public boolean valid() {
+        return outcome == Outcome.VALID;
+    }
+
+    /**
+     * 실패 결과에 해당하는 응답용 예외 (성공이면 null)
+     */
+    public UnauthorizedException exception() {
+        return outcome.exception();
+    }
+}
@@ -0,0 +1,85 @@
+package com.nhnacademy.gateway.common.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 서명 및 만료 검증을 통과한 JWT의 사용자 정보.
+ *
+ * <p>{@link JwtUtil#verify(String)}가 토큰을 한 번 파싱해 생성하며, 불변 객체이므로
+ * 캐시에 보관하거나 여러 요청 스레드에서 공유해도 안전합니다.</p>
+ *
+ * @param userId     {@code user_id} 클레임
+ * @param expiration {@code exp} 클레임 (없으면 null)
+ * @param roles      {@code role} 클레임 (단일 문자열 또는 배열, 없으면 빈 목록)
+ * @param tokenId    {@code jti} 클레임 (없으면 null)
+ */
+public record VerifiedPrincipal(String userId, Instant expiration, List<String> roles, String tokenId) {
+
+    /**
+     * 사용자 ID 클레임 이름
+     */
+    static final String USER_ID_CLAIM = "user_id";
+
+    /**
+     * 권한 클레임 이름
+     */
+    static final String ROLE_CLAIM = "role";
+
+    public VerifiedPrincipal {
+        Objects.requireNonNull(userId, "userId");
+        roles = List.copyOf(roles);
+    }
+
+    /**
+     * {@code jti} 클레임이 없는 사용자 정보를 생성합니다.
+     */
+    public VerifiedPrincipal(String userId, Instant expiration, List<String> roles) {
+        this(userId, expiration, roles, null);
+    }
+
+    /**
+     * 검증된 Claims에서 사용자 정보를 생성합니다.
+     *
+     * @param claims 서명 검증을 통과한 Claims
+     * @return 사용자 정보, {@code user_id} 클레임이 없으면 null
+     */
+    static VerifiedPrincipal from(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        if (userId == null) {
+            return null;
+        }
+
+        Date expiration = claims.getExpiration();
+        return new VerifiedPrincipal(
+                userId,
+                expiration == null ? null : expiration.toInstant(),
+                rolesOf(claims.get(ROLE_CLAIM)),
+                claims.getId()
+        );
+    }
+
+    /**
+     * {@code role} 클레임 값을 권한 목록으로 변환합니다.
+     *
+     * @param claim 클레임 값 (문자열, 배열 또는 null)
+     * @return 권한 목록
+     */
+    private static List<String> rolesOf(Object claim) {
+        if (claim instanceof String role) {
+            return List.of(role);
+        }
+        if (claim instanceof Collection<?> values) {
+            return values.stream()
+                    .filter(Objects::nonNull)
+                    .map(Object::toString)
+                    .toList();
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,144 @@
+package com.nhnacademy.gateway.common.client;
+
+import com.nhnacademy.gateway.common.config.BackendPoolProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BackendHttpClientsTest {
+
+    private static final String SLOW_ROUTE = "CORRELATION-ANALYSIS-SERVICE";
+
+    private static final String AUTH_ROUTE = "AUTH-SERVICE";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * 느린 백엔드의 응답을 붙잡아 두는 신호
+     */
+    private final Sinks.Empty<Void> release = Sinks.empty();
+
+    private DisposableServer backend;
+
+    private BackendHttpClients clients;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(meterRegistry);
+        backend = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .get("/slow", (req, res) -> release.asMono().then(res.sendString(Mono.just("slow")).then()))
+                        .get("/fast", (req, res) -> res.sendString(Mono.just("fast"))))
+                .bindNow();
+
+        BackendPoolProperties.Pool slowPool = new BackendPoolProperties.Pool(2, 1, Duration.ofSeconds(5),
+                Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ZERO, true, false);
+        BackendPoolProperties.Pool authPool = new BackendPoolProperties.Pool(4, 10, Duration.ofSeconds(1),
+                Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ZERO, true, false);
+
+        ServerProperties serverProperties = new ServerProperties();
+        HttpClientProperties httpClientProperties = new HttpClientProperties();
+        clients = new BackendHttpClients(
+                new BackendPoolProperties(Map.of(SLOW_ROUTE, slowPool, AUTH_ROUTE, authPool)),
+                httpClientProperties, serverProperties,
+                new HttpClientSslConfigurer(httpClientProperties.getSsl(), serverProperties, new DefaultSslBundleRegistry()),
+                List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.tryEmitEmpty();
+        clients.destroy();
+        backend.disposeNow();
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("한 백엔드의 연결 풀이 가득 차도 다른 백엔드는 바로 연결을 얻음")
+    void saturatedPool_doesNotBlockOtherBackends() {
+        HttpClient slowClient = clients.forRoute(SLOW_ROUTE);
+
+        // 최대 연결 2개를 모두 붙잡고, 대기열(1개)까지 채움
+        for (int i = 0; i < 3; i++) {
+            get(slowClient, "/slow").subscribe();
+        }
+        awaitGauge("reactor.netty.connection.provider.active.connections", SLOW_ROUTE, 2);
+        awaitGauge("reactor.netty.connection.provider.pending.connections", SLOW_ROUTE, 1);
+
+        // 대기열을 넘는 요청은 연결을 기다리지 않고 바로 실패
+        assertThatThrownBy(() -> get(slowClient, "/slow").block(Duration.ofSeconds(1)))
+                .hasMessageContaining("Pending acquire queue has reached its maximum size");
+
+        // 다른 백엔드는 자신의 풀에서 바로 연결을 얻음
+        assertThat(get(clients.forRoute(AUTH_ROUTE), "/fast").block(Duration.ofSeconds(1))).isEqualTo("fast");
+    }
+
+    @Test
+    @DisplayName("풀 사용량과 연결 대기 시간을 풀 이름 태그와 함께 기록")
+    void poolMetrics_exportedPerBackend() {
+        HttpClient slowClient = clients.forRoute(SLOW_ROUTE);
+        for (int i = 0; i < 2; i++) {
+            get(slowClient, "/slow").subscribe();
+        }
+        awaitGauge("reactor.netty.connection.provider.active.connections", SLOW_ROUTE, 2);
+
+        // 연결을 기다리던 요청은 연결이 반환되면 처리되고, 기다린 시간이 기록됨
+        Mono<String> waiting = get(slowClient, "/slow").cache();
+        waiting.subscribe();
+        awaitGauge("reactor.netty.connection.provider.pending.connections", SLOW_ROUTE, 1);
+        release.tryEmitEmpty();
+        assertThat(waiting.block(Duration.ofSeconds(2))).isEqualTo("slow");
+
+        String poolName = BackendHttpClients.POOL_NAME_PREFIX + SLOW_ROUTE;
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", poolName).gauge()).isNotNull();
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.pending.connections.time")
+                .tags("name", poolName, "status", "SUCCESS").timer())
+                .isNotNull()
+                .extracting(Timer::count).isEqualTo(1L);
+    }
+
+    private Mono<String> get(HttpClient client, String path) {
+        return client.get()
+                .uri("http://127.0.0.1:" + backend.port() + path)
+                .responseContent()
+                .aggregate()
+                .asString();
+    }
+
+    private void awaitGauge(String name, String routeId, double expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            Gauge gauge = meterRegistry.find(name).tag("name", BackendHttpClients.POOL_NAME_PREFIX + routeId).gauge();
+            if (gauge != null && gauge.value() >= expected) {
+                return;
+            }
+            Mono.delay(Duration.ofMillis(10)).block();
+        }
+        throw new AssertionError(name + " 값이 " + expected + "에 도달하지 않았습니다.");
+    }
+}
@@ -6,11 +6,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @SpringBootTest
+@ActiveProfiles("test")
 class CustomRouteCheckTest {
 
     @Autowired
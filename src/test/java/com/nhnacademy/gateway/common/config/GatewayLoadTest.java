@@ -0,0 +1,346 @@
+package com.nhnacademy.gateway.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nhnacademy.gateway.common.route.RouteEntry;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게이트웨이 부하 테스트.
+ *
+ * <p>{@link RouterConfig#ROUTES}의 모든 서비스마다 같은 JVM 안에 스텁 백엔드를 띄우고, 라우트의 모든 경로 패턴을
+ * 인증이 필요 없는 라우트는 토큰 없이, 인증이 필요한 라우트는 사용자 토큰(관리자 라우트는 관리자 토큰)으로
+ * 번갈아 고정된 동시성으로 요청합니다. 경로별 처리량과 p50/p99/p999 지연 시간을 {@code target/load-test/result.json}에
+ * 기록하고, 기준값 파일과 비교해 허용 범위를 넘어 나빠지면 실패합니다.</p>
+ *
+ * <p>기본 테스트에서는 제외되며 {@code load-test} 프로필로 실행합니다. 기준값은 저장소의
+ * {@code src/test/resources/load-test/baseline.json}에 두고, 기준값 파일이 없으면 비교 없이 통과하지 않도록 실패합니다.
+ * 장비(CI 러너)마다 다른 기준값을 쓰려면 {@code loadtest.baseline}으로 파일을 지정하고, 기준값은
+ * {@code -Dloadtest.update-baseline=true}로 명시했을 때만 다시 기록합니다.</p>
+ *
+ * <ul>
+ *     <li>{@code loadtest.baseline}: 기준값 파일 경로 (기본 {@code src/test/resources/load-test/baseline.json})</li>
+ *     <li>{@code loadtest.concurrency}: 동시 요청 수 (기본 64)</li>
+ *     <li>{@code loadtest.requests} / {@code loadtest.warmup-requests}: 측정/워밍업 요청 수 (기본 30000 / 5000)</li>
+ *     <li>{@code loadtest.max-regression}: 처리량 감소, p99 증가의 허용 비율 (기본 0.25)</li>
+ *     <li>{@code loadtest.latency-slack-ms}: 1ms 미만 지연의 측정 오차를 흡수하는 p99 허용 여유 (기본 2)</li>
+ * </ul>
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "logging.level.root=info",
+        "gateway.registry-snapshot.enabled=false",
+        "gateway.access-log.path=target/load-test/access.log",
+        // 요청 한도는 게이트웨이 처리 비용이 아니라 정책이므로 부하 테스트에서는 사실상 해제
+        "gateway.rate-limit.routes[DASHBOARD-SERVICE].replenish-rate=1000000",
+        "gateway.rate-limit.routes[DASHBOARD-SERVICE].burst-capacity=1000000",
+        "gateway.rate-limit.routes[SENSOR-SERVICE].replenish-rate=1000000",
+        "gateway.rate-limit.routes[SENSOR-SERVICE].burst-capacity=1000000"
+})
+@ActiveProfiles("test")
+class GatewayLoadTest {
+
+    private static final Path RESULT = Path.of("target/load-test/result.json");
+
+    private static final int USERS = 100;
+
+    private static final String STUB_BODY = "{\"items\":[" + "{\"id\":1,\"name\":\"load-test\"},".repeat(8) + "{\"id\":0}]}";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final Map<String, DisposableServer> BACKENDS = new LinkedHashMap<>();
+
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+
+    private final int requests = Integer.getInteger("loadtest.requests", 30_000);
+
+    private final int warmupRequests = Integer.getInteger("loadtest.warmup-requests", 5_000);
+
+    private final double maxRegression = Double.parseDouble(System.getProperty("loadtest.max-regression", "0.25"));
+
+    private final double latencySlackMs = Double.parseDouble(System.getProperty("loadtest.latency-slack-ms", "2"));
+
+    private final Path baseline = Path.of(System.getProperty("loadtest.baseline", "src/test/resources/load-test/baseline.json"));
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @DynamicPropertySource
+    static void stubBackends(DynamicPropertyRegistry registry) {
+        for (RouteEntry route : RouterConfig.ROUTES) {
+            DisposableServer backend = BACKENDS.computeIfAbsent(route.id(), id -> HttpServer.create()
+                    .host("127.0.0.1")
+                    .port(0)
+                    .handle((req, res) -> res.header(HttpHeaders.CONTENT_TYPE, "application/json")
+                            .sendString(Mono.just(STUB_BODY)))
+                    .bindNow());
+            registry.add("spring.cloud.discovery.client.simple.instances[" + route.id() + "][0].uri",
+                    () -> "http://127.0.0.1:" + backend.port());
+        }
+    }
+
+    @AfterAll
+    static void stopBackends() {
+        BACKENDS.values().forEach(DisposableServer::disposeNow);
+        BACKENDS.clear();
+    }
+
+    @Test
+    @DisplayName("라우트별 처리량과 지연 시간이 기준값보다 허용 범위 이상 나빠지지 않음")
+    void throughputAndLatencyStayWithinBaseline() throws IOException {
+        List<Target> targets = targets();
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        try {
+            WebClient client = WebClient.builder()
+                    .baseUrl("http://127.0.0.1:" + port)
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                    .build();
+
+            drive(client, targets, warmupRequests);
+            targets.forEach(Target::reset);
+            LoadResult result = drive(client, targets, requests);
+
+            String json = write(RESULT, result);
+            log.info("부하 테스트 결과 ({}):\n{}", RESULT, json);
+
+            result.routes().forEach((route, stats) ->
+                    assertThat(stats.errors()).as("%s 오류 응답 수", route).isZero());
+
+            if (Boolean.getBoolean("loadtest.update-baseline")) {
+                write(baseline, result);
+                log.info("부하 테스트 기준값을 기록했습니다: {}", baseline);
+                Assumptions.abort("기준값을 새로 기록했으므로 비교를 건너뜁니다: " + baseline);
+            }
+            assertThat(baseline)
+                    .as("기준값 파일이 없습니다. -Dloadtest.update-baseline=true로 기록해 커밋하세요: %s", baseline)
+                    .exists();
+            assertWithinBaseline(result, OBJECT_MAPPER.readValue(baseline.toFile(), LoadResult.class));
+        } finally {
+            connections.disposeLater().block(Duration.ofSeconds(5));
+        }
+    }
+
+    /**
+     * 결과를 파일 끝 줄바꿈까지 포함한 JSON으로 기록합니다.
+     */
+    private static String write(Path path, LoadResult result) throws IOException {
+        String json = OBJECT_MAPPER.writeValueAsString(result);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.writeString(path, json + System.lineSeparator());
+        return json;
+    }
+
+    /**
+     * 라우트의 모든 경로 패턴을 실제 경로로 바꾼 요청 대상을 만듭니다.
+     * 앞선 라우트가 먼저 매칭하는 패턴은 그 라우트에서 이미 요청하므로 건너뜁니다.
+     */
+    private List<Target> targets() {
+        Key key = Keys.hmacShaKeyFor(secret.getBytes());
+        List<String> userTokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            userTokens.add(token(key, "load-user-" + i, "ROLE_USER"));
+        }
+        List<String> adminTokens = List.of(token(key, "load-admin", RouterConfig.ADMIN_ROLE));
+
+        Set<String> patterns = new HashSet<>();
+        List<RouteEntry> routes = new ArrayList<>();
+        List<String> routePatterns = new ArrayList<>();
+        for (RouteEntry route : RouterConfig.ROUTES) {
+            for (String pattern : route.paths()) {
+                if (patterns.add(pattern)) {
+                    routes.add(route);
+                    routePatterns.add(pattern);
+                }
+            }
+        }
+
+        List<Target> targets = new ArrayList<>();
+        for (int i = 0; i < routes.size(); i++) {
+            RouteEntry route = routes.get(i);
+            String pattern = routePatterns.get(i);
+            String path = pattern.replace("/**", "/load").replaceAll("\\{[^/]+}|(?<=/)\\*(?=/|$)", "1");
+            List<String> tokens = !route.authenticated() ? List.of()
+                    : route.requiredRoles().isEmpty() ? userTokens : adminTokens;
+            targets.add(new Target(route.id() + " " + pattern, path, tokens, requests / routes.size() + 1));
+        }
+        return targets;
+    }
+
+    private LoadResult drive(WebClient client, List<Target> targets, int count) {
+        long startNanos = System.nanoTime();
+        Flux.range(0, count)
+                .flatMap(i -> {
+                    Target target = targets.get(i % targets.size());
+                    String token = target.token(i / targets.size());
+                    long requestStart = System.nanoTime();
+                    return client.get()
+                            .uri(target.path())
+                            .headers(headers -> {
+                                if (token != null) {
+                                    headers.setBearerAuth(token);
+                                }
+                            })
+                            .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().is2xxSuccessful()))
+                            .onErrorReturn(false)
+                            .doOnNext(ok -> target.record(System.nanoTime() - requestStart, ok));
+                }, concurrency)
+                .blockLast(Duration.ofMinutes(10));
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        Map<String, RouteStats> routes = new LinkedHashMap<>();
+        for (Target target : targets) {
+            routes.put(target.label(), target.stats(elapsedSeconds));
+        }
+        return new LoadResult(concurrency, count, count / elapsedSeconds, routes);
+    }
+
+    private void assertWithinBaseline(LoadResult result, LoadResult baseline) {
+        assertThat(result.throughput())
+                .as("전체 처리량 (기준 %.0f req/s)", baseline.throughput())
+                .isGreaterThanOrEqualTo(baseline.throughput() * (1 - maxRegression));
+
+        baseline.routes().forEach((route, expected) -> {
+            RouteStats actual = result.routes().get(route);
+            assertThat(actual).as("%s 결과", route).isNotNull();
+            assertThat(actual.p99Ms())
+                    .as("%s p99 (기준 %.2fms)", route, expected.p99Ms())
+                    .isLessThanOrEqualTo(expected.p99Ms() * (1 + maxRegression) + latencySlackMs);
+        });
+    }
+
+    private static String token(Key key, String userId, String role) {
+        return Jwts.builder()
+                .claim("user_id", userId)
+                .claim("role", role)
+                .setExpiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * 부하 테스트 결과 (기준값 파일과 같은 형식)
+     *
+     * @param throughput 전체 처리량 (req/s)
+     * @param routes     라우트별 결과 (키: 라우트 ID와 경로 패턴)
+     */
+    record LoadResult(int concurrency, int requests, double throughput, Map<String, RouteStats> routes) {
+    }
+
+    record RouteStats(int requests, int errors, double throughput, double p50Ms, double p99Ms, double p999Ms) {
+    }
+
+    /**
+     * 라우트 하나의 요청 대상과 지연 시간 기록
+     */
+    private static final class Target {
+
+        private final String label;
+
+        private final String path;
+
+        private final List<String> tokens;
+
+        private final long[] latencies;
+
+        private final AtomicInteger recorded = new AtomicInteger();
+
+        private final AtomicInteger errors = new AtomicInteger();
+
+        Target(String label, String path, List<String> tokens, int capacity) {
+            this.label = label;
+            this.path = path;
+            this.tokens = tokens;
+            this.latencies = new long[capacity];
+        }
+
+        String label() {
+            return label;
+        }
+
+        String path() {
+            return path;
+        }
+
+        String token(int sequence) {
+            return tokens.isEmpty() ? null : tokens.get(sequence % tokens.size());
+        }
+
+        void record(long latencyNanos, boolean ok) {
+            int index = recorded.getAndIncrement();
+            if (index < latencies.length) {
+                latencies[index] = latencyNanos;
+            }
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        void reset() {
+            recorded.set(0);
+            errors.set(0);
+        }
+
+        RouteStats stats(double elapsedSeconds) {
+            int count = Math.min(recorded.get(), latencies.length);
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new RouteStats(count, errors.get(), count / elapsedSeconds,
+                    percentileMs(sorted, 0.50), percentileMs(sorted, 0.99), percentileMs(sorted, 0.999));
+        }
+
+        private static double percentileMs(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return Math.round(sorted[Math.max(index, 0)] / 1_000.0) / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.nhnacademy.gateway.common.discovery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.client.discovery.composite.reactive.ReactiveCompositeDiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.DiscoveryClientServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.loadbalancer.support.SimpleObjectProvider;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 첫 레지스트리 조회가 늦게 끝나는 로컬 대체 레지스트리로 기동부터 첫 라우팅 성공까지의 시간을 측정합니다.
+ */
+class RegistrySnapshotStartupTest {
+
+    private static final String SERVICE_ID = "AUTH-SERVICE";
+
+    /**
+     * 대체 레지스트리의 첫 조회 완료까지 걸리는 시간 (Eureka 서버 응답 지연/재시도 주기에 해당)
+     */
+    private static final Duration FIRST_FETCH_DELAY = Duration.ofMillis(1500);
+
+    @TempDir
+    Path tempDir;
+
+    private DisposableServer backend;
+
+    private ServiceInstance backendInstance;
+
+    private RegistrySnapshotStore store;
+
+    private final HttpClient httpClient = HttpClient.create();
+
+    @BeforeEach
+    void setUp() {
+        backend = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/auth/login", (req, res) -> res.sendString(Mono.just("ok"))))
+                .bindNow();
+        backendInstance = new DefaultServiceInstance("auth-1", SERVICE_ID, "127.0.0.1", backend.port(), false);
+        store = new RegistrySnapshotStore(tempDir.resolve("registry-snapshot.json"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        backend.disposeNow();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있으면 레지스트리 첫 조회를 기다리지 않고 라우팅")
+    void firstRoutedRequest_doesNotWaitForRegistry() throws Exception {
+        long withoutSnapshot = timeToFirstRoutedRequest();
+
+        store.save(new RegistrySnapshot(System.currentTimeMillis(),
+                Map.of("auth-service", List.of(RegistrySnapshot.Instance.from(backendInstance)))));
+        long withSnapshot = timeToFirstRoutedRequest();
+
+        assertThat(withoutSnapshot).isGreaterThanOrEqualTo(FIRST_FETCH_DELAY.toNanos());
+        assertThat(withSnapshot).isLessThan(FIRST_FETCH_DELAY.toNanos() / 3);
+    }
+
+    @Test
+    @DisplayName("레지스트리를 받으면 스냅샷 파일을 갱신하고 스냅샷 인스턴스는 더 이상 제공하지 않음")
+    void heartbeat_savesLiveRegistryAndRetiresSnapshot() throws Exception {
+        ServiceInstance stale = new DefaultServiceInstance("auth-old", SERVICE_ID, "10.0.0.1", 8080, false);
+        store.save(new RegistrySnapshot(System.currentTimeMillis(),
+                Map.of("auth-service", List.of(RegistrySnapshot.Instance.from(stale)))));
+
+        StandInRegistry registry = new StandInRegistry(backendInstance);
+        RegistrySnapshotDiscoveryClient snapshotClient =
+                new RegistrySnapshotDiscoveryClient(registry, store, Duration.ofHours(1));
+        assertThat(snapshotClient.getInstances(SERVICE_ID).collectList().block())
+                .extracting(ServiceInstance::getInstanceId)
+                .containsExactly("auth-old");
+
+        registry.fetched = true;
+        snapshotClient.onApplicationEvent(new HeartbeatEvent(registry, 1L));
+
+        assertThat(snapshotClient.getInstances(SERVICE_ID).collectList().block()).isEmpty();
+        RegistrySnapshot saved = store.load(Duration.ofHours(1), System.currentTimeMillis()).orElseThrow();
+        assertThat(saved.instances(SERVICE_ID))
+                .extracting(ServiceInstance::getInstanceId, ServiceInstance::getPort)
+                .containsExactly(tuple("auth-1", backend.port()));
+    }
+
+    @Test
+    @DisplayName("최대 나이보다 오래된 스냅샷은 사용하지 않음")
+    void load_ignoresExpiredSnapshot() throws Exception {
+        long savedAt = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2);
+        store.save(new RegistrySnapshot(savedAt,
+                Map.of("auth-service", List.of(RegistrySnapshot.Instance.from(backendInstance)))));
+
+        assertThat(store.load(Duration.ofHours(1), System.currentTimeMillis())).isEmpty();
+        assertThat(store.load(Duration.ofHours(3), System.currentTimeMillis())).isPresent();
+    }
+
+    /**
+     * 게이트웨이 기동 시점부터 {@code lb://AUTH-SERVICE} 요청이 처음 성공할 때까지의 시간을 측정합니다.
+     *
+     * <p>로드밸런서는 게이트웨이와 같은 방식(디스커버리 클라이언트 묶음 → 인스턴스 목록 → 라운드 로빈)으로 구성합니다.</p>
+     */
+    private long timeToFirstRoutedRequest() {
+        long start = System.nanoTime();
+
+        StandInRegistry registry = new StandInRegistry(backendInstance);
+        RegistrySnapshotDiscoveryClient snapshotClient =
+                new RegistrySnapshotDiscoveryClient(registry, store, Duration.ofHours(1));
+        registry.startFirstFetch(snapshotClient);
+
+        ReactiveCompositeDiscoveryClient discoveryClient = new ReactiveCompositeDiscoveryClient(
+                new ArrayList<>(List.of(registry.reactive(), snapshotClient)));
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(LoadBalancerClientFactory.PROPERTY_NAME, SERVICE_ID);
+        RoundRobinLoadBalancer loadBalancer = new RoundRobinLoadBalancer(new SimpleObjectProvider<>(
+                new DiscoveryClientServiceInstanceListSupplier(discoveryClient, environment)), SERVICE_ID);
+
+        long deadline = start + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Response<ServiceInstance> response = Mono.from(loadBalancer.choose()).block();
+            if (response != null && response.hasServer() && routed(response.getServer())) {
+                return System.nanoTime() - start;
+            }
+            sleep(10);
+        }
+        throw new AssertionError("첫 라우팅이 10초 안에 성공하지 않았습니다.");
+    }
+
+    private boolean routed(ServiceInstance instance) {
+        Integer status = httpClient.get()
+                .uri(instance.getUri() + "/auth/login")
+                .response()
+                .map(response -> response.status().code())
+                .onErrorReturn(-1)
+                .block(Duration.ofSeconds(2));
+        return status != null && status == 200;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * 첫 조회가 {@link #FIRST_FETCH_DELAY} 뒤에 끝나는 로컬 대체 레지스트리.
+     * 조회가 끝나면 Eureka 클라이언트처럼 {@link HeartbeatEvent}를 발행합니다.
+     */
+    private static class StandInRegistry implements DiscoveryClient {
+
+        private final ServiceInstance instance;
+
+        private volatile boolean fetched;
+
+        StandInRegistry(ServiceInstance instance) {
+            this.instance = instance;
+        }
+
+        void startFirstFetch(RegistrySnapshotDiscoveryClient listener) {
+            Mono.delay(FIRST_FETCH_DELAY).subscribe(tick -> {
+                fetched = true;
+                listener.onApplicationEvent(new HeartbeatEvent(this, 1L));
+            });
+        }
+
+        @Override
+        public String description() {
+            return "stand-in registry";
+        }
+
+        @Override
+        public List<ServiceInstance> getInstances(String serviceId) {
+            return (fetched && SERVICE_ID.equalsIgnoreCase(serviceId)) ? List.of(instance) : List.of();
+        }
+
+        @Override
+        public List<String> getServices() {
+            return fetched ? List.of(SERVICE_ID.toLowerCase()) : List.of();
+        }
+
+        ReactiveDiscoveryClient reactive() {
+            return new ReactiveDiscoveryClient() {
+                @Override
+                public String description() {
+                    return StandInRegistry.this.description();
+                }
+
+                @Override
+                public Flux<ServiceInstance> getInstances(String serviceId) {
+                    return Flux.defer(() -> Flux.fromIterable(StandInRegistry.this.getInstances(serviceId)));
+                }
+
+                @Override
+                public Flux<String> getServices() {
+                    return Flux.defer(() -> Flux.fromIterable(StandInRegistry.this.getServices()));
+                }
+            };
+        }
+    }
+}
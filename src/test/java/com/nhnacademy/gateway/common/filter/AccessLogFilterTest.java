@@ -0,0 +1,138 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.accesslog.AccessLogRingBuffer;
+import com.nhnacademy.gateway.common.accesslog.AccessLogWriter;
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class AccessLogFilterTest {
+
+    private static final String TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJ1c2VyX2lkIjoidXNlci0xIn0.signature";
+
+    @TempDir
+    Path tempDir;
+
+    private Path logFile;
+
+    private final AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(16);
+
+    private final AccessLogFilter filter = new AccessLogFilter(ringBuffer);
+
+    private AccessLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        logFile = tempDir.resolve("logs/access.log");
+        writer = new AccessLogWriter(ringBuffer, logFile, 4, Duration.ofMillis(10));
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("라우트, 상태 코드, 사용자 ID, 지연 시간, 바이트 수를 기록하고 토큰과 쿼리 문자열은 기록하지 않음")
+    void filter_writesAccessLogLine() throws IOException {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/api/dashboards/1?access_token=" + TOKEN)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN)
+                .cookie(new HttpCookie("accessToken", TOKEN)));
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, Route.async()
+                .id("DASHBOARD-SERVICE")
+                .uri(URI.create("lb://DASHBOARD-SERVICE"))
+                .predicate(e -> true)
+                .build());
+        exchange.getAttributes().put(JwtAuthorizationFilter.PRINCIPAL_ATTR,
+                new VerifiedPrincipal("user-1", Instant.now().plusSeconds(60), List.of("ROLE_USER")));
+
+        GatewayFilterChain upstream = e -> {
+            e.getAttributes().put(UpstreamLatencyFilter.UPSTREAM_LATENCY_ATTR, 2_500_000L);
+            ServerHttpResponse response = e.getResponse();
+            response.setStatusCode(HttpStatus.CREATED);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap("{\"id\":1}".getBytes())));
+        };
+        filter.filter(exchange, upstream).block();
+        writer.stop();
+
+        String line = Files.readString(logFile, StandardCharsets.UTF_8);
+        assertThat(line)
+                .startsWith("{\"ts\":\"")
+                .contains("\"route\":\"DASHBOARD-SERVICE\"", "\"method\":\"GET\"", "\"path\":\"/api/dashboards/1\"",
+                        "\"status\":201", "\"user\":\"user-1\"", "\"upstreamMs\":2.500", "\"requestBytes\":null",
+                        "\"responseBytes\":8")
+                .doesNotContain(TOKEN, "access_token")
+                .endsWith("}\n");
+    }
+
+    @Test
+    @DisplayName("필터 체인이 예외로 끝나면 오류 처리기가 응답할 상태 코드를 기록")
+    void filter_recordsErrorStatus() throws IOException {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/sensors"));
+        GatewayFilterChain failing = e -> Mono.error(new UnauthorizedException(UnauthorizedException.EXPIRED_TOKEN_MESSAGE));
+
+        assertThatThrownBy(() -> filter.filter(exchange, failing).block()).isInstanceOf(UnauthorizedException.class);
+        writer.stop();
+
+        assertThat(Files.readString(logFile, StandardCharsets.UTF_8))
+                .contains("\"route\":\"unknown\"", "\"status\":401", "\"user\":null", "\"upstreamMs\":null",
+                        "\"responseBytes\":0");
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 가득 차면 기다리지 않고 버린 뒤 건수를 집계하고, 기록한 레코드는 모두 파일에 씀")
+    void ringBuffer_dropsWhenFull() throws IOException {
+        writer.stop();
+        AccessLogRingBuffer small = new AccessLogRingBuffer(4);
+
+        int accepted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (small.offer(0, "SENSOR-SERVICE", "GET", "/api/sensors/" + i, 200, null, 1_000, -1, -1, 0)) {
+                accepted++;
+            }
+        }
+        assertThat(accepted).isEqualTo(4);
+        assertThat(small.dropped()).isEqualTo(6);
+
+        Path smallLog = tempDir.resolve("small.log");
+        AccessLogWriter smallWriter = new AccessLogWriter(small, smallLog, 2, Duration.ofMillis(10));
+        smallWriter.start();
+        smallWriter.stop();
+
+        assertThat(Files.readAllLines(smallLog))
+                .hasSize(4)
+                .allSatisfy(line -> assertThat(line).contains("\"totalMs\":0.001"))
+                .first().asString().contains("\"path\":\"/api/sensors/0\"");
+
+        // 기록 스레드가 비운 슬롯은 다시 사용
+        assertThat(small.offer(0, "SENSOR-SERVICE", "GET", "/api/sensors/10", 200, null, 1_000, -1, -1, 0)).isTrue();
+    }
+}
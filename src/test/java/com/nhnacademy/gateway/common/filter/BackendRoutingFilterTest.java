@@ -0,0 +1,54 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.client.BackendHttpClients;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.netty.http.client.HttpClient;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BackendRoutingFilterTest {
+
+    private final HttpClient sharedClient = HttpClient.create();
+
+    private final HttpClient authClient = HttpClient.create();
+
+    private final BackendHttpClients backendHttpClients = mock(BackendHttpClients.class);
+
+    @SuppressWarnings("unchecked")
+    private final BackendRoutingFilter filter = new BackendRoutingFilter(sharedClient,
+            mock(ObjectProvider.class), new HttpClientProperties(), backendHttpClients);
+
+    private final MockServerWebExchange exchange =
+            MockServerWebExchange.from(MockServerHttpRequest.get("/api/auth/login"));
+
+    @Test
+    @DisplayName("전용 풀이 설정된 라우트는 전용 클라이언트 사용")
+    void configuredRoute_usesBackendClient() {
+        when(backendHttpClients.forRoute("AUTH-SERVICE")).thenReturn(authClient);
+
+        assertThat(filter.getHttpClient(route("AUTH-SERVICE"), exchange)).isSameAs(authClient);
+    }
+
+    @Test
+    @DisplayName("전용 풀이 없는 라우트는 공용 클라이언트 사용")
+    void otherRoute_usesSharedClient() {
+        assertThat(filter.getHttpClient(route("USER-SERVICE"), exchange)).isSameAs(sharedClient);
+    }
+
+    private static Route route(String id) {
+        return Route.async()
+                .id(id)
+                .uri("lb://" + id)
+                .predicate(exchange -> true)
+                .build();
+    }
+}
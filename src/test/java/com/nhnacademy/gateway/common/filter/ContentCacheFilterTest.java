@@ -0,0 +1,265 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.cache.CachedFile;
+import com.nhnacademy.gateway.common.cache.DiskContentStore;
+import com.nhnacademy.gateway.common.config.ContentCacheProperties;
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ContentCacheFilterTest {
+
+    private static final String ETAG = "\"image-v1\"";
+
+    private static final byte[] IMAGE = new byte[4096];
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private String upstreamIfNoneMatch;
+
+    private String upstreamCacheControl = "max-age=60";
+
+    private boolean upstreamNotModified;
+
+    private String upstreamVary;
+
+    private DiskContentStore store;
+
+    private ContentCacheFilter filter;
+
+    private final GatewayFilterChain upstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        upstreamIfNoneMatch = exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setCacheControl(upstreamCacheControl);
+        response.getHeaders().setETag(ETAG);
+        if (upstreamNotModified) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.writeWith(Mono.empty());
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.IMAGE_PNG);
+        response.getHeaders().setContentLength(IMAGE.length);
+        if (upstreamVary != null) {
+            response.getHeaders().setVary(List.of(upstreamVary));
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(IMAGE)));
+    };
+
+    @BeforeEach
+    void setUp() {
+        store = store(DataSize.ofMegabytes(1));
+        filter = new ContentCacheFilter("USER-SERVICE", store, List.of("/api/images/**"), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("첫 요청의 응답을 파일로 저장하고, 같은 요청은 파일에서 응답")
+    void filter_storesToDiskAndServesHit() throws Exception {
+        MockServerWebExchange first = get("/api/images/1");
+        filter.filter(first, upstream).block();
+        assertThat(first.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER))
+                .isEqualTo("MISS");
+        assertThat(first.getResponse().getBodyAsString().block()).hasSize(IMAGE.length);
+
+        CachedFile cached = store.get("/api/images/1");
+        assertThat(cached).isNotNull();
+        assertThat(Files.readAllBytes(cached.file())).isEqualTo(IMAGE);
+
+        MockServerWebExchange second = get("/api/images/1");
+        filter.filter(second, upstream).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        HttpHeaders headers = second.getResponse().getHeaders();
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(headers.getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(headers.getContentType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(headers.getContentLength()).isEqualTo(IMAGE.length);
+        assertThat(second.getResponse().getBodyAsString().block()).hasSize(IMAGE.length);
+        assertThat(counter("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 캐시된 ETag와 일치하면 본문 없이 304 응답")
+    void filter_answersConditionalRequestFromIndex() {
+        filter.filter(get("/api/images/1"), upstream).block();
+
+        MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest.get("/api/images/1")
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG));
+        filter.filter(conditional, upstream).block();
+
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("사용 가능 시간이 지나면 저장된 ETag로 확인하고, 304이면 파일을 다시 사용")
+    void filter_revalidatesStaleEntry() {
+        upstreamCacheControl = "max-age=0";
+        filter.filter(get("/api/images/1"), upstream).block();
+        CachedFile cached = store.get("/api/images/1");
+
+        upstreamNotModified = true;
+        upstreamCacheControl = "max-age=60";
+        MockServerWebExchange revalidated = get("/api/images/1");
+        filter.filter(revalidated, upstream).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(upstreamIfNoneMatch).isEqualTo(ETAG);
+        assertThat(revalidated.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(revalidated.getResponse().getBodyAsString().block()).hasSize(IMAGE.length);
+        assertThat(store.get("/api/images/1")).isSameAs(cached);
+        assertThat(cached.fresh()).isTrue();
+        assertThat(counter("revalidated")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다시 확인한 응답은 앞선 필터가 추가한 헤더를 유지")
+    void filter_revalidationKeepsGatewayHeaders() {
+        upstreamCacheControl = "max-age=0";
+        filter.filter(get("/api/images/1"), upstream).block();
+
+        upstreamNotModified = true;
+        MockServerWebExchange revalidated = get("/api/images/1");
+        revalidated.getResponse().getHeaders().set("X-RateLimit-Remaining", "9");
+        filter.filter(revalidated, upstream).block();
+
+        HttpHeaders headers = revalidated.getResponse().getHeaders();
+        assertThat(headers.getFirst("X-RateLimit-Remaining")).isEqualTo("9");
+        assertThat(headers.getContentType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(headers.getContentLength()).isEqualTo(IMAGE.length);
+    }
+
+    @Test
+    @DisplayName("인증된 요청의 응답은 사용자별로 보관해 다른 사용자에게 주지 않음")
+    void filter_scopesAuthenticatedResponsesByUser() {
+        filter.filter(authenticated("user-a"), upstream).block();
+        MockServerWebExchange other = authenticated("user-b");
+        filter.filter(other, upstream).block();
+        MockServerWebExchange same = authenticated("user-a");
+        filter.filter(same, upstream).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(other.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER))
+                .isEqualTo("MISS");
+        assertThat(same.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER))
+                .isEqualTo("HIT");
+        assertThat(store.get("/api/images/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 파일 쓰기에 실패해도 클라이언트 응답은 끝까지 전달하고 캐시만 포기")
+    void filter_keepsStreamingWhenDiskWriteFails() {
+        Path full = Path.of("/dev/full");
+        assumeTrue(Files.isWritable(full));
+        store = new DiskContentStore(store.properties()) {
+            @Override
+            public Path newFile() {
+                return full;
+            }
+
+            @Override
+            public void discard(Path file) {
+            }
+        };
+        filter = new ContentCacheFilter("USER-SERVICE", store, List.of("/api/images/**"), meterRegistry);
+
+        MockServerWebExchange exchange = get("/api/images/1");
+        filter.filter(exchange, upstream).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchange.getResponse().getBodyAsString().block()).hasSize(IMAGE.length);
+        assertThat(store.get("/api/images/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("no-store 응답이나 대상 경로가 아닌 요청은 저장하지 않음")
+    void filter_skipsUncacheableResponses() {
+        upstreamCacheControl = "no-store";
+        filter.filter(get("/api/images/1"), upstream).block();
+        upstreamCacheControl = "max-age=60";
+        filter.filter(get("/api/main/1"), upstream).block();
+
+        assertThat(store.get("/api/images/1")).isNull();
+        assertThat(store.get("/api/main/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Vary 헤더가 있는 응답은 요청 헤더에 따라 달라지므로 저장하지 않음")
+    void filter_skipsVaryingResponses() {
+        upstreamVary = HttpHeaders.ACCEPT;
+        filter.filter(get("/api/images/1"), upstream).block();
+        MockServerWebExchange second = get("/api/images/1");
+        filter.filter(second, upstream).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(store.get("/api/images/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("전체 크기를 넘으면 가장 오래 사용하지 않은 응답부터 삭제")
+    void store_evictsLeastRecentlyUsed() {
+        store = store(DataSize.ofBytes(IMAGE.length * 2L));
+        filter = new ContentCacheFilter("USER-SERVICE", store, List.of("/api/images/**"), meterRegistry);
+
+        filter.filter(get("/api/images/1"), upstream).block();
+        filter.filter(get("/api/images/2"), upstream).block();
+        filter.filter(get("/api/images/1"), upstream).block();
+        filter.filter(get("/api/images/3"), upstream).block();
+
+        assertThat(store.get("/api/images/1")).isNotNull();
+        assertThat(store.get("/api/images/2")).isNull();
+        assertThat(store.get("/api/images/3")).isNotNull();
+    }
+
+    private DiskContentStore store(DataSize maximumSize) {
+        DiskContentStore diskContentStore = new DiskContentStore(new ContentCacheProperties(directory.toString(),
+                maximumSize, DataSize.ofKilobytes(64), Duration.ofMinutes(10), Duration.ofDays(1),
+                Map.of("USER-SERVICE", new ContentCacheProperties.CachedRoute(List.of()))));
+        diskContentStore.init();
+        return diskContentStore;
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get(ContentCacheFilter.METRIC_NAME).tag("result", result).counter().count();
+    }
+
+    private static MockServerWebExchange authenticated(String userId) {
+        MockServerWebExchange exchange = get("/api/images/1");
+        exchange.getAttributes().put(JwtAuthorizationFilter.PRINCIPAL_ATTR,
+                new VerifiedPrincipal(userId, Instant.now().plusSeconds(60), List.of()));
+        return exchange;
+    }
+
+    private static MockServerWebExchange get(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+}
@@ -13,11 +13,13 @@ import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.http.HttpCookie;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.context.ActiveProfiles;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Field;
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +28,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
 class JwtAuthorizationFilterTest {
 
     @Autowired
@@ -51,6 +54,7 @@ class JwtAuthorizationFilterTest {
         Date now = new Date();
         return Jwts.builder()
                 .setSubject(userId)
+                .claim("user_id", userId)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + validityMillis))
                 .signWith(secretKey, SignatureAlgorithm.HS256)
@@ -61,7 +65,7 @@ class JwtAuthorizationFilterTest {
     @DisplayName("JWT 토큰이 있을 경우 X-User-Id 헤더 추가")
     void shouldAddHeader_whenValidTokenProvided() {
         MockServerHttpRequest request = MockServerHttpRequest.get("/test")
-                .cookie(new HttpCookie("access_token", validToken))
+                .cookie(new HttpCookie("accessToken", validToken))
                 .build();
 
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
@@ -90,6 +94,51 @@ class JwtAuthorizationFilterTest {
         jwtAuthorizationFilter.filter(exchange, dummyChain).block();
     }
 
+    @Test
+    @DisplayName("검증된 권한은 X-User-Role 헤더로 전달하고, 토큰 없이 보낸 X-User-Role 헤더는 제거")
+    void shouldForwardVerifiedRoles_andDropSpoofedRoleHeader() {
+        Date now = new Date();
+        String adminToken = Jwts.builder()
+                .claim("user_id", "admin")
+                .claim("role", List.of("ROLE_USER", "ROLE_ADMIN"))
+                .setExpiration(new Date(now.getTime() + 60000))
+                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .compact();
+        MockServerWebExchange verified = MockServerWebExchange.from(MockServerHttpRequest.get("/test")
+                .cookie(new HttpCookie("accessToken", adminToken))
+                .header(JwtAuthorizationFilter.USER_ROLE_HEADER, "ROLE_SPOOFED")
+                .build());
+
+        jwtAuthorizationFilter.filter(verified, e -> {
+            assertThat(e.getRequest().getHeaders().get(JwtAuthorizationFilter.USER_ROLE_HEADER))
+                    .containsExactly("ROLE_USER,ROLE_ADMIN");
+            return Mono.empty();
+        }).block();
+
+        MockServerWebExchange anonymous = MockServerWebExchange.from(MockServerHttpRequest.get("/test")
+                .header(JwtAuthorizationFilter.USER_ROLE_HEADER, "ROLE_ADMIN")
+                .build());
+
+        jwtAuthorizationFilter.filter(anonymous, e -> {
+            assertThat(e.getRequest().getHeaders().containsKey(JwtAuthorizationFilter.USER_ROLE_HEADER)).isFalse();
+            return Mono.empty();
+        }).block();
+    }
+
+    @Test
+    @DisplayName("토큰 없이 보낸 X-User-Id 헤더는 제거")
+    void shouldDropSpoofedUserIdHeader_withoutToken() {
+        MockServerWebExchange anonymous = MockServerWebExchange.from(MockServerHttpRequest.get("/test")
+                .header(JwtAuthorizationFilter.USER_ID_HEADER, "admin")
+                .build());
+
+        jwtAuthorizationFilter.filter(anonymous, e -> {
+            assertThat(e.getRequest().getHeaders().containsKey(JwtAuthorizationFilter.USER_ID_HEADER)).isFalse();
+            assertThat(e.getRequest().getHeaders().containsKey(JwtAuthorizationFilter.USER_ROLE_HEADER)).isFalse();
+            return Mono.empty();
+        }).block();
+    }
+
     @Test
     @DisplayName("토큰이 변조된 경우 - UnauthorizedException 발생")
     void shouldThrowUnauthorizedException_whenTokenIsTampered() {
@@ -97,7 +146,7 @@ class JwtAuthorizationFilterTest {
 
         MockServerHttpRequest request = MockServerHttpRequest
                 .get("/admin/test")
-                .cookie(new HttpCookie("access_token", tamperedToken))
+                .cookie(new HttpCookie("accessToken", tamperedToken))
                 .build();
 
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
@@ -114,7 +163,7 @@ class JwtAuthorizationFilterTest {
 
         MockServerHttpRequest request = MockServerHttpRequest
                 .get("/admin/test")
-                .cookie(new HttpCookie("access_token", expiredToken))
+                .cookie(new HttpCookie("accessToken", expiredToken))
                 .build();
 
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
@@ -132,7 +181,7 @@ class JwtAuthorizationFilterTest {
     void shouldThrowUnauthorizedException_whenTokenIsEmptyInCookie() {
         MockServerHttpRequest request = MockServerHttpRequest
                 .get("/admin/test")
-                .cookie(new HttpCookie("access_token", " "))
+                .cookie(new HttpCookie("accessToken", " "))
                 .build();
 
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
@@ -157,7 +206,7 @@ class JwtAuthorizationFilterTest {
 
         MockServerHttpRequest request = MockServerHttpRequest
                 .get("/admin/test")
-                .cookie(new HttpCookie("access_token", tokenWithoutSubject))
+                .cookie(new HttpCookie("accessToken", tokenWithoutSubject))
                 .build();
 
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
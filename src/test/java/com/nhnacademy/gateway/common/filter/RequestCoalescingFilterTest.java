@@ -0,0 +1,231 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingFilterTest {
+
+    private static final String BODY = "{\"sensorId\":1}";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private final Sinks.Empty<Void> upstreamGate = Sinks.empty();
+
+    private String upstreamBody = BODY;
+
+    private HttpStatus upstreamStatus = HttpStatus.OK;
+
+    private final GatewayFilterChain upstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        return upstreamGate.asMono().then(Mono.defer(() -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(upstreamStatus);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().set("X-Trace-Id", "upstream");
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(upstreamBody.getBytes(StandardCharsets.UTF_8))));
+        }));
+    };
+
+    @Test
+    @DisplayName("동시에 들어온 동일 GET 요청은 업스트림 호출 하나의 응답을 공유")
+    void filter_collapsesConcurrentRequests() {
+        RequestCoalescingFilter filter = filter(1024);
+
+        List<MockServerWebExchange> exchanges = new ArrayList<>();
+        List<Mono<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            MockServerWebExchange exchange = get("/api/sensors/1?from=0", "user-1");
+            exchanges.add(exchange);
+            results.add(filter.filter(exchange, upstream).cache());
+        }
+        results.forEach(Mono::subscribe);
+        upstreamGate.tryEmitEmpty();
+        results.forEach(result -> result.block(Duration.ofSeconds(5)));
+
+        assertThat(upstreamCalls).hasValue(1);
+        for (MockServerWebExchange exchange : exchanges) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        }
+        assertThat(count("leader")).isEqualTo(1);
+        assertThat(count("collapsed")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("사용자나 쿼리가 다른 요청은 병합하지 않음")
+    void filter_separatesScopes() {
+        RequestCoalescingFilter filter = filter(1024);
+
+        List<Mono<Void>> results = List.of(
+                filter.filter(get("/api/sensors/1", "user-1"), upstream).cache(),
+                filter.filter(get("/api/sensors/1", "user-2"), upstream).cache(),
+                filter.filter(get("/api/sensors/1?page=2", "user-1"), upstream).cache()
+        );
+        results.forEach(Mono::subscribe);
+        upstreamGate.tryEmitEmpty();
+        results.forEach(result -> result.block(Duration.ofSeconds(5)));
+
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Accept, Accept-Encoding, Origin 헤더가 다른 요청은 병합하지 않음")
+    void filter_separatesContentNegotiation() {
+        RequestCoalescingFilter filter = filter(1024);
+
+        List<Mono<Void>> results = List.of(
+                filter.filter(get("/api/sensors/1", "user-1"), upstream).cache(),
+                filter.filter(get(MockServerHttpRequest.get("/api/sensors/1")
+                        .header(HttpHeaders.ACCEPT, MediaType.TEXT_PLAIN_VALUE), "user-1"), upstream).cache(),
+                filter.filter(get(MockServerHttpRequest.get("/api/sensors/1")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"), "user-1"), upstream).cache(),
+                filter.filter(get(MockServerHttpRequest.get("/api/sensors/1")
+                        .header(HttpHeaders.ORIGIN, "https://example.com"), "user-1"), upstream).cache()
+        );
+        results.forEach(Mono::subscribe);
+        upstreamGate.tryEmitEmpty();
+        results.forEach(result -> result.block(Duration.ofSeconds(5)));
+
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("조건부 요청과 범위 요청은 병합하지 않음")
+    void filter_bypassesConditionalRequests() {
+        RequestCoalescingFilter filter = filter(1024);
+
+        List<Mono<Void>> results = List.of(
+                filter.filter(get("/api/sensors/1", "user-1"), upstream).cache(),
+                filter.filter(get(MockServerHttpRequest.get("/api/sensors/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""), "user-1"), upstream).cache(),
+                filter.filter(get(MockServerHttpRequest.get("/api/sensors/1")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 21 Oct 2015 07:28:00 GMT"), "user-1"), upstream)
+                        .cache(),
+                filter.filter(get(MockServerHttpRequest.get("/api/sensors/1")
+                        .header(HttpHeaders.RANGE, "bytes=0-3"), "user-1"), upstream).cache()
+        );
+        results.forEach(Mono::subscribe);
+        upstreamGate.tryEmitEmpty();
+        results.forEach(result -> result.block(Duration.ofSeconds(5)));
+
+        assertThat(upstreamCalls).hasValue(4);
+        assertThat(count("leader")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("200 OK가 아닌 응답은 공유하지 않고 기다리던 요청이 각자 업스트림 호출")
+    void filter_sharesOnlyOk() {
+        RequestCoalescingFilter filter = filter(1024);
+        upstreamStatus = HttpStatus.NOT_MODIFIED;
+
+        MockServerWebExchange leader = get("/api/sensors/1", "user-1");
+        MockServerWebExchange waiter = get("/api/sensors/1", "user-1");
+        Mono<Void> leaderResult = filter.filter(leader, upstream).cache();
+        Mono<Void> waiterResult = filter.filter(waiter, upstream).cache();
+        leaderResult.subscribe();
+        waiterResult.subscribe();
+        upstreamGate.tryEmitEmpty();
+        leaderResult.block(Duration.ofSeconds(5));
+        waiterResult.block(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(count("fallback")).isEqualTo(1);
+        assertThat(count("collapsed")).isZero();
+    }
+
+    @Test
+    @DisplayName("공유 응답 헤더는 기다리던 요청이 이미 설정한 헤더를 덮어쓰지 않음")
+    void filter_keepsWaiterHeaders() {
+        RequestCoalescingFilter filter = filter(1024);
+
+        MockServerWebExchange leader = get("/api/sensors/1", "user-1");
+        MockServerWebExchange waiter = get("/api/sensors/1", "user-1");
+        waiter.getResponse().getHeaders().set("X-Trace-Id", "waiter");
+        Mono<Void> leaderResult = filter.filter(leader, upstream).cache();
+        Mono<Void> waiterResult = filter.filter(waiter, upstream).cache();
+        leaderResult.subscribe();
+        waiterResult.subscribe();
+        upstreamGate.tryEmitEmpty();
+        leaderResult.block(Duration.ofSeconds(5));
+        waiterResult.block(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(waiter.getResponse().getHeaders().get("X-Trace-Id")).containsExactly("waiter");
+        assertThat(waiter.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(waiter.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("공유 한도보다 큰 응답은 기다리던 요청이 각자 업스트림 호출")
+    void filter_fallsBackWhenBodyTooLarge() {
+        RequestCoalescingFilter filter = filter(4);
+
+        MockServerWebExchange leader = get("/api/sensors/1", "user-1");
+        MockServerWebExchange waiter = get("/api/sensors/1", "user-1");
+        Mono<Void> leaderResult = filter.filter(leader, upstream).cache();
+        Mono<Void> waiterResult = filter.filter(waiter, upstream).cache();
+        leaderResult.subscribe();
+        waiterResult.subscribe();
+        upstreamGate.tryEmitEmpty();
+        leaderResult.block(Duration.ofSeconds(5));
+        waiterResult.block(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(waiter.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(count("fallback")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("완료된 요청 이후의 요청은 새로 업스트림 호출")
+    void filter_doesNotReuseCompletedFlight() {
+        RequestCoalescingFilter filter = filter(1024);
+        upstreamGate.tryEmitEmpty();
+
+        filter.filter(get("/api/sensors/1", "user-1"), upstream).block(Duration.ofSeconds(5));
+        filter.filter(get("/api/sensors/1", "user-1"), upstream).block(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    private RequestCoalescingFilter filter(int maxSharedBodyBytes) {
+        return new RequestCoalescingFilter("SENSOR-SERVICE", List.of("/api/sensors/**"), maxSharedBodyBytes, registry);
+    }
+
+    private double count(String result) {
+        return registry.get(RequestCoalescingFilter.METRIC_NAME).tag("result", result).counter().count();
+    }
+
+    private static MockServerWebExchange get(String uri, String userId) {
+        return get(MockServerHttpRequest.get(uri), userId);
+    }
+
+    private static MockServerWebExchange get(MockServerHttpRequest.BaseBuilder<?> request, String userId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(JwtAuthorizationFilter.PRINCIPAL_ATTR,
+                new VerifiedPrincipal(userId, Instant.now().plusSeconds(60), List.of()));
+        return exchange;
+    }
+}
@@ -0,0 +1,203 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.cache.ResponseCache;
+import com.nhnacademy.gateway.common.config.ResponseCacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "[{\"roleId\":\"ROLE_ADMIN\"}]";
+
+    private final ResponseCache responseCache = new ResponseCache(new ResponseCacheProperties(
+            DataSize.ofMegabytes(1), DataSize.ofKilobytes(1), Duration.ofSeconds(60), Duration.ofMinutes(10),
+            false, Map.of()));
+
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(responseCache, List.of("/api/roles/**"));
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private String upstreamCacheControl = "max-age=60";
+
+    private String upstreamVary;
+
+    private boolean upstreamSetCookie;
+
+    private final GatewayFilterChain upstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set("X-Upstream", "1");
+        if (upstreamSetCookie) {
+            response.getHeaders().set(HttpHeaders.SET_COOKIE, "session=1");
+        }
+        if (upstreamCacheControl != null) {
+            response.getHeaders().setCacheControl(upstreamCacheControl);
+        }
+        if (upstreamVary != null) {
+            response.getHeaders().set(HttpHeaders.VARY, upstreamVary);
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+    };
+
+    @Test
+    @DisplayName("첫 요청은 업스트림 응답을 캐시하고, 같은 요청은 게이트웨이에서 응답")
+    void filter_cachesAndServesHit() {
+        MockServerWebExchange first = get("/api/roles");
+        filter.filter(first, upstream).block();
+
+        MockServerWebExchange second = get("/api/roles");
+        filter.filter(second, upstream).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+
+        HttpHeaders headers = second.getResponse().getHeaders();
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(headers.getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(headers.getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(headers.getETag()).isNotBlank();
+        assertThat(headers.getFirst("X-Upstream")).isNull();
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 캐시된 ETag와 일치하면 본문 없이 304 응답")
+    void filter_conditionalRequest() {
+        filter.filter(get("/api/roles"), upstream).block();
+        MockServerWebExchange hit = get("/api/roles");
+        filter.filter(hit, upstream).block();
+        String etag = hit.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest.get("/api/roles")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag));
+        filter.filter(conditional, upstream).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(conditional.getResponse().getBodyAsString().block()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("no-store, private 응답과 Set-Cookie가 있는 응답은 캐시하지 않음")
+    void filter_respectsCacheControl() {
+        for (String cacheControl : List.of("no-store", "private, max-age=60", "max-age=0")) {
+            upstreamCacheControl = cacheControl;
+            upstreamCalls.set(0);
+
+            filter.filter(get("/api/roles/" + cacheControl.length()), upstream).block();
+            filter.filter(get("/api/roles/" + cacheControl.length()), upstream).block();
+
+            assertThat(upstreamCalls).as(cacheControl).hasValue(2);
+        }
+
+        upstreamCacheControl = "max-age=60";
+        upstreamSetCookie = true;
+        upstreamCalls.set(0);
+        filter.filter(get("/api/roles/cookie"), upstream).block();
+        filter.filter(get("/api/roles/cookie"), upstream).block();
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Cache-Control이 없는 응답은 캐시하지 않고, max-age 없는 public 응답은 기본 보관 시간 동안 캐시")
+    void filter_requiresCacheControl() {
+        upstreamCacheControl = null;
+        filter.filter(get("/api/roles/unmarked"), upstream).block();
+        filter.filter(get("/api/roles/unmarked"), upstream).block();
+        assertThat(upstreamCalls).hasValue(2);
+
+        upstreamCacheControl = "public";
+        upstreamCalls.set(0);
+        filter.filter(get("/api/roles/public"), upstream).block();
+        MockServerWebExchange hit = get("/api/roles/public");
+        filter.filter(hit, upstream).block();
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(hit.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+    }
+
+    @Test
+    @DisplayName("Vary 응답은 나열된 요청 헤더 값이 같은 요청에만 재사용하고, Vary: *는 캐시하지 않음")
+    void filter_honorsVary() {
+        upstreamVary = HttpHeaders.ACCEPT_LANGUAGE;
+        filter.filter(get("/api/roles", "ko"), upstream).block();
+        MockServerWebExchange sameLanguage = get("/api/roles", "ko");
+        filter.filter(sameLanguage, upstream).block();
+        MockServerWebExchange otherLanguage = get("/api/roles", "en");
+        filter.filter(otherLanguage, upstream).block();
+        MockServerWebExchange noLanguage = get("/api/roles");
+        filter.filter(noLanguage, upstream).block();
+
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(sameLanguage.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER))
+                .isEqualTo("HIT");
+        assertThat(sameLanguage.getResponse().getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_LANGUAGE);
+        assertThat(otherLanguage.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER))
+                .isEqualTo("MISS");
+        assertThat(noLanguage.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER))
+                .isEqualTo("MISS");
+
+        upstreamVary = "*";
+        upstreamCalls.set(0);
+        filter.filter(get("/api/roles/any"), upstream).block();
+        filter.filter(get("/api/roles/any"), upstream).block();
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("대상 경로가 아니거나 GET이 아닌 요청은 캐시하지 않음")
+    void filter_skipsOtherRequests() {
+        filter.filter(get("/api/departments/1"), upstream).block();
+        filter.filter(get("/api/departments/1"), upstream).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.post("/api/roles")), upstream).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.post("/api/roles")), upstream).block();
+
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("쿼리 문자열이 다르면 다른 응답으로 캐시")
+    void cacheKey_includesQuery() {
+        filter.filter(get("/api/roles?page=1"), upstream).block();
+        filter.filter(get("/api/roles?page=2"), upstream).block();
+        filter.filter(get("/api/roles?page=1"), upstream).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("s-maxage를 max-age보다 우선 사용")
+    void maxAgeSeconds() {
+        assertThat(ResponseCacheFilter.maxAgeSeconds("public, max-age=60, s-maxage=30")).isEqualTo(30);
+        assertThat(ResponseCacheFilter.maxAgeSeconds("public, max-age=60")).isEqualTo(60);
+        assertThat(ResponseCacheFilter.maxAgeSeconds("public")).isEqualTo(-1);
+    }
+
+    private static MockServerWebExchange get(String uri) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+    }
+
+    private static MockServerWebExchange get(String uri, String acceptLanguage) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri)
+                .header(HttpHeaders.ACCEPT_LANGUAGE, acceptLanguage));
+    }
+}
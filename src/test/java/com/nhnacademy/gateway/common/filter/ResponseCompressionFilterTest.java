@@ -0,0 +1,310 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.cache.ResponseCache;
+import com.nhnacademy.gateway.common.config.CompressionProperties;
+import com.nhnacademy.gateway.common.config.ResponseCacheProperties;
+import com.nhnacademy.gateway.common.util.DeflaterPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCompressionFilterTest {
+
+    private static final String ROUTE_ID = "DASHBOARD-SERVICE";
+
+    /**
+     * 약 10KB의 대시보드 패널 JSON 조각
+     */
+    private static final String CHUNK = "[" + "{\"panelId\":1,\"title\":\"온도\",\"type\":\"timeseries\"},".repeat(160) + "{}]";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CompressionProperties properties = new CompressionProperties(DataSize.ofKilobytes(2), 6, 1,
+            List.of("application/json", "text/*"), Map.of());
+
+    private final DeflaterPool deflaterPool = new DeflaterPool(properties);
+
+    private final ResponseCompressionFilter filter = new ResponseCompressionFilter(
+            ROUTE_ID, properties, List.of("/api/images/**"), deflaterPool, meterRegistry);
+
+    private MediaType upstreamContentType = MediaType.APPLICATION_JSON;
+
+    private String upstreamContentEncoding;
+
+    private int upstreamChunks = 3;
+
+    private final GatewayFilterChain upstream = exchange -> {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(upstreamContentType);
+        response.getHeaders().setETag("\"v1\"");
+        response.getHeaders().setCacheControl("max-age=60");
+        if (upstreamContentEncoding != null) {
+            response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, upstreamContentEncoding);
+        }
+        byte[] chunk = CHUNK.getBytes(StandardCharsets.UTF_8);
+        response.getHeaders().setContentLength((long) chunk.length * upstreamChunks);
+        return response.writeWith(Flux.range(0, upstreamChunks)
+                .map(i -> response.bufferFactory().wrap(chunk)));
+    };
+
+    @Test
+    @DisplayName("gzip을 허용하는 요청의 큰 JSON 응답을 압축하고, 풀면 원본과 같음")
+    void filter_compressesLargeJson() throws IOException {
+        MockServerWebExchange exchange = get("/api/dashboards/1", "gzip, deflate, br");
+        filter.filter(exchange, upstream).block();
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(headers.containsKey(HttpHeaders.CONTENT_LENGTH)).isFalse();
+        assertThat(headers.getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(headers.getETag()).isEqualTo("W/\"v1\"");
+
+        byte[] compressed = bodyBytes(exchange);
+        assertThat(compressed.length).isLessThan(CHUNK.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(gunzip(compressed)).isEqualTo(CHUNK.repeat(3));
+
+        double in = meterRegistry.get(ResponseCompressionFilter.BYTES_METRIC).tag("direction", "in").counter().count();
+        double out = meterRegistry.get(ResponseCompressionFilter.BYTES_METRIC).tag("direction", "out").counter().count();
+        assertThat(in).isEqualTo(CHUNK.getBytes(StandardCharsets.UTF_8).length * 3.0);
+        assertThat(out).isEqualTo(compressed.length);
+        assertThat(meterRegistry.get(ResponseCompressionFilter.TIME_METRIC).timer().count()).isEqualTo(1);
+        assertThat(resultCount("compressed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답이 끝난 압축기는 풀에 돌려주고, 다음 응답이 초기화된 압축기로 같은 결과를 만듦")
+    void filter_reusesPooledDeflater() throws IOException {
+        MockServerWebExchange first = get("/api/dashboards/1", "gzip");
+        filter.filter(first, upstream).block();
+        byte[] firstBody = bodyBytes(first);
+        assertThat(deflaterPool.idle()).isEqualTo(1);
+
+        MockServerWebExchange second = get("/api/dashboards/1", "gzip");
+        filter.filter(second, upstream).block();
+
+        assertThat(bodyBytes(second)).isEqualTo(firstBody);
+        assertThat(gunzip(firstBody)).isEqualTo(CHUNK.repeat(3));
+        assertThat(deflaterPool.idle()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("업스트림 본문이 끝나기 전에 압축된 조각을 먼저 전달")
+    void filter_streamsChunksWithoutBufferingWholeBody() {
+        Sinks.Many<String> chunks = Sinks.many().unicast().onBackpressureBuffer();
+        GatewayFilterChain streamingUpstream = exchange -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(chunks.asFlux()
+                    .map(chunk -> response.bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        };
+
+        MockServerWebExchange exchange = get("/api/dashboards/stream", "gzip");
+        AtomicInteger written = new AtomicInteger();
+        exchange.getResponse().setWriteHandler(body -> Flux.from(body)
+                .doOnNext(buffer -> {
+                    written.addAndGet(buffer.readableByteCount());
+                    DataBufferUtils.release(buffer);
+                })
+                .then());
+        Mono<Void> result = filter.filter(exchange, streamingUpstream).cache();
+        result.subscribe();
+
+        // 압축기 창을 넘는 양을 보낼 때까지 본문은 아직 끝나지 않은 상태
+        for (int i = 0; i < 64; i++) {
+            chunks.tryEmitNext(i + ":" + randomText(1024));
+        }
+        assertThat(written.get()).isPositive();
+
+        chunks.tryEmitComplete();
+        result.block(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("조각 경계마다 압축기를 비워, 다음 조각이 오기 전에 받은 조각 전체를 풀 수 있음")
+    void filter_flushesEachChunk() throws DataFormatException {
+        Sinks.Many<String> chunks = Sinks.many().unicast().onBackpressureBuffer();
+        GatewayFilterChain streamingUpstream = exchange -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(chunks.asFlux()
+                    .map(chunk -> response.bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        };
+
+        MockServerWebExchange exchange = get("/api/dashboards/stream", "gzip");
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        exchange.getResponse().setWriteHandler(body -> Flux.from(body)
+                .doOnNext(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    written.writeBytes(bytes);
+                    DataBufferUtils.release(buffer);
+                })
+                .then());
+        Mono<Void> result = filter.filter(exchange, streamingUpstream).cache();
+        result.subscribe();
+
+        chunks.tryEmitNext(CHUNK);
+        assertThat(inflateAfterHeader(written.toByteArray())).isEqualTo(CHUNK);
+
+        chunks.tryEmitComplete();
+        result.block(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하지 않는 요청은 압축하지 않지만 Vary 헤더를 붙임")
+    void filter_respectsAcceptEncoding() {
+        for (String acceptEncoding : new String[]{null, "identity", "gzip;q=0, br"}) {
+            MockServerWebExchange exchange = get("/api/dashboards/1", acceptEncoding);
+            filter.filter(exchange, upstream).block();
+
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            assertThat(headers.containsKey(HttpHeaders.CONTENT_ENCODING)).as(acceptEncoding).isFalse();
+            assertThat(headers.getVary()).as(acceptEncoding).contains(HttpHeaders.ACCEPT_ENCODING);
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(CHUNK.repeat(3));
+        }
+        assertThat(resultCount("not-accepted")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("작은 응답, 압축 대상이 아닌 Content-Type, 이미 압축된 응답, 제외 경로는 그대로 전달")
+    void filter_skipsIneligibleResponses() {
+        upstreamChunks = 0;
+        assertPassThrough(get("/api/dashboards/empty", "gzip"));
+
+        upstreamChunks = 3;
+        upstreamContentType = MediaType.IMAGE_PNG;
+        assertPassThrough(get("/api/dashboards/1/thumbnail", "gzip"));
+
+        upstreamContentType = MediaType.APPLICATION_JSON;
+        upstreamContentEncoding = "br";
+        assertPassThrough(get("/api/dashboards/1", "gzip"));
+
+        upstreamContentEncoding = null;
+        assertPassThrough(get("/api/images/logo.json", "gzip"));
+
+        assertThat(resultCount("small")).isEqualTo(1);
+        assertThat(resultCount("content-type")).isEqualTo(1);
+        assertThat(resultCount("encoded")).isEqualTo(1);
+        assertThat(resultCount("excluded-path")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 캐시와 함께 쓰면 캐시에는 원본을 저장하고 요청마다 Accept-Encoding에 맞춰 응답")
+    void filter_withResponseCache_storesUncompressedBody() throws IOException {
+        ResponseCache responseCache = new ResponseCache(new ResponseCacheProperties(
+                DataSize.ofMegabytes(1), DataSize.ofKilobytes(64), Duration.ofSeconds(60), Duration.ofMinutes(10),
+                false, Map.of()));
+        ResponseCacheFilter cacheFilter = new ResponseCacheFilter(responseCache, List.of());
+        GatewayFilterChain cachedUpstream = exchange -> cacheFilter.filter(exchange, upstream);
+
+        MockServerWebExchange miss = get("/api/dashboards/1", "gzip");
+        filter.filter(miss, cachedUpstream).block();
+        MockServerWebExchange plainHit = get("/api/dashboards/1", null);
+        filter.filter(plainHit, cachedUpstream).block();
+        MockServerWebExchange gzipHit = get("/api/dashboards/1", "gzip");
+        filter.filter(gzipHit, cachedUpstream).block();
+
+        assertThat(gunzip(bodyBytes(miss))).isEqualTo(CHUNK.repeat(3));
+        assertThat(plainHit.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(plainHit.getResponse().getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(plainHit.getResponse().getBodyAsString().block()).isEqualTo(CHUNK.repeat(3));
+        assertThat(gzipHit.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(bodyBytes(gzipHit))).isEqualTo(CHUNK.repeat(3));
+    }
+
+    private void assertPassThrough(MockServerWebExchange exchange) {
+        filter.filter(exchange, upstream).block();
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))
+                .isNotEqualTo("gzip");
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(CHUNK.repeat(upstreamChunks));
+    }
+
+    private double resultCount(String result) {
+        return meterRegistry.get(ResponseCompressionFilter.RESPONSES_METRIC).tag("result", result).counter().count();
+    }
+
+    private static MockServerWebExchange get(String path, String acceptEncoding) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private static byte[] bodyBytes(MockServerWebExchange exchange) {
+        return DataBufferUtils.join(exchange.getResponse().getBody())
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .block();
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 아직 끝나지 않은 gzip 본문에서 10바이트 헤더 뒤의 deflate 블록을 지금까지 받은 만큼 풉니다.
+     */
+    private static String inflateAfterHeader(byte[] gzip) throws DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(gzip, 10, gzip.length - 10);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = inflater.inflate(buffer)) > 0) {
+                out.write(buffer, 0, length);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static String randomText(int length) {
+        StringBuilder text = new StringBuilder(length);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(26)));
+        }
+        return text.toString();
+    }
+}
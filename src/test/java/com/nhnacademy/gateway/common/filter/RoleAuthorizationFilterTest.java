@@ -0,0 +1,89 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.exception.ForbiddenException;
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import com.nhnacademy.gateway.common.route.RoleBitmask;
+import com.nhnacademy.gateway.common.route.RouteEntry;
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.nhnacademy.gateway.common.route.RouteEntry.authenticatedRoute;
+import static com.nhnacademy.gateway.common.route.RouteEntry.roleRoute;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoleAuthorizationFilterTest {
+
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    private static final List<RouteEntry> ROUTES = List.of(
+            roleRoute("USER-SERVICE", "lb://USER-SERVICE", List.of("ROLE_ADMIN"), "/api/admin/users/**"),
+            roleRoute("EVENT-SERVICE", "lb://EVENT-SERVICE", List.of("ROLE_ADMIN", "ROLE_OPERATOR"), "/api/admin/events/**"),
+            authenticatedRoute("USER-SERVICE", "lb://USER-SERVICE", "/api/users/**")
+    );
+
+    private final RoleBitmask roleBitmask = RoleBitmask.compile(ROUTES);
+
+    @Test
+    @DisplayName("라우트의 필요 권한 중 하나라도 있으면 통과, 없으면 403")
+    void filter_checksRequiredRoles() {
+        RoleAuthorizationFilter adminOnly = new RoleAuthorizationFilter(roleBitmask, List.of("ROLE_ADMIN"));
+        RoleAuthorizationFilter adminOrOperator = new RoleAuthorizationFilter(roleBitmask, List.of("ROLE_ADMIN", "ROLE_OPERATOR"));
+
+        StepVerifier.create(adminOnly.filter(exchange("ROLE_USER", "ROLE_ADMIN"), CHAIN)).verifyComplete();
+        StepVerifier.create(adminOrOperator.filter(exchange("ROLE_OPERATOR"), CHAIN)).verifyComplete();
+
+        StepVerifier.create(adminOnly.filter(exchange("ROLE_OPERATOR"), CHAIN))
+                .expectError(ForbiddenException.class)
+                .verify();
+        StepVerifier.create(adminOnly.filter(exchange("ROLE_USER"), CHAIN))
+                .expectError(ForbiddenException.class)
+                .verify();
+        StepVerifier.create(adminOnly.filter(exchange(), CHAIN))
+                .expectError(ForbiddenException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("토큰 없이 들어온 요청은 401")
+    void filter_rejectsMissingPrincipal() {
+        RoleAuthorizationFilter filter = new RoleAuthorizationFilter(roleBitmask, List.of("ROLE_ADMIN"));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/admin/users/1"));
+
+        StepVerifier.create(filter.filter(exchange, CHAIN))
+                .expectError(UnauthorizedException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("라우트 테이블의 권한마다 비트 하나를 배정하고, 선언되지 않은 권한은 무시")
+    void roleBitmask_assignsOneBitPerDeclaredRole() {
+        assertThat(roleBitmask.size()).isEqualTo(2);
+        assertThat(Long.bitCount(roleBitmask.maskOf(List.of("ROLE_ADMIN", "ROLE_OPERATOR")))).isEqualTo(2);
+        assertThat(roleBitmask.maskOf(List.of("ROLE_USER"))).isZero();
+
+        List<RouteEntry> tooMany = IntStream.rangeClosed(0, Long.SIZE)
+                .mapToObj(i -> roleRoute("R" + i, "lb://R", List.of("ROLE_" + i), "/r" + i + "/**"))
+                .toList();
+        assertThatThrownBy(() -> RoleBitmask.compile(tooMany)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RouteEntry("X", "lb://X", List.of("/x/**"), false, List.of("ROLE_ADMIN")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockServerWebExchange exchange(String... roles) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/admin/users/1"));
+        exchange.getAttributes().put(JwtAuthorizationFilter.PRINCIPAL_ATTR,
+                new VerifiedPrincipal("user-1", Instant.now().plusSeconds(60), List.of(roles)));
+        return exchange;
+    }
+}
@@ -0,0 +1,113 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.exception.PayloadTooLargeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingBodyFilterTest {
+
+    private static final int MAX_REQUEST_SIZE = 1024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final StreamingBodyFilter filter =
+            new StreamingBodyFilter("USER-SERVICE", List.of("/api/images/**"), MAX_REQUEST_SIZE, meterRegistry);
+
+    @Test
+    @DisplayName("Content-Length가 최대 크기를 넘으면 본문을 읽기 전에 413")
+    void contentLengthOverLimit_isRejectedBeforeRouting() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/images/1")
+                .contentLength(MAX_REQUEST_SIZE + 1)
+                .body(Flux.never()));
+        AtomicReference<ServerWebExchange> routed = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, capture(routed)))
+                .expectError(PayloadTooLargeException.class)
+                .verify();
+
+        assertThat(routed.get()).isNull();
+        assertThat(rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Content-Length가 없는 요청은 전달한 본문이 최대 크기를 넘는 순간 413")
+    void chunkedBodyOverLimit_failsWhileStreaming() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/images/1")
+                .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                .body(Flux.just(buffer(600), buffer(600), buffer(600))));
+        AtomicReference<ServerWebExchange> routed = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, capture(routed))).verifyComplete();
+
+        StepVerifier.create(routed.get().getRequest().getBody())
+                .consumeNextWith(DataBufferUtils::release)
+                .expectError(PayloadTooLargeException.class)
+                .verify();
+        assertThat(rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기 이하의 본문은 같은 버퍼 그대로 전달하고 스트리밍 경로로 표시")
+    void bodyWithinLimit_isPassedThroughUntouched() {
+        DataBuffer first = buffer(512);
+        DataBuffer second = buffer(512);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/images/1")
+                .body(Flux.just(first, second)));
+        AtomicReference<ServerWebExchange> routed = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, capture(routed))).verifyComplete();
+
+        assertThat(StreamingBodyFilter.isStreaming(routed.get())).isTrue();
+        StepVerifier.create(routed.get().getRequest().getBody())
+                .expectNextMatches(buffer -> buffer == first)
+                .expectNextMatches(buffer -> buffer == second)
+                .verifyComplete();
+        assertThat(rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("스트리밍 경로가 아닌 요청은 크기를 제한하지 않음")
+    void otherPaths_areNotLimited() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/users/1")
+                .contentLength(MAX_REQUEST_SIZE * 10L)
+                .body(Flux.never()));
+        AtomicReference<ServerWebExchange> routed = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, capture(routed))).verifyComplete();
+
+        assertThat(StreamingBodyFilter.isStreaming(routed.get())).isFalse();
+        assertThat(routed.get().getRequest()).isSameAs(exchange.getRequest());
+    }
+
+    private double rejected() {
+        return meterRegistry.get(StreamingBodyFilter.REJECTED_METRIC).counter().count();
+    }
+
+    private static GatewayFilterChain capture(AtomicReference<ServerWebExchange> routed) {
+        return exchange -> {
+            routed.set(exchange);
+            return Mono.empty();
+        };
+    }
+
+    private static DataBuffer buffer(int size) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(new byte[size]);
+    }
+}
@@ -0,0 +1,60 @@
+package com.nhnacademy.gateway.common.filter;
+
+import com.nhnacademy.gateway.common.config.RateLimitProperties.Limit;
+import com.nhnacademy.gateway.common.exception.TooManyRequestsException;
+import com.nhnacademy.gateway.common.util.LocalRateLimiter;
+import com.nhnacademy.gateway.common.util.VerifiedPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRateLimitFilterTest {
+
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    private final UserRateLimitFilter filter =
+            new UserRateLimitFilter(new LocalRateLimiter(new Limit(1, 2), 1_000, Duration.ofMinutes(10)));
+
+    @Test
+    @DisplayName("인증된 요청은 사용자 ID, 비인증 요청은 클라이언트 IP를 키로 사용")
+    void resolveKey() {
+        MockServerWebExchange authenticated = exchange("10.0.0.1");
+        authenticated.getAttributes().put(JwtAuthorizationFilter.PRINCIPAL_ATTR,
+                new VerifiedPrincipal("user-1", Instant.now().plusSeconds(60), List.of()));
+
+        assertThat(UserRateLimitFilter.resolveKey(authenticated)).isEqualTo("user-1");
+        assertThat(UserRateLimitFilter.resolveKey(exchange("10.0.0.1"))).isEqualTo("ip:10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 Retry-After 헤더와 함께 429 예외 발생")
+    void filter_rejectsOverLimit() {
+        StepVerifier.create(filter.filter(exchange("10.0.0.1"), CHAIN)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("10.0.0.1"), CHAIN)).verifyComplete();
+
+        MockServerWebExchange rejected = exchange("10.0.0.1");
+        StepVerifier.create(filter.filter(rejected, CHAIN))
+                .expectError(TooManyRequestsException.class)
+                .verify();
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        StepVerifier.create(filter.filter(exchange("10.0.0.2"), CHAIN)).verifyComplete();
+    }
+
+    private static MockServerWebExchange exchange(String clientIp) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/dashboards/1")
+                .remoteAddress(new InetSocketAddress(clientIp, 50000)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.nhnacademy.gateway.common.handler;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.gateway.common.exception.ForbiddenException;
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalErrorHandlerTest {
+
+    private final GlobalErrorHandler handler = new GlobalErrorHandler();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CommonHttpException은 예외의 상태 코드와 메시지로 응답")
+    void handle_commonHttpException() throws Exception {
+        MockServerWebExchange exchange = handle(new UnauthorizedException(UnauthorizedException.EXPIRED_TOKEN_MESSAGE));
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+
+        String body = exchange.getResponse().getBodyAsString().block();
+        assertThat(exchange.getResponse().getHeaders().getContentLength()).isEqualTo(body.getBytes().length);
+
+        JsonNode json = objectMapper.readTree(body);
+        assertThat(json.get("status").asInt()).isEqualTo(401);
+        assertThat(json.get("message").asText()).isEqualTo(UnauthorizedException.EXPIRED_TOKEN_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("처리되지 않은 예외는 500과 기본 메시지로 응답")
+    void handle_unexpectedException() throws Exception {
+        MockServerWebExchange exchange = handle(new IllegalStateException("boom"));
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        JsonNode json = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertThat(json.get("status").asInt()).isEqualTo(500);
+        assertThat(json.get("message").asText()).isEqualTo("게이트웨이 내부 오류 발생");
+    }
+
+    @Test
+    @DisplayName("ResponseStatusException은 예외의 상태 코드로 응답하고 4xx는 ERROR로 기록하지 않음")
+    void handle_responseStatusException() throws Exception {
+        ListAppender<ILoggingEvent> appender = attachAppender();
+        try {
+            MockServerWebExchange exchange = handle(new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            JsonNode json = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+            assertThat(json.get("status").asInt()).isEqualTo(404);
+            assertThat(json.get("message").asText()).isEqualTo("Not Found");
+            assertThat(appender.list).noneMatch(event -> event.getLevel() == Level.ERROR);
+        } finally {
+            detachAppender(appender);
+        }
+    }
+
+    @Test
+    @DisplayName("5xx ResponseStatusException은 상태 코드와 사유로 응답하고 스택 트레이스와 함께 ERROR로 기록")
+    void handle_serverErrorResponseStatusException() throws Exception {
+        ListAppender<ILoggingEvent> appender = attachAppender();
+        try {
+            MockServerWebExchange exchange = handle(
+                    new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Unable to find instance"));
+
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            JsonNode json = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+            assertThat(json.get("message").asText()).isEqualTo("Unable to find instance");
+            assertThat(appender.list).anyMatch(event ->
+                    event.getLevel() == Level.ERROR && event.getThrowableProxy() != null);
+        } finally {
+            detachAppender(appender);
+        }
+    }
+
+    @Test
+    @DisplayName("메시지의 따옴표, 역슬래시, 제어 문자는 JSON 이스케이프")
+    void handle_escapesMessage() throws Exception {
+        String message = "bad \"token\" \\ \n\u0001";
+        MockServerWebExchange exchange = handle(new ForbiddenException(message));
+
+        JsonNode json = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertThat(json.get("status").asInt()).isEqualTo(403);
+        assertThat(json.get("message").asText()).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("같은 상태 코드와 메시지는 같은 바이트 배열을 독립된 위치로 재사용")
+    void body_reusesEncodedBytes() {
+        ErrorResponseBodies bodies = new ErrorResponseBodies(500, "default");
+
+        ByteBuffer first = bodies.body(401, UnauthorizedException.EXPIRED_TOKEN_MESSAGE);
+        first.get();
+        ByteBuffer second = bodies.body(401, UnauthorizedException.EXPIRED_TOKEN_MESSAGE);
+
+        assertThat(second.isReadOnly()).isTrue();
+        assertThat(second.position()).isZero();
+        assertThat(second).isEqualTo(bodies.body(401, UnauthorizedException.EXPIRED_TOKEN_MESSAGE));
+    }
+
+    /**
+     * 테스트 로그 설정과 관계없이 핸들러의 로그를 모두 수집합니다.
+     */
+    private static ListAppender<ILoggingEvent> attachAppender() {
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        Logger logger = (Logger) LoggerFactory.getLogger(GlobalErrorHandler.class);
+        logger.setLevel(Level.DEBUG);
+        logger.addAppender(appender);
+        return appender;
+    }
+
+    private static void detachAppender(ListAppender<ILoggingEvent> appender) {
+        Logger logger = (Logger) LoggerFactory.getLogger(GlobalErrorHandler.class);
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+        appender.stop();
+    }
+
+    private MockServerWebExchange handle(Throwable ex) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users/1"));
+        handler.handle(exchange, ex).block();
+        return exchange;
+    }
+}
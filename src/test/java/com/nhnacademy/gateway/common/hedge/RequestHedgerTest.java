@@ -0,0 +1,221 @@
+package com.nhnacademy.gateway.common.hedge;
+
+import com.nhnacademy.gateway.common.client.BackendHttpClients;
+import com.nhnacademy.gateway.common.filter.BackendRoutingFilter;
+import com.nhnacademy.gateway.common.filter.HedgingFilter;
+import com.nhnacademy.gateway.common.loadbalancer.InstanceLatencyLifecycle;
+import com.nhnacademy.gateway.common.loadbalancer.InstanceLatencyStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.isAlreadyRouted;
+
+class RequestHedgerTest {
+
+    private static final String SERVICE_ID = "DASHBOARD-SERVICE";
+
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    private static DisposableServer slowBackend;
+
+    private static DisposableServer fastBackend;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void startBackends() {
+        slowBackend = backend("slow", Duration.ofSeconds(1));
+        fastBackend = backend("fast", Duration.ZERO);
+    }
+
+    @AfterAll
+    static void stopBackends() {
+        slowBackend.disposeNow();
+        fastBackend.disposeNow();
+    }
+
+    @Test
+    @DisplayName("첫 번째 요청이 대기 시간 안에 응답하지 않으면 다른 인스턴스로 보내 먼저 온 응답을 사용")
+    void slowPrimary_isHedgedToOtherInstance() {
+        HedgingFilter policy = policy();
+        MockServerWebExchange exchange = exchange(slowBackend, policy);
+
+        filter(new HedgeBudget(0.1, 10)).filter(exchange, CHAIN).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Backend")).isEqualTo("fast");
+        assertThat(exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR).toString()).contains(":" + fastBackend.port());
+        assertThat(isAlreadyRouted(exchange)).isTrue();
+        assertThat(counter("hedged")).isEqualTo(1);
+        assertThat(counter("won")).isEqualTo(1);
+        ((Connection) exchange.getRequiredAttribute(CLIENT_RESPONSE_CONN_ATTR)).dispose();
+    }
+
+    @Test
+    @DisplayName("두 번째 요청이 이기면 첫 번째 인스턴스에는 취소 시점까지의 시간만 기록하고 라이프사이클은 다시 기록하지 않음")
+    void hedgeWon_attributesLatencyToAnsweringInstance() {
+        InstanceLatencyStats stats = new InstanceLatencyStats();
+        HedgingFilter policy = policy();
+        MockServerWebExchange exchange = exchange(slowBackend, policy);
+        DefaultRequest<RequestDataContext> lbRequest = new DefaultRequest<>(new RequestDataContext(
+                new RequestData(exchange.getRequest(), exchange.getAttributes())));
+        InstanceLatencyLifecycle lifecycle = new InstanceLatencyLifecycle(stats);
+        DefaultResponse lbResponse = exchange.getRequiredAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        lifecycle.onStartRequest(lbRequest, lbResponse);
+
+        filter(new HedgeBudget(0.1, 10), stats).filter(exchange, CHAIN).block(Duration.ofSeconds(5));
+        lifecycle.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, lbRequest, lbResponse,
+                new ResponseData(exchange.getResponse(), lbRequest.getContext().getClientRequest())));
+
+        assertThat(exchange.getAttributes()).containsKey(InstanceLatencyLifecycle.RECORDED_ATTR);
+        // 라이프사이클이 한 번 더 기록했다면 처리 중 요청 수가 음수가 되어 비용이 0이 됨
+        assertThat(stats.cost(instance(slowBackend)))
+                .isGreaterThan(Duration.ofMillis(10).toNanos())
+                .isLessThan(Duration.ofSeconds(1).toNanos());
+        ((Connection) exchange.getRequiredAttribute(CLIENT_RESPONSE_CONN_ATTR)).dispose();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 응답하면 두 번째 요청을 보내지 않음")
+    void fastPrimary_isNotHedged() {
+        // 새 HttpClient의 첫 연결 수립이 대기 시간을 넘지 않도록 넉넉한 대기 시간을 사용
+        HedgingFilter policy = policy(Duration.ofSeconds(1), Duration.ofMillis(500));
+        MockServerWebExchange exchange = exchange(fastBackend, policy);
+
+        filter(new HedgeBudget(0.1, 10)).filter(exchange, CHAIN).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Backend")).isEqualTo("fast");
+        assertThat(counter("hedged")).isZero();
+        ((Connection) exchange.getRequiredAttribute(CLIENT_RESPONSE_CONN_ATTR)).dispose();
+    }
+
+    @Test
+    @DisplayName("hedging 예산을 모두 쓰면 두 번째 요청 없이 첫 번째 응답을 기다림")
+    void exhaustedBudget_waitsForPrimary() {
+        HedgeBudget budget = new HedgeBudget(0, 1);
+        assertThat(budget.tryWithdraw()).isTrue();
+        HedgingFilter policy = policy();
+        MockServerWebExchange exchange = exchange(slowBackend, policy);
+
+        filter(budget).filter(exchange, CHAIN).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Backend")).isEqualTo("slow");
+        assertThat(counter("hedged")).isZero();
+        assertThat(counter("budget-exhausted")).isEqualTo(1);
+        ((Connection) exchange.getRequiredAttribute(CLIENT_RESPONSE_CONN_ATTR)).dispose();
+    }
+
+    @Test
+    @DisplayName("대기 시간은 최근 응답 시간의 백분위를 최소/최대 범위로 제한한 값")
+    void delayEstimator_usesPercentileOfRecentSamples() {
+        HedgeDelayEstimator estimator = new HedgeDelayEstimator(0.9, Duration.ofMillis(200),
+                Duration.ofMillis(5), Duration.ofMillis(500));
+        assertThat(estimator.delay()).isEqualTo(Duration.ofMillis(200));
+
+        for (int i = 1; i <= HedgeDelayEstimator.SAMPLES; i++) {
+            estimator.record(Duration.ofMillis(i % 100 + 1).toNanos());
+        }
+        assertThat(estimator.delay()).isBetween(Duration.ofMillis(89), Duration.ofMillis(92));
+
+        for (int i = 0; i < HedgeDelayEstimator.SAMPLES; i++) {
+            estimator.record(Duration.ofSeconds(3).toNanos());
+        }
+        assertThat(estimator.delay()).isEqualTo(Duration.ofMillis(500));
+    }
+
+    private BackendRoutingFilter filter(HedgeBudget budget) {
+        return filter(budget, new InstanceLatencyStats());
+    }
+
+    private BackendRoutingFilter filter(HedgeBudget budget, InstanceLatencyStats latencyStats) {
+        ServiceInstanceListSupplier supplier = mock(ServiceInstanceListSupplier.class);
+        when(supplier.get()).thenReturn(Flux.just(List.of(instance(slowBackend), instance(fastBackend))));
+        LoadBalancerClientFactory loadBalancerClientFactory = mock(LoadBalancerClientFactory.class);
+        when(loadBalancerClientFactory.getInstance(SERVICE_ID, ServiceInstanceListSupplier.class)).thenReturn(supplier);
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<List<HttpHeadersFilter>> headersFilters = mock(ObjectProvider.class);
+        when(headersFilters.getIfAvailable()).thenReturn(List.of());
+
+        RequestHedger hedger = new RequestHedger(budget, loadBalancerClientFactory, latencyStats, meterRegistry);
+        return new BackendRoutingFilter(HttpClient.create(), headersFilters, new HttpClientProperties(),
+                mock(BackendHttpClients.class), hedger);
+    }
+
+    private HedgingFilter policy() {
+        return policy(Duration.ofMillis(50), Duration.ofMillis(10));
+    }
+
+    private HedgingFilter policy(Duration initialDelay, Duration minDelay) {
+        return new HedgingFilter(SERVICE_ID, List.of(), new HedgeDelayEstimator(0.95, initialDelay,
+                minDelay, Duration.ofSeconds(1)), meterRegistry);
+    }
+
+    private static MockServerWebExchange exchange(DisposableServer primary, HedgingFilter policy) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/dashboards/1"));
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, Route.async()
+                .id(SERVICE_ID)
+                .uri("lb://" + SERVICE_ID)
+                .predicate(e -> true)
+                .build());
+        exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR,
+                URI.create("http://127.0.0.1:" + primary.port() + "/dashboards/1"));
+        exchange.getAttributes().put(GATEWAY_LOADBALANCER_RESPONSE_ATTR, new DefaultResponse(instance(primary)));
+        exchange.getAttributes().put(HedgingFilter.HEDGING_ATTR, policy);
+        return exchange;
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get(HedgingFilter.METRIC_NAME).tag("result", result).counter().count();
+    }
+
+    private static ServiceInstance instance(DisposableServer backend) {
+        return new DefaultServiceInstance(SERVICE_ID + "-" + backend.port(), SERVICE_ID, "127.0.0.1",
+                backend.port(), false);
+    }
+
+    private static DisposableServer backend(String name, Duration delay) {
+        return HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((req, res) -> Mono.delay(delay)
+                        .then(res.header("X-Backend", name).sendString(Mono.just("{}")).then()))
+                .bindNow();
+    }
+}
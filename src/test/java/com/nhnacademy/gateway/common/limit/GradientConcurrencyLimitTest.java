@@ -0,0 +1,103 @@
+package com.nhnacademy.gateway.common.limit;
+
+import com.nhnacademy.gateway.common.exception.ServiceUnavailableException;
+import com.nhnacademy.gateway.common.filter.ConcurrencyLimitFilter;
+import com.nhnacademy.gateway.common.filter.UpstreamLatencyFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientConcurrencyLimitTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+
+    private static final long SLOW = Duration.ofMillis(100).toNanos();
+
+    @Test
+    @DisplayName("처리 중인 요청이 한도에 닿으면 거절하고, 요청이 끝나면 다시 허용")
+    void tryAcquire_rejectsBeyondLimit() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(2, 1, 10, 0.2, 1.5, 600);
+
+        assertThat(limit.tryAcquire()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isEqualTo(2);
+        assertThat(limit.tryAcquire()).isZero();
+        assertThat(limit.inFlight()).isEqualTo(2);
+
+        limit.release();
+        assertThat(limit.tryAcquire()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 평소와 같으면 한도를 늘리고, 느려지면 빠르게 줄임")
+    void onSample_followsLatency() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 4, 200, 0.2, 1.5, 600);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST, limit.limit(), false);
+        }
+        int grown = limit.limit();
+        assertThat(grown).isGreaterThan(20);
+
+        for (int i = 0; i < 30; i++) {
+            limit.onSample(SLOW, limit.limit(), false);
+        }
+        assertThat(limit.limit()).isLessThan(grown / 2);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 한도의 절반도 안 되면 한도를 바꾸지 않고, 실패한 요청은 바로 줄임")
+    void onSample_ignoresAppLimitedSamplesAndBacksOffOnDrops() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 4, 200, 0.2, 1.5, 600);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST, 1, false);
+        }
+        assertThat(limit.limit()).isEqualTo(20);
+
+        limit.onSample(0, 1, true);
+        assertThat(limit.limit()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 업스트림으로 보내지 않고 503, 거절 수와 현재 한도를 지표로 노출")
+    void filter_rejectsWithServiceUnavailable() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(1, 1, 10, 0.2, 1.5, 600);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter("CORRELATION-ANALYSIS-SERVICE", limit, meterRegistry);
+
+        Sinks.Empty<Void> upstream = Sinks.empty();
+        GatewayFilterChain pending = exchange -> {
+            exchange.getAttributes().put(UpstreamLatencyFilter.UPSTREAM_LATENCY_ATTR, FAST);
+            return upstream.asMono();
+        };
+        GatewayFilterChain unreachable = exchange -> Mono.error(new AssertionError("업스트림으로 전달되면 안 됨"));
+
+        Mono<Void> first = filter.filter(exchange(), pending);
+        StepVerifier.create(first)
+                .then(() -> StepVerifier.create(filter.filter(exchange(), unreachable))
+                        .expectErrorSatisfies(e -> assertThat(e)
+                                .isInstanceOf(ServiceUnavailableException.class)
+                                .extracting("statusCode").isEqualTo(503))
+                        .verify())
+                .then(upstream::tryEmitEmpty)
+                .verifyComplete();
+
+        assertThat(limit.inFlight()).isZero();
+        assertThat(meterRegistry.get("gateway.concurrency.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.concurrency.limit").gauge().value()).isEqualTo(1);
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/correlation-analyze/1"));
+    }
+}
@@ -0,0 +1,220 @@
+package com.nhnacademy.gateway.common.loadbalancer;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 응답 속도가 다른 로컬 스텁 인스턴스를 띄워 라운드 로빈과 지연 인식 선택기의 꼬리 지연을 비교합니다.
+ */
+class LatencyAwareLoadBalancerTest {
+
+    private static final String SERVICE_ID = "SENSOR-SERVICE";
+
+    private static final int REQUESTS = 300;
+
+    private static final int CONCURRENCY = 6;
+
+    private final List<DisposableServer> servers = new ArrayList<>();
+
+    private final HttpClient httpClient = HttpClient.create();
+
+    private ServiceInstance[] instances;
+
+    private ServiceInstance slowInstance;
+
+    private static Level nettyLogLevel;
+
+    /**
+     * Netty debug 로그가 스텁 응답 시간보다 커지지 않도록 측정 중에는 로그 레벨을 올립니다.
+     */
+    @BeforeAll
+    static void quietNetty() {
+        Logger logger = (Logger) LoggerFactory.getLogger("reactor.netty");
+        nettyLogLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        ((Logger) LoggerFactory.getLogger("io.netty")).setLevel(Level.INFO);
+    }
+
+    @AfterAll
+    static void restoreNetty() {
+        ((Logger) LoggerFactory.getLogger("reactor.netty")).setLevel(nettyLogLevel);
+        ((Logger) LoggerFactory.getLogger("io.netty")).setLevel(null);
+    }
+
+    @BeforeEach
+    void setUp() {
+        instances = new ServiceInstance[]{
+                stub("fast-1", Duration.ofMillis(2)),
+                stub("fast-2", Duration.ofMillis(2)),
+                stub("slow", Duration.ofMillis(60))
+        };
+        slowInstance = instances[2];
+    }
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(DisposableServer::disposeNow);
+    }
+
+    @Test
+    @DisplayName("느린 인스턴스가 섞여 있으면 지연 인식 선택기의 꼬리 지연이 라운드 로빈보다 작음")
+    void tailLatency_betterThanRoundRobin() {
+        RunResult roundRobin = run(new RoundRobinLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances), SERVICE_ID), stats());
+
+        InstanceLatencyStats stats = stats();
+        RunResult latencyAware = run(new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances), SERVICE_ID, stats), stats);
+
+        assertThat(roundRobin.share(slowInstance)).isGreaterThan(0.25);
+        assertThat(latencyAware.share(slowInstance)).isLessThan(0.15);
+        assertThat(latencyAware.percentileMillis(0.95)).isLessThan(roundRobin.percentileMillis(0.95));
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 쌓인 인스턴스보다 한가한 인스턴스를 선택")
+    void choose_prefersLessLoadedInstance() {
+        InstanceLatencyStats stats = stats();
+        LatencyAwareLoadBalancer loadBalancer = new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances[0], instances[1]), SERVICE_ID, stats);
+
+        for (ServiceInstance instance : List.of(instances[0], instances[1])) {
+            stats.onStart(instance);
+            stats.onComplete(instance, TimeUnit.MILLISECONDS.toNanos(5), true);
+        }
+        stats.onStart(instances[0]);
+        stats.onStart(instances[0]);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(loadBalancer.choose(List.of(instances[0], instances[1])).getServer()).isEqualTo(instances[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("감쇠 시간 상수만큼 지난 뒤의 관측은 이전 평균에 e^-1 가중치를 한 번만 적용")
+    void onComplete_decaysPreviousAverageOnce() {
+        InstanceLatencyStats stats = stats();
+        ServiceInstance instance = instances[0];
+        long start = System.nanoTime();
+        long decay = Duration.ofSeconds(2).toNanos();
+
+        stats.onStart(instance);
+        stats.onComplete(instance, TimeUnit.MILLISECONDS.toNanos(100), true, start);
+        stats.onStart(instance);
+        stats.onComplete(instance, TimeUnit.MILLISECONDS.toNanos(10), true, start + decay);
+
+        double weight = Math.exp(-1);
+        double expected = TimeUnit.MILLISECONDS.toNanos(100) * weight + TimeUnit.MILLISECONDS.toNanos(10) * (1 - weight);
+        assertThat(stats.cost(instance, start + decay)).isCloseTo(expected, within(1_000.0));
+    }
+
+    /**
+     * 짧은 테스트 동안 연결 수립 등 초기 지연의 영향이 빨리 사라지도록 시간 상수를 줄인 통계를 생성합니다.
+     */
+    private static InstanceLatencyStats stats() {
+        InstanceLatencyStats stats = new InstanceLatencyStats();
+        ReflectionTestUtils.setField(stats, "ewmaDecay", Duration.ofSeconds(2));
+        return stats;
+    }
+
+    /**
+     * 선택기로 인스턴스를 고르고 실제 HTTP 호출 후 라이프사이클로 응답 시간을 기록하는 과정을 반복합니다.
+     */
+    private RunResult run(ReactorServiceInstanceLoadBalancer loadBalancer, InstanceLatencyStats stats) {
+        InstanceLatencyLifecycle lifecycle = new InstanceLatencyLifecycle(stats);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        Map<String, AtomicInteger> chosen = new ConcurrentHashMap<>();
+
+        Flux.range(0, REQUESTS)
+                .flatMap(i -> {
+                    Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+                    return Mono.from(loadBalancer.choose(request))
+                            .flatMap(response -> call(lifecycle, request, response, latencies, chosen));
+                }, CONCURRENCY)
+                .blockLast(Duration.ofSeconds(60));
+
+        return new RunResult(latencies, chosen);
+    }
+
+    private Mono<Void> call(InstanceLatencyLifecycle lifecycle, Request<RequestDataContext> request,
+                            Response<ServiceInstance> response, List<Long> latencies,
+                            Map<String, AtomicInteger> chosen) {
+        ServiceInstance instance = response.getServer();
+        chosen.computeIfAbsent(instance.getInstanceId(), id -> new AtomicInteger()).incrementAndGet();
+        lifecycle.onStartRequest(request, response);
+        long start = System.nanoTime();
+
+        return httpClient.get()
+                .uri(instance.getUri() + "/api/sensors")
+                .responseContent()
+                .aggregate()
+                .then()
+                .doFinally(signal -> {
+                    latencies.add(System.nanoTime() - start);
+                    lifecycle.onComplete(new CompletionContext<ResponseData, ServiceInstance, RequestDataContext>(
+                            CompletionContext.Status.SUCCESS, request, response));
+                });
+    }
+
+    private ServiceInstance stub(String instanceId, Duration delay) {
+        DisposableServer server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/api/sensors", (req, res) ->
+                        Mono.delay(delay).then(res.sendString(Mono.just("[]")).then())))
+                .bindNow();
+        servers.add(server);
+        return new DefaultServiceInstance(instanceId, SERVICE_ID, "127.0.0.1", server.port(), false);
+    }
+
+    private record RunResult(List<Long> latencies, Map<String, AtomicInteger> chosen) {
+
+        double share(ServiceInstance instance) {
+            AtomicInteger count = chosen.get(instance.getInstanceId());
+            return (count == null) ? 0 : (double) count.get() / REQUESTS;
+        }
+
+        double percentileMillis(double percentile) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            long nanos = sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.nhnacademy.gateway.common.metrics;
+
+import com.nhnacademy.gateway.common.metrics.GatewayLatencyMetrics.RouteTimers;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class GatewayLatencyMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    private GatewayLatencyMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new GatewayLatencyMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("라우트 ID와 단계 태그로 지연 시간 기록")
+    void record_taggedByRouteAndStage() {
+        RouteTimers timers = metrics.forRoute("USER-SERVICE");
+
+        long start = System.nanoTime();
+        long next = timers.record(LatencyStage.TOKEN_VERIFICATION, start);
+
+        Timer timer = registry.get(GatewayLatencyMetrics.METRIC_NAME)
+                .tag("route", "USER-SERVICE")
+                .tag("stage", "token-verification")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(next).isGreaterThanOrEqualTo(start);
+        assertThat(registry.get(GatewayLatencyMetrics.METRIC_NAME)
+                .tag("stage", "upstream-first-byte").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 라우트는 처음 등록한 타이머를 재사용")
+    void forRoute_reusesTimers() {
+        RouteTimers first = metrics.forRoute("USER-SERVICE");
+        RouteTimers second = metrics.forRoute("USER-SERVICE");
+
+        assertThat(second).isSameAs(first);
+        assertThat(registry.find(GatewayLatencyMetrics.METRIC_NAME).timers())
+                .hasSize(LatencyStage.values().length);
+    }
+
+    @Test
+    @DisplayName("exchange에 매칭된 라우트 ID로 타이머 조회, 라우트가 없으면 unknown")
+    void forExchange_usesRouteAttribute() {
+        MockServerWebExchange routed = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users/1"));
+        routed.getAttributes().put(GATEWAY_ROUTE_ATTR, Route.async()
+                .id("USER-SERVICE")
+                .uri(URI.create("lb://USER-SERVICE"))
+                .predicate(exchange -> true)
+                .build());
+        MockServerWebExchange unrouted = MockServerWebExchange.from(MockServerHttpRequest.get("/unknown"));
+
+        assertThat(metrics.forExchange(routed)).isSameAs(metrics.forRoute("USER-SERVICE"));
+        assertThat(metrics.forExchange(unrouted)).isSameAs(metrics.forRoute(GatewayLatencyMetrics.UNKNOWN_ROUTE));
+    }
+}
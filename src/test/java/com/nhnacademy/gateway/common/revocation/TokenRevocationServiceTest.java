@@ -0,0 +1,186 @@
+package com.nhnacademy.gateway.common.revocation;
+
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import com.nhnacademy.gateway.common.handler.GlobalErrorHandler;
+import com.nhnacademy.gateway.common.util.AccessTokenExtractor;
+import com.nhnacademy.gateway.common.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenRevocationServiceTest {
+
+    private static final String SECRET = "mySuperSecretKeyForJwtMustBeLongEnoughToSign";
+
+    @TempDir
+    Path tempDir;
+
+    private Path revokedFile;
+
+    private JwtUtil jwtUtil;
+
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        jwtUtil.init();
+        revokedFile = tempDir.resolve("data/revoked-tokens.txt");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("파일에 있는 토큰 ID와 사용자 ID의 토큰은 서명이 유효해도 거부")
+    void verify_rejectsRevokedTokensFromFile() throws IOException {
+        Files.createDirectories(revokedFile.getParent());
+        Files.writeString(revokedFile, """
+                # 로그아웃한 토큰
+                token:jti-logged-out
+                user:disabled-user
+                """);
+        startService();
+
+        assertThatThrownBy(() -> jwtUtil.verify(token("user-1", "jti-logged-out")))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage(UnauthorizedException.REVOKED_TOKEN_MESSAGE);
+        assertThatThrownBy(() -> jwtUtil.verify(token("disabled-user", "jti-any")))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage(UnauthorizedException.REVOKED_TOKEN_MESSAGE);
+        assertThatThrownBy(() -> jwtUtil.validateToken(token("disabled-user", null)))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(jwtUtil.verify(token("user-1", "jti-active")).userId()).isEqualTo("user-1");
+    }
+
+    @Test
+    @DisplayName("이미 검증해 캐시된 토큰도 폐기하면 바로 거부하고, 파일에서 지우면 다시 통과")
+    void revoke_appliesToCachedTokensAndPersists() throws IOException {
+        startService();
+        String token = token("user-1", "jti-1");
+        assertThat(jwtUtil.verify(token).tokenId()).isEqualTo("jti-1");
+
+        service.revoke(TokenRevocationService.Type.TOKEN, "jti-1");
+        assertThatThrownBy(() -> jwtUtil.verify(token)).isInstanceOf(UnauthorizedException.class);
+        assertThat(service.reload()).isFalse();
+        assertThat(Files.readAllLines(revokedFile)).containsExactly("token:jti-1");
+
+        // 재기동해도 파일에 남은 항목으로 계속 거부
+        service.destroy();
+        jwtUtil.swapRevocationList(RevocationList.empty());
+        startService();
+        assertThatThrownBy(() -> jwtUtil.verify(token)).isInstanceOf(UnauthorizedException.class);
+
+        Files.writeString(revokedFile, "");
+        Files.setLastModifiedTime(revokedFile, FileTime.fromMillis(System.currentTimeMillis() + 1_000));
+        assertThat(service.reload()).isTrue();
+        assertThat(jwtUtil.verify(token).userId()).isEqualTo("user-1");
+    }
+
+    @Test
+    @DisplayName("블룸 필터는 추가한 값을 놓치지 않고, 오탐률은 목표에 가까움")
+    void bloomFilter_hasNoFalseNegatives() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.add(("revoked-" + i).hashCode());
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloomFilter.mightContain(("revoked-" + i).hashCode())).isTrue();
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString().hashCode())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("관리 API는 관리자 권한이 있는 토큰으로만 폐기할 수 있음")
+    void adminHandler_requiresAdminRole() throws IOException {
+        startService();
+        RevocationAdminHandler handler = new RevocationAdminHandler(service, jwtUtil, new AccessTokenExtractor(), "ROLE_ADMIN");
+        WebTestClient client = WebTestClient.bindToRouterFunction(RouterFunctions.route()
+                        .POST("/gateway/admin/revocations", handler::revoke)
+                        .GET("/gateway/admin/revocations", handler::summary)
+                        .build())
+                .handlerStrategies(HandlerStrategies.builder().exceptionHandler(new GlobalErrorHandler()).build())
+                .build();
+
+        client.post().uri("/gateway/admin/revocations")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("user-1", null, "ROLE_USER"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"type\":\"user\",\"id\":\"user-2\"}")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        String admin = "Bearer " + token("admin", null, "ROLE_ADMIN");
+        client.post().uri("/gateway/admin/revocations")
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"type\":\"user\",\"id\":\"user-2\"}")
+                .exchange()
+                .expectStatus().isNoContent();
+        client.post().uri("/gateway/admin/revocations")
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"type\":\"device\",\"id\":\"x\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+        client.get().uri("/gateway/admin/revocations")
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.users").isEqualTo(1);
+
+        assertThatThrownBy(() -> jwtUtil.verify(token("user-2", null))).isInstanceOf(UnauthorizedException.class);
+        assertThat(Files.readAllLines(revokedFile)).containsExactly("user:user-2");
+    }
+
+    private void startService() {
+        service = new TokenRevocationService(jwtUtil, revokedFile, Duration.ofHours(1), 1_000, 0.01);
+        service.start();
+    }
+
+    private static String token(String userId, String tokenId) {
+        return token(userId, tokenId, "ROLE_USER");
+    }
+
+    private static String token(String userId, String tokenId, String role) {
+        return Jwts.builder()
+                .setId(tokenId)
+                .claim("user_id", userId)
+                .claim("role", role)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+    }
+}
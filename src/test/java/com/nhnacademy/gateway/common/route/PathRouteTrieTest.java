@@ -0,0 +1,126 @@
+package com.nhnacademy.gateway.common.route;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+import static com.nhnacademy.gateway.common.route.RouteEntry.authenticatedRoute;
+import static com.nhnacademy.gateway.common.route.RouteEntry.publicRoute;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PathRouteTrieTest {
+
+    private static final List<RouteEntry> ROUTES = List.of(
+            publicRoute("AUTH-SERVICE", "lb://AUTH-SERVICE",
+                    "/api/auth/**"),
+            publicRoute("SENSOR-SERVICE", "lb://SENSOR-SERVICE",
+                    "/api/sensor-data-mappings/**"),
+            publicRoute("USER-SERVICE", "lb://USER-SERVICE",
+                    "/api/departments",
+                    "/api/departments/**",
+                    "/api/images/**"),
+            authenticatedRoute("USER-SERVICE", "lb://USER-SERVICE",
+                    "/api/users/{userId}/profile",
+                    "/api/users/**"),
+            authenticatedRoute("SENSOR-SERVICE", "lb://SENSOR-SERVICE",
+                    "/api/sensors/**",
+                    "/api/sensor-data-mappings/**"),
+            authenticatedRoute("GATEWAY-SERVICE", "lb://GATEWAY-SERVICE",
+                    "/department-id/**")
+    );
+
+    private final PathRouteTrie trie = PathRouteTrie.compile(ROUTES);
+
+    @Test
+    @DisplayName("요청 경로에 해당하는 라우트 인덱스 반환")
+    void match_routeIndex() {
+        assertThat(trie.match("/api/auth/login").routeIndex()).isZero();
+        assertThat(trie.match("/api/departments").routeIndex()).isEqualTo(2);
+        assertThat(trie.match("/api/users/1/profile").routeIndex()).isEqualTo(3);
+        assertThat(trie.match("/api/sensors/10/data").routeIndex()).isEqualTo(4);
+        assertThat(trie.match("/department-id/3").routeIndex()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("여러 라우트가 매칭되면 먼저 선언된 라우트 적용")
+    void match_firstDeclaredRouteWins() {
+        assertThat(trie.match("/api/sensor-data-mappings/1").routeIndex()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("매칭되는 라우트가 없으면 NO_ROUTE")
+    void match_noRoute() {
+        assertThat(trie.match("/api/unknown").matched()).isFalse();
+        assertThat(trie.match("/api").matched()).isFalse();
+        assertThat(trie.match("/").matched()).isFalse();
+        assertThat(trie.match("/api/departmentsX").matched()).isFalse();
+    }
+
+    @Test
+    @DisplayName("첫 세그먼트를 제거한 경로를 미리 계산")
+    void match_strippedPath() {
+        assertThat(trie.match("/api/auth/login").strippedPath()).isEqualTo("/auth/login");
+        assertThat(trie.match("/api/departments/").strippedPath()).isEqualTo("/departments/");
+        assertThat(trie.match("/department-id").strippedPath()).isEqualTo("/");
+    }
+
+    @Test
+    @DisplayName("path predicate(PathPattern) 순차 평가와 같은 라우트를 선택")
+    void match_sameAsSequentialPathPredicates() {
+        List<String> paths = List.of(
+                "/api/auth", "/api/auth/", "/api/auth/login", "/api/departments", "/api/departments/",
+                "/api/departments/1/members", "/api/images/a.png", "/api/users/1/profile",
+                "/api/users/1/profile/extra", "/api/users", "/api/sensors", "/api/sensor-data-mappings",
+                "/department-id/1", "/api/unknown", "/api", "/", "/api/images"
+        );
+
+        for (String path : paths) {
+            assertThat(trie.match(path).routeIndex())
+                    .as(path)
+                    .isEqualTo(sequentialMatch(path));
+        }
+    }
+
+    @Test
+    @DisplayName("중복되거나 앞선 ** 패턴에 가려진 패턴은 기동 시 감지")
+    void compile_detectsConflicts() {
+        assertThat(trie.conflicts())
+                .hasSize(1)
+                .first().asString()
+                .contains("/api/sensor-data-mappings/**", "SENSOR-SERVICE#1", "SENSOR-SERVICE#4");
+
+        PathRouteTrie shadowed = PathRouteTrie.compile(List.of(
+                publicRoute("A", "lb://A", "/api/**"),
+                publicRoute("B", "lb://B", "/api/b")
+        ));
+        assertThat(shadowed.conflicts()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 패턴은 기동 시 예외")
+    void compile_rejectsUnsupportedPattern() {
+        assertThatThrownBy(() -> PathRouteTrie.compile(List.of(publicRoute("A", "lb://A", "/api/**/x"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PathRouteTrie.compile(List.of(publicRoute("A", "lb://A", "/api/*.json"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int sequentialMatch(String path) {
+        PathPatternParser parser = new PathPatternParser();
+        PathContainer container = PathContainer.parsePath(path);
+        for (int index = 0; index < ROUTES.size(); index++) {
+            for (String pattern : ROUTES.get(index).paths()) {
+                PathPattern pathPattern = parser.parse(pattern);
+                if (pathPattern.matches(container)) {
+                    return index;
+                }
+            }
+        }
+        return RouteMatch.NO_ROUTE;
+    }
+}
@@ -0,0 +1,140 @@
+package com.nhnacademy.gateway.common.route;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
+import org.springframework.cloud.gateway.route.Route;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.nhnacademy.gateway.common.route.RouteEntry.publicRoute;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReloadableRouteLocatorTest {
+
+    private static final List<RouteEntry> DEFAULT_ROUTES = List.of(
+            publicRoute("AUTH-SERVICE", "lb://AUTH-SERVICE", "/api/auth/**"));
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<Object> events = new ArrayList<>();
+
+    private ReloadableRouteLocator locator;
+
+    @AfterEach
+    void tearDown() {
+        if (locator != null) {
+            locator.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("파일의 라우트 테이블로 시작하고, 파일이 바뀌면 교체한 뒤 라우트 갱신 이벤트를 발행")
+    void refresh_swapsRouteTable() throws IOException {
+        Path file = tempDir.resolve("routes.json");
+        Files.writeString(file, """
+                {"routes": [
+                  {"id": "AUTH-SERVICE", "uri": "lb://AUTH-SERVICE", "paths": ["/api/auth/**"], "authenticated": false},
+                  {"id": "USER-SERVICE", "uri": "lb://USER-SERVICE", "paths": ["/api/users/**"]}
+                ]}""");
+        startLocator(file.toString());
+        List<Route> before = routes();
+        assertThat(before).extracting(Route::getId).containsExactly("AUTH-SERVICE", "USER-SERVICE");
+
+        locator.refresh();
+        assertThat(events).isEmpty();
+
+        Files.writeString(file, """
+                {"routes": [
+                  {"id": "USER-SERVICE", "uri": "lb://USER-SERVICE", "paths": ["/api/admin/users/**"],
+                   "requiredRoles": ["ROLE_ADMIN"]},
+                  {"id": "EVENT-SERVICE", "uri": "lb://EVENT-SERVICE", "paths": ["/api/events/**"]}
+                ]}""");
+        locator.refresh();
+
+        assertThat(routes()).extracting(Route::getId).containsExactly("USER-SERVICE", "EVENT-SERVICE");
+        assertThat(events).singleElement().isInstanceOf(RefreshRoutesEvent.class);
+        // 이미 가져간 이전 테이블은 그대로 유지
+        assertThat(before).extracting(Route::getId).containsExactly("AUTH-SERVICE", "USER-SERVICE");
+        assertThat(meterRegistry.get(ReloadableRouteLocator.RELOAD_METRIC).tag("result", "success").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get(ReloadableRouteLocator.ROUTES_METRIC).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 라우트 테이블은 적용하지 않고 기존 라우트를 계속 사용")
+    void refresh_keepsPreviousTableOnInvalidDocument() throws IOException {
+        Path file = tempDir.resolve("routes.json");
+        Files.writeString(file, """
+                {"routes": [{"id": "USER-SERVICE", "uri": "lb://USER-SERVICE", "paths": ["/api/users/**"]}]}""");
+        startLocator(file.toString());
+
+        Files.writeString(file, """
+                {"routes": [{"id": "USER-SERVICE", "uri": "lb://USER-SERVICE", "paths": ["/api/**/users"]}]}""");
+        locator.refresh();
+        Files.writeString(file, "{\"routes\": []}");
+        locator.refresh();
+
+        assertThat(routes()).extracting(Route::getId).containsExactly("USER-SERVICE");
+        assertThat(events).isEmpty();
+        assertThat(meterRegistry.get(ReloadableRouteLocator.RELOAD_METRIC).tag("result", "failure").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("파일 위치가 없거나 기동 시 파일을 읽을 수 없으면 기본 라우트 테이블 사용")
+    void start_fallsBackToDefaultRoutes() {
+        startLocator(null);
+        assertThat(routes()).extracting(Route::getId).containsExactly("AUTH-SERVICE");
+        locator.destroy();
+
+        startLocator(tempDir.resolve("missing.json").toString());
+        assertThat(routes()).extracting(Route::getId).containsExactly("AUTH-SERVICE");
+    }
+
+    @Test
+    @DisplayName("권한 검사는 인증이 필요한 라우트에만 선언할 수 있음")
+    void parse_rejectsInvalidEntries() {
+        assertThatThrownBy(() -> RouteTableFile.parse("""
+                {"routes": [{"id": "X", "uri": "lb://X", "paths": ["/x/**"], "authenticated": false,
+                             "requiredRoles": ["ROLE_ADMIN"]}]}""".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RouteTableFile.parse("""
+                {"routes": [{"id": "X", "paths": ["/x/**"]}]}""".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void startLocator(String location) {
+        locator = new ReloadableRouteLocator(DEFAULT_ROUTES, ReloadableRouteLocatorTest::compile, location,
+                Duration.ofHours(1), events::add, meterRegistry);
+        locator.start();
+    }
+
+    private List<Route> routes() {
+        return locator.getRoutes().collectList().block();
+    }
+
+    private static List<Route> compile(List<RouteEntry> entries) {
+        PathRouteTrie trie = PathRouteTrie.compile(entries);
+        return entries.stream()
+                .map(entry -> Route.async()
+                        .id(entry.id())
+                        .uri(entry.uri())
+                        .asyncPredicate(exchange -> Mono.just(trie.resolve(exchange).matched()))
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.nhnacademy.gateway.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenExtractorTest {
+
+    private final AccessTokenExtractor extractor = new AccessTokenExtractor();
+
+    @Test
+    @DisplayName("여러 쿠키 중 accessToken 쿠키 값만 추출")
+    void extract_fromLargeCookieHeader() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/test")
+                .header(HttpHeaders.COOKIE, "_ga=GA1.2.3; theme=dark; accessToken=abc.def.ghi; _gid=GA1.4.5")
+                .build();
+
+        assertThat(extractor.extract(request)).isEqualTo("abc.def.ghi");
+    }
+
+    @Test
+    @DisplayName("이름이 accessToken으로 시작하거나 끝나는 다른 쿠키는 무시")
+    void extract_ignoresSimilarCookieNames() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/test")
+                .header(HttpHeaders.COOKIE, "xaccessToken=wrong; accessTokenOld=wrong; accessToken=right")
+                .build();
+
+        assertThat(extractor.extract(request)).isEqualTo("right");
+    }
+
+    @Test
+    @DisplayName("큰따옴표로 감싼 쿠키 값은 따옴표를 제거")
+    void extract_unquotesValue() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/test")
+                .header(HttpHeaders.COOKIE, "accessToken=\"abc.def.ghi\"")
+                .build();
+
+        assertThat(extractor.extract(request)).isEqualTo("abc.def.ghi");
+    }
+
+    @Test
+    @DisplayName("여러 Cookie 헤더로 나뉜 요청에서도 추출")
+    void extract_fromMultipleCookieHeaders() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/test")
+                .header(HttpHeaders.COOKIE, "theme=dark")
+                .header(HttpHeaders.COOKIE, "accessToken=abc.def.ghi")
+                .build();
+
+        assertThat(extractor.extract(request)).isEqualTo("abc.def.ghi");
+    }
+
+    @Test
+    @DisplayName("값이 빈 accessToken 쿠키는 빈 문자열 반환")
+    void extract_emptyCookieValue() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/test")
+                .header(HttpHeaders.COOKIE, "accessToken=; theme=dark")
+                .build();
+
+        assertThat(extractor.extract(request)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쿠키가 없으면 Authorization Bearer 토큰 사용")
+    void extract_fallsBackToBearer() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/test")
+                .header(HttpHeaders.COOKIE, "theme=dark")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer abc.def.ghi")
+                .build();
+
+        assertThat(extractor.extract(request)).isEqualTo("abc.def.ghi");
+    }
+
+    @Test
+    @DisplayName("쿠키와 Bearer 헤더가 모두 있으면 쿠키 우선")
+    void extract_prefersCookieOverBearer() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/test")
+                .header(HttpHeaders.COOKIE, "accessToken=from.cookie.token")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer from.header.token")
+                .build();
+
+        assertThat(extractor.extract(request)).isEqualTo("from.cookie.token");
+    }
+
+    @Test
+    @DisplayName("토큰이 없거나 Bearer 방식이 아니면 null")
+    void extract_noToken() {
+        MockServerHttpRequest noToken = MockServerHttpRequest.get("/api/test").build();
+        MockServerHttpRequest basicAuth = MockServerHttpRequest.get("/api/test")
+                .header(HttpHeaders.AUTHORIZATION, "Basic dXNlcjpwYXNz")
+                .build();
+
+        assertThat(extractor.extract(noToken)).isNull();
+        assertThat(extractor.extract(basicAuth)).isNull();
+    }
+}
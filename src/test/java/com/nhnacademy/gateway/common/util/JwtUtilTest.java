@@ -1,5 +1,6 @@
 package com.nhnacademy.gateway.common.util;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.nhnacademy.gateway.common.exception.UnauthorizedException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -11,6 +12,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,6 +38,7 @@ class JwtUtilTest {
         Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
         token = Jwts.builder()
                 .setSubject(testUserId)
+                .claim("user_id", testUserId)
                 .claim("role", testRole)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + 60000)) // 1분
@@ -87,4 +91,123 @@ class JwtUtilTest {
     void getUserId_nullToken() {
         assertThrows(UnauthorizedException.class, () -> jwtUtil.getUserId(null));
     }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시에서 조회되어야 한다")
+    void verifiedTokenCache_hitOnRepeatedToken() {
+        jwtUtil.validateToken(token);
+        assertEquals(testUserId, jwtUtil.getUserId(token));
+        assertEquals(testUserId, jwtUtil.getUserId(token));
+
+        CacheStats stats = jwtUtil.verifiedTokenCacheStats();
+        assertEquals(1, stats.missCount());
+        assertEquals(2, stats.hitCount());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시되지 않아야 한다")
+    void verifiedTokenCache_doesNotCacheInvalidToken() {
+        String invalidToken = token + "tampered";
+
+        assertThrows(UnauthorizedException.class, () -> jwtUtil.validateToken(invalidToken));
+        assertThrows(UnauthorizedException.class, () -> jwtUtil.validateToken(invalidToken));
+
+        CacheStats stats = jwtUtil.verifiedTokenCacheStats();
+        assertEquals(0, stats.hitCount());
+        assertEquals(2, stats.missCount());
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 exp가 지나면 만료로 처리되어야 한다")
+    void verifiedTokenCache_expiresAtTokenExpiration() throws InterruptedException {
+        long expirationMillis = (System.currentTimeMillis() / 1000 + 2) * 1000;
+        String shortLivedToken = Jwts.builder()
+                .claim("user_id", testUserId)
+                .setExpiration(new Date(expirationMillis))
+                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertDoesNotThrow(() -> jwtUtil.validateToken(shortLivedToken));
+
+        Thread.sleep(expirationMillis - System.currentTimeMillis() + 100);
+
+        assertThrows(UnauthorizedException.class, () -> jwtUtil.validateToken(shortLivedToken));
+    }
+
+    @Test
+    @DisplayName("verify는 한 번의 파싱으로 사용자 ID, 만료 시각, 권한을 반환해야 한다")
+    void verify_returnsPrincipal() {
+        VerifiedPrincipal principal = jwtUtil.verify(token);
+
+        assertEquals(testUserId, principal.userId());
+        assertEquals(List.of(testRole), principal.roles());
+        assertNotNull(principal.expiration());
+        assertSame(principal, jwtUtil.verify(token));
+    }
+
+    @Test
+    @DisplayName("user_id 클레임이 없는 토큰은 verify 시 UnauthorizedException 발생")
+    void verify_missingUserId() {
+        String tokenWithoutUserId = Jwts.builder()
+                .setSubject(testUserId)
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class,
+                () -> jwtUtil.verify(tokenWithoutUserId));
+        assertEquals("JWT에서 사용자 ID 추출 실패", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("tryVerify는 예외 없이 실패 유형을 반환하고, 유형마다 미리 만든 스택 트레이스 없는 예외를 재사용한다")
+    void tryVerify_returnsTypedOutcomeWithoutThrowing() {
+        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        String expired = Jwts.builder()
+                .claim("user_id", testUserId)
+                .setExpiration(new Date(System.currentTimeMillis() - 60000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        String badSignature = Jwts.builder()
+                .claim("user_id", testUserId)
+                .signWith(Keys.hmacShaKeyFor("anotherSecretKeyForJwtMustBeLongEnoughToSign".getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertEquals(TokenVerification.Outcome.VALID, jwtUtil.tryVerify(token).outcome());
+        assertEquals(TokenVerification.Outcome.EMPTY, jwtUtil.tryVerify(" ").outcome());
+        assertEquals(TokenVerification.Outcome.MALFORMED, jwtUtil.tryVerify("not a jwt").outcome());
+        assertEquals(TokenVerification.Outcome.MALFORMED, jwtUtil.tryVerify("e30.e30.e30").outcome());
+        assertEquals(TokenVerification.Outcome.BAD_SIGNATURE, jwtUtil.tryVerify(badSignature).outcome());
+
+        TokenVerification first = jwtUtil.tryVerify(expired);
+        assertEquals(TokenVerification.Outcome.EXPIRED, first.outcome());
+        assertNull(first.principal());
+        assertSame(first, jwtUtil.tryVerify(expired));
+
+        UnauthorizedException thrown = assertThrows(UnauthorizedException.class, () -> jwtUtil.verify(expired));
+        assertSame(first.exception(), thrown);
+        assertEquals(UnauthorizedException.EXPIRED_TOKEN_MESSAGE, thrown.getMessage());
+        assertEquals(0, thrown.getStackTrace().length);
+        thrown.addSuppressed(new IllegalStateException());
+        assertEquals(0, thrown.getSuppressed().length);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 kid로 거부한 토큰도 검증 키가 추가되면 통과해야 한다")
+    void tryVerify_rejectedUnknownKeyIdRecoversAfterKeySwap() {
+        Key rotated = Keys.hmacShaKeyFor("rotatedSecretKeyForJwtMustBeLongEnoughToSign".getBytes());
+        String rotatedToken = Jwts.builder()
+                .setHeaderParam("kid", "rotated")
+                .claim("user_id", testUserId)
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(rotated, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertEquals(TokenVerification.Outcome.UNKNOWN_KEY_ID, jwtUtil.tryVerify(rotatedToken).outcome());
+        assertEquals(TokenVerification.Outcome.UNKNOWN_KEY_ID, jwtUtil.tryVerify(rotatedToken).outcome());
+
+        jwtUtil.swapKeySet(new SigningKeySet(Map.of("rotated", rotated), jwtUtil.keySet().defaultKey()));
+
+        assertEquals(testUserId, jwtUtil.verify(rotatedToken).userId());
+    }
 }
@@ -0,0 +1,96 @@
+package com.nhnacademy.gateway.common.util;
+
+import com.nhnacademy.gateway.common.config.RateLimitProperties.Limit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    private final LocalRateLimiter rateLimiter =
+            new LocalRateLimiter(new Limit(10, 5), 1_000, Duration.ofMinutes(10), clock::get);
+
+    @Test
+    @DisplayName("버킷 크기만큼 연속 요청 허용 후 거부")
+    void tryAcquire_burstThenReject() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("user-1")).isZero();
+        }
+
+        long retryAfter = rateLimiter.tryAcquire("user-1");
+        assertThat(retryAfter).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 충전량만큼 다시 허용")
+    void tryAcquire_replenish() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("user-1");
+        }
+        assertThat(rateLimiter.tryAcquire("user-1")).isPositive();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(rateLimiter.tryAcquire("user-1")).isZero();
+        assertThat(rateLimiter.tryAcquire("user-1")).isPositive();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("user-1")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire("user-1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("키마다 독립된 버킷 사용")
+    void tryAcquire_perKey() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("user-1");
+        }
+
+        assertThat(rateLimiter.tryAcquire("user-1")).isPositive();
+        assertThat(rateLimiter.tryAcquire("user-2")).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 허용 건수가 버킷 크기를 넘지 않음")
+    void tryAcquire_concurrent() throws InterruptedException {
+        LocalRateLimiter limiter = new LocalRateLimiter(new Limit(1, 100), 1_000, Duration.ofMinutes(10), clock::get);
+        AtomicLong allowed = new AtomicLong();
+
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryAcquire("user-1") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("보관하는 버킷 수는 최대 개수로 제한")
+    void tryAcquire_boundedKeys() {
+        LocalRateLimiter limiter = new LocalRateLimiter(new Limit(10, 5), 100, Duration.ofMinutes(10), clock::get);
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("user-" + i);
+        }
+
+        limiter.cleanUp();
+        assertThat(limiter.estimatedSize()).isLessThanOrEqualTo(100);
+    }
+}
@@ -0,0 +1,176 @@
+package com.nhnacademy.gateway.common.util;
+
+import com.nhnacademy.gateway.common.exception.UnauthorizedException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SigningKeySetRefresherTest {
+
+    private static final String SECRET = "mySuperSecretKeyForJwtMustBeLongEnoughToSign";
+
+    private static final byte[] HMAC_2026 = "gateway-hmac-key-2026-must-be-32-bytes!".getBytes();
+
+    private static final byte[] HMAC_2027 = "gateway-hmac-key-2027-must-be-32-bytes!".getBytes();
+
+    @TempDir
+    Path tempDir;
+
+    private Path jwks;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JwtUtil jwtUtil;
+
+    private SigningKeySetRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        jwtUtil.init();
+        jwks = tempDir.resolve("jwks.json");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (refresher != null) {
+            refresher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("kid로 HMAC, RSA, EC 키를 찾아 검증하고, kid가 없으면 jwt.secret으로 검증")
+    void verify_resolvesKeyByKid() throws IOException {
+        KeyPair rsa = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        KeyPair ec = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        writeJwks(octJwk("hmac-2026", HMAC_2026), rsaJwk("rsa-1", (RSAPublicKey) rsa.getPublic()),
+                ecJwk("ec-1", (ECPublicKey) ec.getPublic()));
+        startRefresher();
+
+        assertThat(jwtUtil.getUserId(token("hmac-2026", Keys.hmacShaKeyFor(HMAC_2026), "u-hmac"))).isEqualTo("u-hmac");
+        assertThat(jwtUtil.getUserId(token("rsa-1", rsa.getPrivate(), "u-rsa"))).isEqualTo("u-rsa");
+        assertThat(jwtUtil.getUserId(token("ec-1", ec.getPrivate(), "u-ec"))).isEqualTo("u-ec");
+        assertThat(jwtUtil.getUserId(token(null, Keys.hmacShaKeyFor(SECRET.getBytes()), "u-default")))
+                .isEqualTo("u-default");
+        assertThat(meterRegistry.get(SigningKeySetRefresher.KEYS_METRIC).gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 kid나 kid와 다른 키로 서명한 토큰은 거부")
+    void verify_rejectsUnknownOrMismatchedKid() throws IOException {
+        writeJwks(octJwk("hmac-2026", HMAC_2026));
+        startRefresher();
+
+        String unknownKid = token("hmac-2099", Keys.hmacShaKeyFor(HMAC_2026), "u1");
+        assertThatThrownBy(() -> jwtUtil.verify(unknownKid))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage(JwtUtil.UNKNOWN_KEY_ID_MESSAGE);
+
+        String wrongKey = token("hmac-2026", Keys.hmacShaKeyFor(HMAC_2027), "u1");
+        assertThatThrownBy(() -> jwtUtil.verify(wrongKey)).isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    @DisplayName("키 파일이 바뀌면 다시 읽어 교체하고, 빠진 키로 검증해 둔 토큰은 더 이상 통과하지 않음")
+    void refresh_swapsKeySetAndRevokesRemovedKeys() throws IOException {
+        writeJwks(octJwk("hmac-2026", HMAC_2026));
+        startRefresher();
+        String oldToken = token("hmac-2026", Keys.hmacShaKeyFor(HMAC_2026), "u1");
+        String newToken = token("hmac-2027", Keys.hmacShaKeyFor(HMAC_2027), "u1");
+        assertThat(jwtUtil.getUserId(oldToken)).isEqualTo("u1");
+
+        // 새 키를 추가하는 동안에는 두 키 모두 사용
+        writeJwks(octJwk("hmac-2026", HMAC_2026), octJwk("hmac-2027", HMAC_2027));
+        assertThat(refresher.refresh()).isTrue();
+        assertThat(jwtUtil.getUserId(oldToken)).isEqualTo("u1");
+        assertThat(jwtUtil.getUserId(newToken)).isEqualTo("u1");
+        assertThat(refresher.refresh()).isFalse();
+
+        // 이전 키를 빼면 캐시에 남아 있던 검증 결과도 사용하지 않음
+        writeJwks(octJwk("hmac-2027", HMAC_2027));
+        assertThat(refresher.refresh()).isTrue();
+        assertThatThrownBy(() -> jwtUtil.verify(oldToken)).isInstanceOf(UnauthorizedException.class);
+        assertThat(jwtUtil.getUserId(newToken)).isEqualTo("u1");
+    }
+
+    @Test
+    @DisplayName("잘못된 키 파일은 적용하지 않고 기존 키를 계속 사용")
+    void refresh_keepsPreviousKeySetOnInvalidDocument() throws IOException {
+        writeJwks(octJwk("hmac-2026", HMAC_2026));
+        startRefresher();
+
+        Files.writeString(jwks, "{\"keys\":[{\"kty\":\"oct\",\"kid\":\"short\",\"k\":\"c2hvcnQ\"}]}");
+        assertThat(refresher.refresh()).isFalse();
+
+        assertThat(jwtUtil.getUserId(token("hmac-2026", Keys.hmacShaKeyFor(HMAC_2026), "u1"))).isEqualTo("u1");
+        assertThat(meterRegistry.get(SigningKeySetRefresher.FAILURES_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    private void startRefresher() {
+        refresher = new SigningKeySetRefresher(jwtUtil, jwks.toString(), Duration.ofHours(1), meterRegistry);
+        refresher.start();
+    }
+
+    private void writeJwks(String... jwkEntries) throws IOException {
+        Files.writeString(jwks, "{\"keys\":[" + String.join(",", jwkEntries) + "]}");
+    }
+
+    private static String token(String kid, Key key, String userId) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .claim("user_id", userId)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key)
+                .compact();
+    }
+
+    private static String octJwk(String kid, byte[] secret) {
+        return "{\"kty\":\"oct\",\"kid\":\"" + kid + "\",\"k\":\"" + base64Url(secret) + "\"}";
+    }
+
+    private static String rsaJwk(String kid, RSAPublicKey key) {
+        return "{\"kty\":\"RSA\",\"kid\":\"" + kid + "\",\"use\":\"sig\",\"n\":\"" + base64Url(key.getModulus())
+                + "\",\"e\":\"" + base64Url(key.getPublicExponent()) + "\"}";
+    }
+
+    private static String ecJwk(String kid, ECPublicKey key) {
+        return "{\"kty\":\"EC\",\"kid\":\"" + kid + "\",\"crv\":\"P-256\",\"x\":\""
+                + base64Url(key.getW().getAffineX()) + "\",\"y\":\"" + base64Url(key.getW().getAffineY()) + "\"}";
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return base64Url(bytes);
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}